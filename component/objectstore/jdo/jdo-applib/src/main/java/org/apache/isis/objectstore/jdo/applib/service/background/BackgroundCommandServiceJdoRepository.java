@@ -45,6 +45,14 @@ public List<CommandJdo> findByTransactionId(final UUID transactionId) {
                         "transactionId", transactionId));
     }
 
+    @Programmatic
+    public CommandJdo findBackgroundCommandByTransactionId(final UUID transactionId) {
+        return firstMatch(
+                new QueryDefault<CommandJdo>(CommandJdo.class, 
+                        "findBackgroundCommandByTransactionId", 
+                        "transactionId", transactionId));
+    }
+
     @Programmatic
     public List<CommandJdo> findByParent(CommandJdo parent) {
         return allMatches(
@@ -24,6 +24,7 @@
 
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.NotPersistent;
+import javax.jdo.annotations.VersionStrategy;
 
 import com.google.common.collect.Maps;
 
@@ -60,6 +61,9 @@
 @javax.jdo.annotations.PersistenceCapable(
         identityType=IdentityType.APPLICATION, 
         table="IsisCommand")
+@javax.jdo.annotations.Version(
+        strategy=VersionStrategy.VERSION_NUMBER, 
+        column="version")
 @javax.jdo.annotations.Queries( {
     @javax.jdo.annotations.Query(
             name="findByTransactionId", language="JDOQL",  
@@ -31,8 +31,10 @@
 
 import javax.jdo.FetchGroup;
 import javax.jdo.FetchPlan;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import javax.jdo.identity.SingleFieldIdentity;
 import javax.jdo.spi.PersistenceCapable;
 
 import com.google.common.collect.Lists;
@@ -66,11 +68,13 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindAllInstances;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByCriteria;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByPattern;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByTitle;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindUsingApplibQueryDefault;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.AdapterManagerSpi;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.transaction.IsisTransaction;
@@ -81,6 +85,7 @@
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.commands.DataNucleusDeleteObjectCommand;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.commands.DataNucleusUpdateObjectCommand;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindAllInstancesProcessor;
+import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindByCriteriaProcessor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindByPatternProcessor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindByTitleProcessor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindUsingApplibQueryProcessor;
@@ -201,6 +206,7 @@ private void addPersistenceQueryProcessors(final PersistenceManager persistenceM
         persistenceQueryProcessorByClass.put(PersistenceQueryFindAllInstances.class, new PersistenceQueryFindAllInstancesProcessor(persistenceManager, frameworkSynchronizer));
         persistenceQueryProcessorByClass.put(PersistenceQueryFindByTitle.class, new PersistenceQueryFindByTitleProcessor(persistenceManager, frameworkSynchronizer));
         persistenceQueryProcessorByClass.put(PersistenceQueryFindByPattern.class, new PersistenceQueryFindByPatternProcessor(persistenceManager, frameworkSynchronizer));
+        persistenceQueryProcessorByClass.put(PersistenceQueryFindByCriteria.class, new PersistenceQueryFindByCriteriaProcessor(persistenceManager, frameworkSynchronizer));
         persistenceQueryProcessorByClass.put(PersistenceQueryFindUsingApplibQueryDefault.class, new PersistenceQueryFindUsingApplibQueryProcessor(persistenceManager, frameworkSynchronizer));
     }
 
@@ -381,6 +387,37 @@ public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) {
 
     
     
+    /**
+     * Retrieves the objects using {@link PersistenceManager#getObjectsById(java.util.Collection)},
+     * which DataNucleus resolves in bulk; they are then held by the
+     * {@link PersistenceManager}'s (L1) cache for the subsequent
+     * {@link #loadPojo(TypedOid) loads}.
+     */
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+        ensureOpened();
+        ensureInTransaction();
+
+        if (oids.size() < 2) {
+            return;
+        }
+        final PersistenceManager pm = getPersistenceManager();
+        final List<Object> jdoObjectIds = Lists.newArrayList();
+        for (final RootOid rootOid : oids) {
+            final Object jdoObjectId = JdoObjectIdSerializer.toJdoObjectId(rootOid);
+            jdoObjectIds.add(jdoObjectId instanceof SingleFieldIdentity ? jdoObjectId : pm.newObjectIdInstance(clsOf(rootOid), jdoObjectId));
+        }
+        try {
+            pm.getFetchPlan().addGroup(FetchGroup.DEFAULT);
+            pm.getObjectsById(jdoObjectIds);
+        } catch (final JDOObjectNotFoundException ex) {
+            // just a hint; the individual load will report the missing object 
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("prefetch; not all objects found: " + ex.getMessage());
+            }
+        }
+    }
+    
     /////////////////////////////////////////////////////////////
     // delegated to by PojoRecreator
     /////////////////////////////////////////////////////////////
@@ -537,6 +574,22 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery persiste
         return processPersistenceQuery(processor, persistenceQuery);
     }
 
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery persistenceQuery, final int batchSize) {
+        ensureOpened();
+        ensureInTransaction();
+
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = persistenceQueryProcessorByClass.get(persistenceQuery.getClass());
+        if (processor == null) {
+            throw new UnsupportedFindException(MessageFormat.format("Unsupported criteria type: {0}", persistenceQuery.getClass().getName()));
+        }
+        return processPersistenceQueryStreamed(processor, persistenceQuery, batchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> ObjectAdapterCursor processPersistenceQueryStreamed(final PersistenceQueryProcessor<Q> persistenceQueryProcessor, final PersistenceQuery persistenceQuery, final int batchSize) {
+        return persistenceQueryProcessor.processStreamed((Q)persistenceQuery, batchSize);
+    }
+
     @SuppressWarnings("unchecked")
     private <Q extends PersistenceQuery> List<ObjectAdapter> processPersistenceQuery(final PersistenceQueryProcessor<Q> persistenceQueryProcessor, final PersistenceQuery persistenceQuery) {
         return persistenceQueryProcessor.process((Q)persistenceQuery);
@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
+
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import org.apache.isis.applib.query.criteria.Criterion;
+import org.apache.isis.applib.query.criteria.Junction;
+import org.apache.isis.applib.query.criteria.Negation;
+import org.apache.isis.applib.query.criteria.PropertyCriterion;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+
+/**
+ * Translates a {@link Criterion} into a JDOQL filter, with its values as
+ * (implicit) parameters.
+ * 
+ * <p>
+ * Returns <tt>null</tt> if the criterion cannot be expressed in JDOQL, for 
+ * example if it refers to a property that is not persisted.
+ */
+class CriterionToJdoql implements Criterion.Visitor<String> {
+
+    private final ObjectSpecification objectSpec;
+    private final Map<String, Object> parameters = Maps.newHashMap();
+
+    CriterionToJdoql(final ObjectSpecification objectSpec) {
+        this.objectSpec = objectSpec;
+    }
+
+    /**
+     * The values to bind, keyed by parameter name.
+     */
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String visit(final PropertyCriterion criterion) {
+        final String path = pathFor(criterion.getPropertyPath());
+        if(path == null) {
+            return null;
+        }
+        switch (criterion.getOperator()) {
+        case EQ:
+            return path + " == " + parameterFor(criterion.getValue());
+        case NE:
+            return "(" + path + " != null && " + path + " != " + parameterFor(criterion.getValue()) + ")";
+        case LT:
+            return path + " < " + parameterFor(criterion.getValue());
+        case LE:
+            return path + " <= " + parameterFor(criterion.getValue());
+        case GT:
+            return path + " > " + parameterFor(criterion.getValue());
+        case GE:
+            return path + " >= " + parameterFor(criterion.getValue());
+        case IS_NULL:
+            return path + " == null";
+        case NOT_NULL:
+            return path + " != null";
+        case STARTS_WITH:
+            return path + ".startsWith(" + parameterFor(criterion.getValue()) + ")";
+        case ENDS_WITH:
+            return path + ".endsWith(" + parameterFor(criterion.getValue()) + ")";
+        case CONTAINS:
+            return path + ".indexOf(" + parameterFor(criterion.getValue()) + ") >= 0";
+        case IN:
+            return parameterFor(criterion.getValue()) + ".contains(" + path + ")";
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public String visit(final Junction junction) {
+        final String operator = junction.getType() == Junction.Type.AND ? " && " : " || ";
+        final StringBuilder buf = new StringBuilder("(");
+        for (final Criterion criterion : junction.getCriteria()) {
+            final String filter = criterion.accept(this);
+            if(filter == null) {
+                return null;
+            }
+            if(buf.length() > 1) {
+                buf.append(operator);
+            }
+            buf.append(filter);
+        }
+        return buf.append(")").toString();
+    }
+
+    @Override
+    public String visit(final Negation negation) {
+        final String filter = negation.getCriterion().accept(this);
+        return filter != null ? "!(" + filter + ")" : null;
+    }
+
+    private String parameterFor(final Object value) {
+        final String parameterName = "p" + parameters.size();
+        parameters.put(parameterName, value);
+        return ":" + parameterName;
+    }
+
+    /**
+     * Each property in the path must be a persisted property; all but the 
+     * last must be a reference to another entity.
+     */
+    private String pathFor(final String[] propertyPath) {
+        final StringBuilder buf = new StringBuilder("this");
+        ObjectSpecification spec = objectSpec;
+        for (int i = 0; i < propertyPath.length; i++) {
+            final ObjectAssociation association = persistedPropertyFor(spec, propertyPath[i]);
+            if(association == null) {
+                return null;
+            }
+            spec = association.getSpecification();
+            if(i < propertyPath.length - 1 && spec.isValueOrIsParented()) {
+                return null;
+            }
+            buf.append(".").append(association.getId());
+        }
+        return buf.toString();
+    }
+
+    private static ObjectAssociation persistedPropertyFor(final ObjectSpecification spec, final String propertyId) {
+        for (final ObjectAssociation association : spec.getAssociations(Contributed.EXCLUDED)) {
+            if(association.getId().equals(propertyId)) {
+                return association.isOneToOneAssociation() && !association.isNotPersisted() ? association : null;
+            }
+        }
+        return null;
+    }
+}
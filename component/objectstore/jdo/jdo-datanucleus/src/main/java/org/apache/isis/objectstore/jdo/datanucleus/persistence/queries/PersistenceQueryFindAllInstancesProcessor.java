@@ -18,6 +18,7 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.util.Collections;
 import java.util.List;
 
 import javax.jdo.PersistenceManager;
@@ -29,6 +30,7 @@
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindAllInstances;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.FrameworkSynchronizer;
 
 public class PersistenceQueryFindAllInstancesProcessor extends PersistenceQueryProcessorAbstract<PersistenceQueryFindAllInstances> {
@@ -42,7 +44,19 @@ public PersistenceQueryFindAllInstancesProcessor(final PersistenceManager persis
     public List<ObjectAdapter> process(final PersistenceQueryFindAllInstances persistenceQuery) {
 
         final ObjectSpecification specification = persistenceQuery.getSpecification();
+        final Query jdoQuery = newJdoQuery(specification);
         
+        final List<?> pojos = (List<?>) jdoQuery.execute();
+        return loadAdapters(specification, pojos);
+    }
+
+    @Override
+    public ObjectAdapterCursor processStreamed(final PersistenceQueryFindAllInstances persistenceQuery, final int batchSize) {
+        final Query jdoQuery = newJdoQuery(persistenceQuery.getSpecification());
+        return streamAdapters(jdoQuery, Collections.<String, Object>emptyMap(), batchSize);
+    }
+
+    private Query newJdoQuery(final ObjectSpecification specification) {
         Class<?> cls = specification.getCorrespondingClass();
         final Query jdoQuery = getPersistenceManager().newQuery(cls);
         
@@ -52,8 +66,6 @@ public List<ObjectAdapter> process(final PersistenceQueryFindAllInstances persis
         if (LOG.isDebugEnabled()) {
             LOG.debug("allInstances(): class=" + specification.getFullIdentifier());
         }
-        
-        final List<?> pojos = (List<?>) jdoQuery.execute();
-        return loadAdapters(specification, pojos);
+        return jdoQuery;
     }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.filter.Filter;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByCriteria;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
+import org.apache.isis.objectstore.jdo.datanucleus.persistence.FrameworkSynchronizer;
+
+/**
+ * Translates the criterion into a JDOQL filter; if this isn't possible then the
+ * instances are streamed from the database and the criterion evaluated against
+ * each in turn.
+ */
+public class PersistenceQueryFindByCriteriaProcessor extends PersistenceQueryProcessorAbstract<PersistenceQueryFindByCriteria> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceQueryFindByCriteriaProcessor.class);
+
+    public PersistenceQueryFindByCriteriaProcessor(final PersistenceManager persistenceManager, final FrameworkSynchronizer frameworkSynchronizer) {
+        super(persistenceManager, frameworkSynchronizer);
+    }
+
+    /**
+     * Streams only if the criterion can be translated into JDOQL; otherwise the
+     * matching instances are {@link #process(PersistenceQueryFindByCriteria) loaded} as usual.
+     */
+    @Override
+    public ObjectAdapterCursor processStreamed(final PersistenceQueryFindByCriteria persistenceQuery, final int batchSize) {
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+        final CriterionToJdoql translator = new CriterionToJdoql(objectSpec);
+        final String filter = persistenceQuery.getCriterion().accept(translator);
+        if (filter == null) {
+            return super.processStreamed(persistenceQuery, batchSize);
+        }
+
+        final Query jdoQuery = getPersistenceManager().newQuery(objectSpec.getCorrespondingClass(), filter);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findByCriteria() streamed: class=" + objectSpec.getFullIdentifier() + ", filter=" + filter + ", parameters=" + translator.getParameters());
+        }
+        if (persistenceQuery.hasRange()) {
+            jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        }
+        return streamAdapters(jdoQuery, translator.getParameters(), batchSize);
+    }
+
+    public List<ObjectAdapter> process(final PersistenceQueryFindByCriteria persistenceQuery) {
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+        final Class<?> cls = objectSpec.getCorrespondingClass();
+
+        final CriterionToJdoql translator = new CriterionToJdoql(objectSpec);
+        final String filter = persistenceQuery.getCriterion().accept(translator);
+
+        final Query jdoQuery = filter != null 
+                ? getPersistenceManager().newQuery(cls, filter) 
+                : getPersistenceManager().newQuery(cls);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        if (filter == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("findByCriteria(): class=" + objectSpec.getFullIdentifier() + ", criterion=" + persistenceQuery.getCriterion() + " (evaluating criterion)");
+            }
+            return loadAdaptersStreamed(jdoQuery, Collections.<String, Object>emptyMap(), persistenceQuery, new Filter<ObjectAdapter>() {
+                @Override
+                public boolean accept(final ObjectAdapter adapter) {
+                    return persistenceQuery.matchesCriterion(adapter.getObject());
+                }
+            });
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findByCriteria(): class=" + objectSpec.getFullIdentifier() + ", filter=" + filter + ", parameters=" + translator.getParameters());
+        }
+        if (persistenceQuery.hasRange()) {
+            jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        }
+        final List<?> pojos = (List<?>) jdoQuery.executeWithMap(translator.getParameters());
+        return loadAdapters(objectSpec, pojos);
+    }
+}
@@ -18,18 +18,52 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import javax.jdo.Extent;
 import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
 
-import org.apache.isis.core.commons.exceptions.NotYetImplementedException;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.filter.Filter;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByPattern;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.FrameworkSynchronizer;
 
+/**
+ * Each (non-empty) value property of the pattern whose type can be compared
+ * directly in JDOQL becomes a bound parameter of the query's filter.
+ * 
+ * <p>
+ * Any other criteria (references, which are matched on their title, or values
+ * of other types) are evaluated against the instances as they are streamed 
+ * from the database.
+ */
 public class PersistenceQueryFindByPatternProcessor extends
         PersistenceQueryProcessorAbstract<PersistenceQueryFindByPattern> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceQueryFindByPatternProcessor.class);
+
+    /**
+     * Types whose equality in the database is the same as their {@link Object#equals(Object) equality} in Java.
+     */
+    private static final Set<Class<?>> QUERYABLE_VALUE_TYPES = ImmutableSet.<Class<?>>of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, 
+            BigInteger.class, BigDecimal.class, Date.class);
+
     public PersistenceQueryFindByPatternProcessor(
             final PersistenceManager persistenceManager, final FrameworkSynchronizer frameworkSynchronizer) {
         super(persistenceManager, frameworkSynchronizer);
@@ -37,6 +71,72 @@ public PersistenceQueryFindByPatternProcessor(
 
     public List<ObjectAdapter> process(
             final PersistenceQueryFindByPattern persistenceQuery) {
-        throw new NotYetImplementedException();
+
+        final ObjectAdapter pattern = persistenceQuery.getPattern();
+        final ObjectSpecification objectSpec = pattern.getSpecification();
+        final Class<?> cls = objectSpec.getCorrespondingClass();
+
+        final StringBuilder filter = new StringBuilder();
+        final Map<String, Object> parameters = Maps.newHashMap();
+        boolean requiresEvaluation = false;
+
+        // as per PersistenceQueryFindByPattern#matchesPattern(...)
+        final List<ObjectAssociation> associations = objectSpec.getAssociations(Contributed.EXCLUDED);
+        for (final ObjectAssociation association : associations) {
+            if (association.isNotPersisted() || !association.isOneToOneAssociation()) {
+                continue;
+            }
+            if (association.isEmpty(pattern)) {
+                continue;
+            }
+            final ObjectAdapter required = association.get(pattern);
+            if (required == null) {
+                continue;
+            }
+            final Object value = required.getObject();
+            if (!association.getSpecification().isValue() || !isQueryable(value)) {
+                requiresEvaluation = true;
+                continue;
+            }
+            final String parameterName = "p" + parameters.size();
+            if (filter.length() > 0) {
+                filter.append(" && ");
+            }
+            filter.append("this.").append(association.getId()).append(" == :").append(parameterName);
+            parameters.put(parameterName, value);
+        }
+
+        // pattern matching requires the exact same specification, so exclude subclasses
+        final Extent<?> extent = getPersistenceManager().getExtent(cls, false);
+        final Query jdoQuery = filter.length() > 0 
+                ? getPersistenceManager().newQuery(extent, filter.toString()) 
+                : getPersistenceManager().newQuery(extent);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findByPattern(): class=" + objectSpec.getFullIdentifier() + ", filter=" + filter + 
+                    (requiresEvaluation ? " (evaluating remaining criteria)" : ""));
+        }
+
+        if (requiresEvaluation) {
+            return loadAdaptersStreamed(jdoQuery, parameters, persistenceQuery, new Filter<ObjectAdapter>() {
+                @Override
+                public boolean accept(final ObjectAdapter adapter) {
+                    return persistenceQuery.matchesPattern(adapter);
+                }
+            });
+        }
+
+        if (persistenceQuery.hasRange()) {
+            jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        }
+        final List<?> pojos = (List<?>) jdoQuery.executeWithMap(parameters);
+        return loadAdapters(objectSpec, pojos);
+    }
+
+    private static boolean isQueryable(final Object value) {
+        return QUERYABLE_VALUE_TYPES.contains(value.getClass()) || value instanceof Enum;
     }
 }
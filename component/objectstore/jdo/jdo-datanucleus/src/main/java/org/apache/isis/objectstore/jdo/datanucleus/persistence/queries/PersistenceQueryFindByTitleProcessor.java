@@ -18,29 +18,141 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
 
-import org.apache.isis.core.commons.exceptions.NotYetImplementedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.filter.Filter;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.accessor.PropertyOrCollectionAccessorFacet;
+import org.apache.isis.core.metamodel.facets.object.title.TitleFacet;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.progmodel.facets.object.title.annotation.TitleFacetViaTitleAnnotation;
+import org.apache.isis.core.progmodel.facets.object.title.annotation.TitleFacetViaTitleAnnotation.TitleComponent;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByTitle;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.FrameworkSynchronizer;
 
+/**
+ * Where the title is made up of a single persisted <tt>String</tt> property 
+ * (annotated with {@link org.apache.isis.applib.annotation.Title @Title}), 
+ * the search is performed in the database using JDOQL.  Otherwise the 
+ * instances are streamed from the database and their titles evaluated in turn.
+ */
 public class PersistenceQueryFindByTitleProcessor extends PersistenceQueryProcessorAbstract<PersistenceQueryFindByTitle> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceQueryFindByTitleProcessor.class);
+
     public PersistenceQueryFindByTitleProcessor(final PersistenceManager persistenceManager, final FrameworkSynchronizer frameworkSynchronizer) {
         super(persistenceManager, frameworkSynchronizer);
     }
 
     public List<ObjectAdapter> process(final PersistenceQueryFindByTitle persistenceQuery) {
         final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
-        final Class<?> correspondingClass = objectSpec.getCorrespondingClass();
-        return process(persistenceQuery, correspondingClass);
+        final Class<?> cls = objectSpec.getCorrespondingClass();
+        final String title = persistenceQuery.getTitle();
+
+        if(title.length() == 0) {
+            // every title contains the empty string
+            final Query jdoQuery = newQuery(cls, null);
+            return execute(jdoQuery, Collections.<String, Object>emptyMap(), persistenceQuery);
+        }
+
+        final ObjectAssociation titleProperty = titlePropertyFor(objectSpec, title);
+        if(titleProperty == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("findByTitle(): class=" + objectSpec.getFullIdentifier() + ", title='" + title + "' (evaluating titles)");
+            }
+            final Query jdoQuery = newQuery(cls, null);
+            return loadAdaptersStreamed(jdoQuery, Collections.<String, Object>emptyMap(), persistenceQuery, new Filter<ObjectAdapter>() {
+                @Override
+                public boolean accept(final ObjectAdapter adapter) {
+                    return persistenceQuery.matches(adapter.titleString());
+                }
+            });
+        }
+
+        final String propertyId = titleProperty.getId();
+        final String filter = "this." + propertyId + " != null && this." + propertyId + ".toLowerCase().indexOf(:title) >= 0";
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findByTitle(): class=" + objectSpec.getFullIdentifier() + ", filter=" + filter + ", title='" + title + "'");
+        }
+        final Query jdoQuery = newQuery(cls, filter);
+        return execute(jdoQuery, Collections.<String, Object>singletonMap("title", title), persistenceQuery);
+    }
+
+    private Query newQuery(final Class<?> cls, final String filter) {
+        final Query jdoQuery = filter != null 
+                ? getPersistenceManager().newQuery(cls, filter) 
+                : getPersistenceManager().newQuery(cls);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+        return jdoQuery;
+    }
+
+    private List<ObjectAdapter> execute(final Query jdoQuery, final Map<String, Object> parameters, final PersistenceQueryFindByTitle persistenceQuery) {
+        if(persistenceQuery.hasRange()) {
+            jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        }
+        final List<?> pojos = (List<?>) jdoQuery.executeWithMap(parameters);
+        return loadAdapters(persistenceQuery.getSpecification(), pojos);
+    }
+
+    /**
+     * The persisted <tt>String</tt> property that on its own makes up the title, 
+     * or <tt>null</tt> if a search for the title cannot be expressed as a 
+     * query against a single property.
+     */
+    private static ObjectAssociation titlePropertyFor(final ObjectSpecification objectSpec, final String title) {
+        if(!objectSpec.subclasses().isEmpty()) {
+            // subclasses could be titled differently
+            return null;
+        }
+        if(!title.equals(title.trim())) {
+            // the title is trimmed, so cannot match on leading or trailing whitespace
+            return null;
+        }
+        final TitleFacet titleFacet = objectSpec.getFacet(TitleFacet.class);
+        if(!(titleFacet instanceof TitleFacetViaTitleAnnotation)) {
+            return null;
+        }
+        final List<TitleComponent> components = ((TitleFacetViaTitleAnnotation) titleFacet).getComponents();
+        if(components.size() != 1) {
+            return null;
+        }
+        final TitleComponent component = components.get(0);
+        if(component.getPrepend().trim().length() != 0 || 
+           component.getAppend().trim().length() != 0 || 
+           component.getAbbreviateTo() != Integer.MAX_VALUE) {
+            return null;
+        }
+        return persistedStringPropertyFor(objectSpec, component.getMethod());
     }
 
-    private <Z> List<ObjectAdapter> process(final PersistenceQueryFindByTitle persistenceQuery, Class<Z> correspondingClass) {
-        throw new NotYetImplementedException();
+    private static ObjectAssociation persistedStringPropertyFor(final ObjectSpecification objectSpec, final Method accessor) {
+        final List<ObjectAssociation> associations = objectSpec.getAssociations(Contributed.EXCLUDED);
+        for (final ObjectAssociation association : associations) {
+            if(!association.isOneToOneAssociation() || association.isNotPersisted()) {
+                continue;
+            }
+            if(association.getSpecification().getCorrespondingClass() != String.class) {
+                continue;
+            }
+            final PropertyOrCollectionAccessorFacet accessorFacet = association.getFacet(PropertyOrCollectionAccessorFacet.class);
+            if(accessorFacet instanceof ImperativeFacet && ((ImperativeFacet)accessorFacet).getMethods().contains(accessor)) {
+                return association;
+            }
+        }
+        return null;
     }
 }
@@ -35,6 +35,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindUsingApplibQueryDefault;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.objectstore.jdo.datanucleus.metamodel.JdoPropertyUtils;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.FrameworkSynchronizer;
 
@@ -60,6 +61,19 @@ public List<ObjectAdapter> process(final PersistenceQueryFindUsingApplibQueryDef
         return loadAdapters(objectSpec, results);
     }
 
+    @Override
+    public ObjectAdapterCursor processStreamed(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery, final int batchSize) {
+        final String queryName = persistenceQuery.getQueryName();
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+        if((objectSpec.getFullIdentifier() + "#pk").equals(queryName) || persistenceQuery.getCardinality() != QueryCardinality.MULTIPLE) {
+            // at most one instance anyway
+            return super.processStreamed(persistenceQuery, batchSize);
+        }
+        final Map<String, Object> argumentsByParameterName = unwrap(persistenceQuery.getArgumentsAdaptersByParameterName());
+        final Query jdoQuery = newNamedJdoQuery(persistenceQuery, argumentsByParameterName);
+        return streamAdapters(jdoQuery, argumentsByParameterName, batchSize);
+    }
+
     // special case handling
     private List<?> getResultsPk(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
 
@@ -88,9 +102,20 @@ private List<?> getResultsPk(final PersistenceQueryFindUsingApplibQueryDefault p
 
     private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
         
-        final String queryName = persistenceQuery.getQueryName();
         final Map<String, Object> argumentsByParameterName = unwrap(persistenceQuery.getArgumentsAdaptersByParameterName());
         final QueryCardinality cardinality = persistenceQuery.getCardinality();
+        final Query jdoQuery = newNamedJdoQuery(persistenceQuery, argumentsByParameterName);
+        
+        final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
+        if (cardinality == QueryCardinality.MULTIPLE) {
+            return results;
+        }
+        return results.isEmpty()?Collections.emptyList():results.subList(0, 1);
+    }
+
+    private Query newNamedJdoQuery(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery, final Map<String, Object> argumentsByParameterName) {
+        
+        final String queryName = persistenceQuery.getQueryName();
         final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
 
         final PersistenceManager persistenceManager = getJdoObjectStore().getPersistenceManager();
@@ -107,12 +132,7 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         if (LOG.isDebugEnabled()) {
             LOG.debug(cls.getName() + " # " + queryName + " ( " + argumentsByParameterName + " )");
         }
-        
-        final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
-        if (cardinality == QueryCardinality.MULTIPLE) {
-            return results;
-        }
-        return results.isEmpty()?Collections.emptyList():results.subList(0, 1);
+        return jdoQuery;
     }
 
     private static Map<String, Object> unwrap(final Map<String, ObjectAdapter> argumentAdaptersByParameterName) {
@@ -21,10 +21,13 @@
 import java.util.List;
 
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 
 public interface PersistenceQueryProcessor<T extends PersistenceQuery> {
 	List<ObjectAdapter> process(T query);
+
+	ObjectAdapterCursor processStreamed(T query, int batchSize);
 }
 
 // Copyright (c) Naked Objects Group Ltd.
@@ -18,21 +18,31 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
+import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
+import javax.jdo.Query;
 import javax.jdo.listener.InstanceLifecycleEvent;
 import javax.jdo.metadata.TypeMetadata;
 import javax.jdo.spi.PersistenceCapable;
 
 import com.google.common.collect.Lists;
 
+import org.apache.isis.applib.filter.Filter;
 import org.apache.isis.core.commons.ensure.Assert;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.runtime.persistence.query.ObjectAdapterCursorForList;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryAbstract;
 import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.runtime.system.persistence.Persistor;
 import org.apache.isis.objectstore.jdo.datanucleus.DataNucleusObjectStore;
@@ -43,6 +53,12 @@
 public abstract class PersistenceQueryProcessorAbstract<T extends PersistenceQuery>
         implements PersistenceQueryProcessor<T> {
 
+    /**
+     * Number of rows fetched from the datastore per round-trip when 
+     * {@link #loadAdaptersStreamed(Query, Map, PersistenceQueryAbstract, Filter) streaming}.
+     */
+    protected static final int STREAMED_FETCH_SIZE = 100;
+
     private final PersistenceManager persistenceManager;
     private final FrameworkSynchronizer frameworkSynchronizer;
 
@@ -77,16 +93,144 @@ protected List<ObjectAdapter> loadAdapters(
             final ObjectSpecification specification, final List<?> pojos) {
         final List<ObjectAdapter> adapters = Lists.newArrayList();
         for (final Object pojo : pojos) {
-        	// ought not to be necessary, however for some queries it seems that the 
-        	// lifecycle listener is not called
-        	frameworkSynchronizer.postLoadProcessingFor((PersistenceCapable) pojo, CalledFrom.OS_QUERY);
-            ObjectAdapter adapter = getAdapterManager().getAdapterFor(pojo);
-            Assert.assertNotNull(adapter);
-            adapters.add(adapter);
+            adapters.add(adapterFor(pojo));
+        }
+        return adapters;
+    }
+
+    /**
+     * Executes the query and iterates over its results (rather than materializing them
+     * all up-front), adapting each pojo in turn and retaining only those
+     * {@link Filter#accept(Object) accepted} by the filter.
+     * 
+     * <p>
+     * The {@link PersistenceQueryAbstract#getStart() start} and 
+     * {@link PersistenceQueryAbstract#getCount() count} of the persistence query are
+     * applied to the accepted adapters; iteration stops as soon as the count is reached.
+     * 
+     * <p>
+     * For use when some of the criteria of a query cannot be expressed in JDOQL.
+     */
+    protected List<ObjectAdapter> loadAdaptersStreamed(
+            final Query jdoQuery, final Map<String, Object> parameters, 
+            final PersistenceQueryAbstract persistenceQuery, final Filter<ObjectAdapter> filter) {
+
+        configureForStreaming(jdoQuery, STREAMED_FETCH_SIZE);
+
+        final long start = persistenceQuery.getStart();
+        final long count = persistenceQuery.getCount();
+
+        final List<ObjectAdapter> adapters = Lists.newArrayList();
+        try {
+            final Collection<?> pojos = (Collection<?>) jdoQuery.executeWithMap(parameters);
+            long accepted = 0;
+            for (final Object pojo : pojos) {
+                final ObjectAdapter adapter = adapterFor(pojo);
+                if (!filter.accept(adapter)) {
+                    continue;
+                }
+                if (accepted++ < start) {
+                    continue;
+                }
+                adapters.add(adapter);
+                if (count != 0 && adapters.size() >= count) {
+                    break;
+                }
+            }
+        } finally {
+            jdoQuery.closeAll();
         }
         return adapters;
     }
 
+    /**
+     * Default implementation simply iterates over the {@link #process(PersistenceQuery) processed}
+     * adapters; subclasses should override if the query can be {@link #streamAdapters(Query, Map, int) streamed}.
+     */
+    @Override
+    public ObjectAdapterCursor processStreamed(final T persistenceQuery, final int batchSize) {
+        return new ObjectAdapterCursorForList(process(persistenceQuery));
+    }
+
+    /**
+     * Executes the query, returning a cursor that fetches its results in batches
+     * of the specified size and adapts each pojo only when reached.
+     * 
+     * <p>
+     * {@link ObjectAdapterCursor#release(ObjectAdapter) Released} adapters have their
+     * pojos evicted from the {@link PersistenceManager}, unless they have been modified.
+     */
+    protected ObjectAdapterCursor streamAdapters(final Query jdoQuery, final Map<String, Object> parameters, final int batchSize) {
+        configureForStreaming(jdoQuery, batchSize);
+        final Collection<?> pojos = (Collection<?>) jdoQuery.executeWithMap(parameters);
+        return new ObjectAdapterCursorForJdoQuery(jdoQuery, pojos.iterator());
+    }
+
+    private static void configureForStreaming(final Query jdoQuery, final int fetchSize) {
+        jdoQuery.getFetchPlan().setFetchSize(fetchSize);
+        jdoQuery.addExtension("datanucleus.rdbms.query.resultSetType", "forward-only");
+        jdoQuery.addExtension("datanucleus.query.resultCacheType", "soft");
+        jdoQuery.addExtension("datanucleus.query.loadResultsAtCommit", "false");
+    }
+
+    private class ObjectAdapterCursorForJdoQuery implements ObjectAdapterCursor {
+
+        private final Query jdoQuery;
+        private final Iterator<?> pojos;
+        private boolean closed;
+
+        ObjectAdapterCursorForJdoQuery(final Query jdoQuery, final Iterator<?> pojos) {
+            this.jdoQuery = jdoQuery;
+            this.pojos = pojos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed && pojos.hasNext();
+        }
+
+        @Override
+        public ObjectAdapter next() {
+            if (closed) {
+                throw new NoSuchElementException();
+            }
+            return adapterFor(pojos.next());
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean release(final ObjectAdapter adapter) {
+            final Object pojo = adapter.getObject();
+            if (JDOHelper.isDirty(pojo) || JDOHelper.isNew(pojo) || JDOHelper.isDeleted(pojo)) {
+                return false;
+            }
+            getPersistenceManager().evict(pojo);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            jdoQuery.closeAll();
+        }
+    }
+
+    private ObjectAdapter adapterFor(final Object pojo) {
+        // ought not to be necessary, however for some queries it seems that the 
+        // lifecycle listener is not called
+        frameworkSynchronizer.postLoadProcessingFor((PersistenceCapable) pojo, CalledFrom.OS_QUERY);
+        final ObjectAdapter adapter = getAdapterManager().getAdapterFor(pojo);
+        Assert.assertNotNull(adapter);
+        return adapter;
+    }
+
     // /////////////////////////////////////////////////////////////
     // Dependencies (from context)
     // /////////////////////////////////////////////////////////////
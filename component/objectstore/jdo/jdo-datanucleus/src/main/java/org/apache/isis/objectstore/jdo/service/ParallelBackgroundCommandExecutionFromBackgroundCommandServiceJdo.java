@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.core.runtime.services.background.ParallelBackgroundCommandExecution;
+import org.apache.isis.objectstore.jdo.applib.service.background.BackgroundCommandServiceJdoRepository;
+import org.apache.isis.objectstore.jdo.applib.service.command.CommandJdo;
+
+/**
+ * Executes the background commands persisted by the JDO objectstore concurrently; commands are claimed using
+ * optimistic locking on {@link CommandJdo}'s version column.
+ */
+public final class ParallelBackgroundCommandExecutionFromBackgroundCommandServiceJdo extends ParallelBackgroundCommandExecution {
+
+    @Override
+    protected List<? extends Command> findBackgroundCommandsToExecute() {
+        final List<CommandJdo> commands = backgroundCommandRepository.findBackgroundCommandsNotYetStarted();
+        return commands; 
+    }
+
+    @Override
+    protected Command findBackgroundCommand(final UUID transactionId) {
+        return backgroundCommandRepository.findBackgroundCommandByTransactionId(transactionId);
+    }
+
+    // //////////////////////////////////////
+
+    @javax.inject.Inject
+    private BackgroundCommandServiceJdoRepository backgroundCommandRepository;
+}
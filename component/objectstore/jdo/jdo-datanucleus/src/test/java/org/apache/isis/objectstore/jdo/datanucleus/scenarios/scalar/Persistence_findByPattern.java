@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.scenarios.scalar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.integtestsupport.IsisSystemWithFixtures;
+import org.apache.isis.core.tck.dom.scalars.JdkValuedEntity;
+import org.apache.isis.core.tck.dom.scalars.JdkValuedEntityRepository;
+import org.apache.isis.core.tck.dom.scalars.MyEnum;
+import org.apache.isis.objectstore.jdo.datanucleus.Utils;
+
+public class Persistence_findByPattern {
+
+    private JdkValuedEntityRepository repo = new JdkValuedEntityRepository();
+    
+    @Rule
+    public IsisSystemWithFixtures iswf = Utils.systemBuilder()
+        .with(Utils.listenerToDeleteFrom("JDKVALUEDENTITY"))
+        .withServices(repo)
+        .build();
+
+    @Before
+    public void setUp() throws Exception {
+        iswf.beginTran();
+        JdkValuedEntity entity = repo.newEntity();
+        entity.setStringProperty("1");
+        entity.setMyEnum(MyEnum.GREEN);
+        entity.setJavaSqlDateProperty(new java.sql.Date(Utils.toMillis(2009, 6, 11)));
+
+        entity = repo.newEntity();
+        entity.setStringProperty("2");
+        entity.setMyEnum(MyEnum.GREEN);
+        entity.setJavaSqlDateProperty(new java.sql.Date(Utils.toMillis(2010, 6, 11)));
+
+        entity = repo.newEntity();
+        entity.setStringProperty("3");
+        entity.setMyEnum(MyEnum.RED);
+        entity.setJavaSqlDateProperty(new java.sql.Date(Utils.toMillis(2009, 6, 11)));
+        iswf.commitTran();
+
+        iswf.bounceSystem();
+    }
+
+    @Test
+    public void whenCriteriaAreQueryable() throws Exception {
+        iswf.beginTran();
+        final JdkValuedEntity pattern = new JdkValuedEntity();
+        pattern.setMyEnum(MyEnum.GREEN);
+        List<JdkValuedEntity> list = repo.findByPattern(pattern);
+        assertThat(list.size(), is(2));
+        list = repo.findByPattern(pattern, 1, 1);
+        assertThat(list.size(), is(1));
+        assertThat(list.get(0).getStringProperty(), is("2"));
+        iswf.commitTran();
+    }
+
+    @Test
+    public void whenSomeCriteriaMustBeEvaluated() throws Exception {
+        iswf.beginTran();
+        final JdkValuedEntity pattern = new JdkValuedEntity();
+        pattern.setMyEnum(MyEnum.GREEN);
+        pattern.setJavaSqlDateProperty(new java.sql.Date(Utils.toMillis(2009, 6, 11)));
+        final List<JdkValuedEntity> list = repo.findByPattern(pattern);
+        assertThat(list.size(), is(1));
+        assertThat(list.get(0).getStringProperty(), is("1"));
+        iswf.commitTran();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.scenarios.scalar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.integtestsupport.IsisSystemWithFixtures;
+import org.apache.isis.core.tck.dom.scalars.JdkValuedEntity;
+import org.apache.isis.core.tck.dom.scalars.JdkValuedEntityRepository;
+import org.apache.isis.core.tck.dom.scalars.PrimitiveValuedEntity;
+import org.apache.isis.core.tck.dom.scalars.PrimitiveValuedEntityRepository;
+import org.apache.isis.objectstore.jdo.datanucleus.Utils;
+
+public class Persistence_findByTitle {
+
+    private JdkValuedEntityRepository jdkRepo = new JdkValuedEntityRepository();
+    private PrimitiveValuedEntityRepository primitiveRepo = new PrimitiveValuedEntityRepository();
+    
+    @Rule
+    public IsisSystemWithFixtures iswf = Utils.systemBuilder()
+        .with(Utils.listenerToDeleteFrom("JDKVALUEDENTITY"))
+        .with(Utils.listenerToDeleteFrom("PRIMITIVEVALUEDENTITY"))
+        .withServices(jdkRepo, primitiveRepo)
+        .build();
+
+    @Test
+    public void whenTitleIsSingleStringProperty() throws Exception {
+        iswf.beginTran();
+        jdkRepo.newEntity().setStringProperty("Apple");
+        jdkRepo.newEntity().setStringProperty("Pineapple");
+        jdkRepo.newEntity().setStringProperty("Banana");
+        iswf.commitTran();
+
+        iswf.bounceSystem();
+        
+        iswf.beginTran();
+        List<JdkValuedEntity> list = jdkRepo.findByTitle("apple");
+        assertThat(list.size(), is(2));
+        list = jdkRepo.findByTitle("APPLE", 0, 1);
+        assertThat(list.size(), is(1));
+        list = jdkRepo.findByTitle("cherry");
+        assertThat(list.size(), is(0));
+        list = jdkRepo.findByTitle("");
+        assertThat(list.size(), is(3));
+        iswf.commitTran();
+    }
+
+    @Test
+    public void whenTitleMustBeEvaluated() throws Exception {
+        iswf.beginTran();
+        primitiveRepo.newEntity().setId(1);
+        primitiveRepo.newEntity().setId(12);
+        primitiveRepo.newEntity().setId(23);
+        iswf.commitTran();
+
+        iswf.bounceSystem();
+        
+        iswf.beginTran();
+        List<PrimitiveValuedEntity> list = primitiveRepo.findByTitle("entity #1");
+        assertThat(list.size(), is(2));
+        list = primitiveRepo.findByTitle("entity #1", 1, 5);
+        assertThat(list.size(), is(1));
+        list = primitiveRepo.findByTitle("2");
+        assertThat(list.size(), is(2));
+        list = primitiveRepo.findByTitle("entity #4");
+        assertThat(list.size(), is(0));
+        iswf.commitTran();
+    }
+
+}
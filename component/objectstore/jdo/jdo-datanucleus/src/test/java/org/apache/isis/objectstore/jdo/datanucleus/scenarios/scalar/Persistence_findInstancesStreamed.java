@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.scenarios.scalar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.core.integtestsupport.IsisSystemWithFixtures;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
+import org.apache.isis.core.tck.dom.scalars.PrimitiveValuedEntity;
+import org.apache.isis.core.tck.dom.scalars.PrimitiveValuedEntityRepository;
+import org.apache.isis.objectstore.jdo.datanucleus.Utils;
+
+public class Persistence_findInstancesStreamed {
+
+    private PrimitiveValuedEntityRepository repo = new PrimitiveValuedEntityRepository();
+    
+    @Rule
+    public IsisSystemWithFixtures iswf = Utils.systemBuilder()
+        .with(Utils.listenerToDeleteFrom("PRIMITIVEVALUEDENTITY"))
+        .withServices(repo)
+        .build();
+
+    @Before
+    public void setUp() throws Exception {
+        iswf.beginTran();
+        for (int i = 1; i <= 5; i++) {
+            repo.newEntity().setId(i);
+        }
+        iswf.commitTran();
+
+        iswf.bounceSystem();
+    }
+
+    @Test
+    public void withoutEviction() throws Exception {
+        iswf.beginTran();
+        final List<Object> pojos = Lists.newArrayList();
+        final ObjectAdapterCursor cursor = iswf.getPersistor().findInstancesStreamed(new QueryFindAllInstances<PrimitiveValuedEntity>(PrimitiveValuedEntity.class), 2, false);
+        try {
+            while (cursor.hasNext()) {
+                pojos.add(cursor.next().getObject());
+            }
+        } finally {
+            cursor.close();
+        }
+        assertThat(pojos.size(), is(5));
+        for (final Object pojo : pojos) {
+            assertThat(iswf.getAdapterManager().getAdapterFor(pojo), is(notNullValue()));
+        }
+        iswf.commitTran();
+    }
+
+    @Test
+    public void withEviction() throws Exception {
+        iswf.beginTran();
+        final List<Object> pojos = Lists.newArrayList();
+        final ObjectAdapterCursor cursor = iswf.getPersistor().findInstancesStreamed(new QueryFindAllInstances<PrimitiveValuedEntity>(PrimitiveValuedEntity.class), 2, true);
+        try {
+            while (cursor.hasNext()) {
+                pojos.add(cursor.next().getObject());
+                // the first batch has been evicted once the third is reached
+                if (pojos.size() == 3) {
+                    assertThat(iswf.getAdapterManager().getAdapterFor(pojos.get(0)), is(nullValue()));
+                    assertThat(iswf.getAdapterManager().getAdapterFor(pojos.get(2)), is(notNullValue()));
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+        assertThat(pojos.size(), is(5));
+        for (final Object pojo : pojos) {
+            assertThat(iswf.getAdapterManager().getAdapterFor(pojo), is(nullValue()));
+        }
+        iswf.commitTran();
+    }
+
+}
@@ -22,6 +22,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -44,10 +45,12 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryBuiltIn;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindAllInstances;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByCriteria;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByPattern;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByTitle;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.IdentifierGenerator;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.OidGenerator;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
@@ -134,6 +137,8 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery persiste
             return getAllInstances((PersistenceQueryFindAllInstances) persistenceQuery);
         } else if (persistenceQuery instanceof PersistenceQueryFindByPattern) {
             return findByPattern((PersistenceQueryFindByPattern) persistenceQuery);
+        } else if (persistenceQuery instanceof PersistenceQueryFindByCriteria) {
+            return getAllInstances((PersistenceQueryFindByCriteria) persistenceQuery);
         } else {
             return findDefaultr(persistenceQuery);
         }
@@ -207,6 +212,135 @@ public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) {
         return objectReader.load(reader, versionCreator, availableDataEncrypters);
     }
 
+    /**
+     * The {@link NoSqlDataDatabase} API only supports retrieving instances one
+     * at a time, so nothing to prefetch.
+     */
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+    }
+
+    /**
+     * Reads from the same {@link NoSqlDataDatabase#instancesOf(ObjectSpecId) iterators} as 
+     * {@link #loadInstancesAndAdapt(PersistenceQuery)} (one per class in the hierarchy, in turn), 
+     * but only loads each instance as it is reached.
+     * 
+     * <p>
+     * The {@link NoSqlDataDatabase} API has no notion of a fetch size, so the <tt>batchSize</tt>
+     * is ignored.
+     */
+    @Override
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery persistenceQuery, final int batchSize) {
+        return new StreamedInstances(persistenceQuery);
+    }
+
+    private class StreamedInstances implements ObjectAdapterCursor {
+
+        private final PersistenceQuery persistenceQuery;
+        private final Iterator<ObjectSpecification> specifications;
+        private Iterator<StateReader> instanceData;
+        private ObjectAdapter next;
+        private boolean closed;
+
+        StreamedInstances(final PersistenceQuery persistenceQuery) {
+            this.persistenceQuery = persistenceQuery;
+            final List<ObjectSpecification> specifications = Lists.newArrayList();
+            if (isForSpecificationOnly(persistenceQuery)) {
+                specifications.add(persistenceQuery.getSpecification());
+            } else {
+                appendSpecifications(persistenceQuery.getSpecification(), specifications);
+            }
+            this.specifications = specifications.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                next = loadNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ObjectAdapter next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ObjectAdapter adapter = next;
+            next = null;
+            return adapter;
+        }
+
+        private ObjectAdapter loadNext() {
+            while (!closed) {
+                while (instanceData != null && instanceData.hasNext()) {
+                    final StateReader reader = instanceData.next();
+                    final ObjectAdapter instance = objectReader.load(reader, versionCreator, availableDataEncrypters);
+                    if (matches(persistenceQuery, instance)) {
+                        return instance;
+                    }
+                }
+                if (!specifications.hasNext()) {
+                    return null;
+                }
+                instanceData = instancesOf(persistenceQuery, specifications.next());
+            }
+            return null;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Nothing is cached by this object store, so there is nothing to release.
+         */
+        @Override
+        public boolean release(final ObjectAdapter adapter) {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            instanceData = null;
+            next = null;
+        }
+    }
+
+    private static boolean isForSpecificationOnly(final PersistenceQuery persistenceQuery) {
+        return !(persistenceQuery instanceof PersistenceQueryFindByTitle || 
+                 persistenceQuery instanceof PersistenceQueryFindAllInstances || 
+                 persistenceQuery instanceof PersistenceQueryFindByPattern || 
+                 persistenceQuery instanceof PersistenceQueryFindByCriteria);
+    }
+
+    private static void appendSpecifications(final ObjectSpecification specification, final List<ObjectSpecification> specifications) {
+        specifications.add(specification);
+        for (final ObjectSpecification spec : specification.subclasses()) {
+            appendSpecifications(spec, specifications);
+        }
+    }
+
+    private Iterator<StateReader> instancesOf(final PersistenceQuery persistenceQuery, final ObjectSpecification specification) {
+        if (persistenceQuery instanceof PersistenceQueryFindByPattern) {
+            return database.instancesOf(specification.getSpecId(), ((PersistenceQueryFindByPattern) persistenceQuery).getPattern());
+        }
+        return database.instancesOf(specification.getSpecId());
+    }
+
+    /**
+     * As per {@link #appendInstances(PersistenceQuery, ObjectSpecification, List)}; patterns 
+     * are matched by the database itself.
+     */
+    private static boolean matches(final PersistenceQuery persistenceQuery, final ObjectAdapter instance) {
+        if (isForSpecificationOnly(persistenceQuery) || persistenceQuery instanceof PersistenceQueryFindByPattern) {
+            return true;
+        }
+        return ((PersistenceQueryBuiltIn) persistenceQuery).matches(instance);
+    }
+
     @Override
     public boolean hasInstances(final ObjectSpecification specification) {
         return database.hasInstances(specification.getSpecId());
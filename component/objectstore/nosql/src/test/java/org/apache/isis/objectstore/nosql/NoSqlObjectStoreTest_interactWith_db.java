@@ -19,6 +19,9 @@
 
 package org.apache.isis.objectstore.nosql;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +42,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.OidGenerator;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
@@ -197,6 +201,28 @@ public void instances() throws Exception {
         store.loadInstancesAndAdapt(persistenceQuery);
     }
 
+    @Test
+    public void instancesStreamed() throws Exception {
+        final PersistenceQuery persistenceQuery = context.mock(PersistenceQuery.class);
+        context.checking(new Expectations() {
+            {
+                one(persistenceQuery).getSpecification();
+                will(returnValue(cusSpecification));
+            }
+        });
+        final ObjectAdapterCursor cursor = store.loadInstancesAndAdaptStreamed(persistenceQuery, 10);
+
+        // only reads from the database once iterated over
+        context.checking(new Expectations() {
+            {
+                one(db).instancesOf(cusSpecification.getSpecId());
+                will(returnIterator());
+            }
+        });
+        assertThat(cursor.hasNext(), is(false));
+        cursor.close();
+    }
+
     @Test
     public void resolve() throws Exception {
         final Sequence changingState = context.sequence("changingState");
@@ -55,8 +55,10 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.DestroyObjectCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
+import org.apache.isis.core.runtime.persistence.query.ObjectAdapterCursorForList;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryBuiltIn;
 import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.objectstore.xml.internal.clock.Clock;
@@ -79,6 +81,15 @@ public class XmlObjectStore implements ObjectStoreSpi {
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlObjectStore.class);
     private static final String XMLOS_DIR = ConfigurationConstants.ROOT + "xmlos.dir";
+    /**
+     * The number of instances of a specification added or removed (and logged)
+     * before that specification's instances file is rewritten.
+     */
+    private static final String XMLOS_INSTANCES_COMPACT_AFTER = ConfigurationConstants.ROOT + "xmlos.instances.compactAfter";
+    /**
+     * Whether the data of instances is held in memory once read when searching for instances.
+     */
+    private static final String XMLOS_INSTANCES_INDEX_DATA = ConfigurationConstants.ROOT + "xmlos.instances.indexData";
     private final DataManager dataManager;
     private final ServiceManager serviceManager;
     private boolean isFixturesInstalled;
@@ -87,7 +98,9 @@ public XmlObjectStore(final IsisConfiguration configuration) {
         final String charset = Utils.lookupCharset(configuration);
         final String directory = configuration.getString(XMLOS_DIR, "xml/objects");
         final XmlFile xmlFile = new XmlFile(charset, directory);
-        dataManager = new XmlDataManager(xmlFile);
+        final int compactAfter = configuration.getInteger(XMLOS_INSTANCES_COMPACT_AFTER, XmlDataManager.COMPACT_AFTER_DEFAULT);
+        final boolean indexData = configuration.getBoolean(XMLOS_INSTANCES_INDEX_DATA, false);
+        dataManager = new XmlDataManager(xmlFile, compactAfter, indexData);
         serviceManager = new XmlServiceManager(xmlFile);
         serviceManager.loadServices();
     }
@@ -128,6 +141,14 @@ public void reset() {
     // init, shutdown, finalize
     // /////////////////////////////////////////////////////////
 
+    /**
+     * Each instance is held in its own file, so nothing to gain from
+     * prefetching.
+     */
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+    }
+
     @Override
     public boolean hasInstances(final ObjectSpecification cls) {
         LOG.debug("checking instance of " + cls);
@@ -376,6 +397,16 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery persiste
         return getInstances(patternData, builtIn);
     }
 
+    /**
+     * Not actually streamed: the {@link DataManager} reads the data of every matching
+     * instance up-front, so this falls back to iterating over the
+     * {@link #loadInstancesAndAdapt(PersistenceQuery) loaded} adapters.
+     */
+    @Override
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery persistenceQuery, final int batchSize) {
+        return new ObjectAdapterCursorForList(loadInstancesAndAdapt(persistenceQuery));
+    }
+
     private List<ObjectAdapter> getInstances(final ObjectData patternData, final PersistenceQueryBuiltIn persistenceQuery) {
         final ObjectDataVector data = dataManager.getInstances(patternData);
         final List<ObjectAdapter> instances = Lists.newArrayList();
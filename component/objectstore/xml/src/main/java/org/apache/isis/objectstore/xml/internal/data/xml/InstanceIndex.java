@@ -0,0 +1,268 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.objectstore.xml.internal.data.xml;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import org.apache.isis.core.commons.exceptions.IsisException;
+import org.apache.isis.core.commons.xml.ContentWriter;
+import org.apache.isis.core.commons.xml.XmlFile;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.adapter.oid.RootOidDefault;
+
+/**
+ * Holds the oids of the instances of each specification, backed by the
+ * <tt>&lt;instances&gt;</tt> XML file of that specification (the snapshot) plus
+ * an append-only log of the instances added and removed since that snapshot
+ * was written.
+ * 
+ * <p>
+ * Inserting or removing an instance therefore only appends a single line to
+ * the log, rather than rewriting the whole instances file. Once a log holds
+ * more than <tt>compactAfter</tt> entries, the snapshot is rewritten and the
+ * log discarded; all logs are also compacted on {@link #shutdown()}.
+ * 
+ * <p>
+ * Each specification's instances are read (snapshot, then log) on first use
+ * and thereafter held in memory. Logged additions are only replayed if the
+ * instance's data file still exists, so deleting the data files (but not the
+ * logs) still clears out the store.
+ */
+class InstanceIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InstanceIndex.class);
+
+    private static final String LOG_SUFFIX = ".log";
+    private static final String LOG_ENCODING = "UTF-8";
+    private static final char ADDED = '+';
+    private static final char REMOVED = '-';
+
+    private static class Instances {
+        private final Set<RootOid> oids = Sets.newLinkedHashSet();
+        private int logEntries;
+    }
+
+    private final XmlFile xmlFile;
+    private final int compactAfter;
+    private final Map<String, Instances> instancesBySpec = Maps.newHashMap();
+
+    InstanceIndex(final XmlFile xmlFile, final int compactAfter) {
+        this.xmlFile = xmlFile;
+        this.compactAfter = compactAfter;
+    }
+
+    // ////////////////////////////////////////////////////////
+    // instances, add, remove
+    // ////////////////////////////////////////////////////////
+
+    synchronized List<RootOid> instances(final String specName) {
+        return Lists.newArrayList(instancesFor(specName).oids);
+    }
+
+    synchronized int numberOfInstances(final String specName) {
+        return instancesFor(specName).oids.size();
+    }
+
+    synchronized void add(final String specName, final RootOid oid) {
+        final Instances instances = instancesFor(specName);
+        if (instances.oids.add(oid)) {
+            appendToLog(specName, instances, ADDED, oid);
+        }
+    }
+
+    synchronized void remove(final String specName, final RootOid oid) {
+        final Instances instances = instancesFor(specName);
+        if (instances.oids.remove(oid)) {
+            appendToLog(specName, instances, REMOVED, oid);
+        }
+    }
+
+    // ////////////////////////////////////////////////////////
+    // shutdown
+    // ////////////////////////////////////////////////////////
+
+    /**
+     * Compacts all logs into their snapshots.
+     */
+    synchronized void shutdown() {
+        for (final Map.Entry<String, Instances> entry : instancesBySpec.entrySet()) {
+            if (entry.getValue().logEntries > 0) {
+                compact(entry.getKey(), entry.getValue());
+            }
+        }
+        instancesBySpec.clear();
+    }
+
+    // ////////////////////////////////////////////////////////
+    // helpers
+    // ////////////////////////////////////////////////////////
+
+    private Instances instancesFor(final String specName) {
+        Instances instances = instancesBySpec.get(specName);
+        if (instances == null) {
+            instances = load(specName);
+            instancesBySpec.put(specName, instances);
+        }
+        return instances;
+    }
+
+    private Instances load(final String specName) {
+        final Instances instances = new Instances();
+        xmlFile.parse(new InstanceHandler(instances.oids), specName);
+        replayLog(specName, instances);
+        return instances;
+    }
+
+    private void replayLog(final String specName, final Instances instances) {
+        final BufferedReader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(logFile(specName)), LOG_ENCODING));
+        } catch (final FileNotFoundException e) {
+            return;
+        } catch (final IOException e) {
+            throw new IsisException("Error reading instances log for " + specName, e);
+        }
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.length() < 2) {
+                    continue;
+                }
+                final RootOid oid = RootOidDefault.deString(line.substring(1), XmlDataManager.getOidMarshaller());
+                if (line.charAt(0) == ADDED) {
+                    if (!dataFileExists(oid)) {
+                        // the data files have been deleted since this was logged
+                        continue;
+                    }
+                    instances.oids.add(oid);
+                } else if (line.charAt(0) == REMOVED) {
+                    instances.oids.remove(oid);
+                }
+                instances.logEntries++;
+            }
+        } catch (final IOException e) {
+            throw new IsisException("Error reading instances log for " + specName, e);
+        } finally {
+            try {
+                reader.close();
+            } catch (final IOException ignore) {
+            }
+        }
+    }
+
+    private void appendToLog(final String specName, final Instances instances, final char op, final RootOid oid) {
+        if (instances.logEntries >= compactAfter) {
+            compact(specName, instances);
+            return;
+        }
+        final File file = logFile(specName);
+        try {
+            final Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), LOG_ENCODING);
+            try {
+                writer.write(op);
+                writer.write(oid.enString(XmlDataManager.getOidMarshaller()));
+                writer.write('\n');
+            } finally {
+                writer.close();
+            }
+        } catch (final IOException e) {
+            throw new IsisException("Problems writing instances log " + file, e);
+        }
+        instances.logEntries++;
+    }
+
+    /**
+     * Writes the snapshot before deleting the log; replaying a log over a
+     * snapshot that already includes it is harmless.
+     */
+    private void compact(final String specName, final Instances instances) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("compacting instances of " + specName + " (" + instances.logEntries + " log entries)");
+        }
+        writeSnapshot(specName, instances.oids);
+        logFile(specName).delete();
+        instances.logEntries = 0;
+    }
+
+    private void writeSnapshot(final String specName, final Set<RootOid> oids) {
+        xmlFile.writeXml(specName, new ContentWriter() {
+            @Override
+            public void write(final Writer writer) throws IOException {
+                writer.write("<instances");
+                Utils.appendAttribute(writer, "name", specName);
+                writer.append(">\n");
+
+                for (final RootOid elementAt : oids) {
+                    writer.append("  <instance");
+                    Utils.appendAttribute(writer, "oid", elementAt.enString(XmlDataManager.getOidMarshaller()));
+                    writer.append("/>\n");
+                }
+                writer.append("</instances>");
+                writer.flush();
+            }
+        });
+    }
+
+    private boolean dataFileExists(final RootOid oid) {
+        return new File(xmlFile.getDirectory(), XmlDataManager.filename(oid) + ".xml").exists();
+    }
+
+    private File logFile(final String specName) {
+        return new File(xmlFile.getDirectory(), specName + LOG_SUFFIX);
+    }
+
+    private static class InstanceHandler extends DefaultHandler {
+        private final Set<RootOid> oids;
+
+        InstanceHandler(final Set<RootOid> oids) {
+            this.oids = oids;
+        }
+
+        @Override
+        public void startElement(final String ns, final String name, final String tagName, final Attributes attrs) throws SAXException {
+            if (tagName.equals("instance")) {
+                final String oidStr = attrs.getValue("oid");
+                oids.add(RootOidDefault.deString(oidStr, XmlDataManager.getOidMarshaller()));
+            }
+        }
+    }
+
+}
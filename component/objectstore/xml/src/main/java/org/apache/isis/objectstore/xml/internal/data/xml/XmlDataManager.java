@@ -22,7 +22,11 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Vector;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Lists;
 
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -53,10 +57,35 @@
 import org.apache.isis.objectstore.xml.internal.version.FileVersion;
 
 public class XmlDataManager implements DataManager {
+
+    public static final int COMPACT_AFTER_DEFAULT = 500;
+
     private final XmlFile xmlFile;
+    private final InstanceIndex instanceIndex;
+    /**
+     * The data of instances read while searching for instances, so that
+     * patterns can be matched without re-reading every data file; only
+     * populated from the data files themselves, and evicted whenever an
+     * instance is saved or removed.
+     * 
+     * <p>
+     * Will be <tt>null</tt> if not enabled.
+     */
+    private final Map<RootOid, ObjectData> instanceDataByOid;
 
     public XmlDataManager(final XmlFile xmlFile) {
+        this(xmlFile, COMPACT_AFTER_DEFAULT, false);
+    }
+
+    /**
+     * @param compactAfter - the number of entries appended to the log of a specification's instances before that
+     *        log is compacted into the instances file.
+     * @param indexInstanceData - whether to hold the data of instances in memory when searching for instances.
+     */
+    public XmlDataManager(final XmlFile xmlFile, final int compactAfter, final boolean indexInstanceData) {
         this.xmlFile = xmlFile;
+        this.instanceIndex = new InstanceIndex(xmlFile, compactAfter);
+        this.instanceDataByOid = indexInstanceData ? new ConcurrentHashMap<RootOid, ObjectData>() : null;
     }
 
     // ////////////////////////////////////////////////////////
@@ -65,6 +94,10 @@ public XmlDataManager(final XmlFile xmlFile) {
 
     @Override
     public void shutdown() {
+        instanceIndex.shutdown();
+        if (instanceDataByOid != null) {
+            instanceDataByOid.clear();
+        }
     }
 
     // ////////////////////////////////////////////////////////
@@ -146,25 +179,6 @@ private static Version fileVersionFrom(final Attributes attributes) {
     }
 
 
-    private class InstanceHandler extends DefaultHandler {
-        Vector<RootOid> instances = new Vector<RootOid>();
-
-        @Override
-        public void characters(final char[] arg0, final int arg1, final int arg2) throws SAXException {
-        }
-
-        @Override
-        public void startElement(final String ns, final String name, final String tagName, final Attributes attrs) throws SAXException {
-            if (tagName.equals("instance")) {
-                
-                final String oidStr = attrs.getValue("oid");
-                final RootOidDefault oid = RootOidDefault.deString(oidStr, getOidMarshaller());
-                
-                instances.addElement(oid);
-            }
-        }
-    }
-
     private class NumberHandler extends DefaultHandler {
         boolean captureValue = false;
         long value = 0;
@@ -230,7 +244,7 @@ public Data loadData(final RootOid oid) {
     @Override
     public ObjectDataVector getInstances(final ObjectData pattern) {
         
-        final Vector<RootOid> instances = loadInstances(pattern.getSpecification(getSpecificationLoader()));
+        final List<RootOid> instances = loadInstances(pattern.getSpecification(getSpecificationLoader()));
 
         if (instances == null) {
             return new ObjectDataVector();
@@ -238,7 +252,7 @@ public ObjectDataVector getInstances(final ObjectData pattern) {
 
         final ObjectDataVector matches = new ObjectDataVector();
         for (final RootOid oid : instances) {
-            final ObjectData instanceData = (ObjectData) loadData(oid);
+            final ObjectData instanceData = loadInstanceData(oid);
             // TODO check loader first
             if (instanceData == null) {
                 throw new IsisException("No data found for " + oid + " (possible missing file)");
@@ -250,29 +264,53 @@ public ObjectDataVector getInstances(final ObjectData pattern) {
         return matches;
     }
 
+    private ObjectData loadInstanceData(final RootOid oid) {
+        if (instanceDataByOid == null) {
+            return (ObjectData) loadData(oid);
+        }
+        ObjectData instanceData = instanceDataByOid.get(oid);
+        if (instanceData == null) {
+            instanceData = (ObjectData) loadData(oid);
+            if (instanceData != null) {
+                instanceDataByOid.put(oid, instanceData);
+            }
+        }
+        return instanceData;
+    }
+
+    /**
+     * If the pattern has no fields then every instance matches, so they are
+     * counted without reading any of their data files.
+     */
     @Override
     public int numberOfInstances(final ObjectData pattern) {
+        if (!pattern.fields().iterator().hasNext()) {
+            return countInstances(pattern.getSpecification(getSpecificationLoader()));
+        }
         return getInstances(pattern).size();
     }
 
-    private Vector<RootOid> loadInstances(final ObjectSpecification noSpec) {
-        final InstanceHandler handler = new InstanceHandler();
-        parseSpecAndSubclasses(handler, noSpec);
-        return handler.instances;
+    private List<RootOid> loadInstances(final ObjectSpecification noSpec) {
+        final List<RootOid> instances = Lists.newArrayList();
+        addInstancesOfSpecAndSubclasses(noSpec, instances);
+        return instances;
     }
 
-    private void parseSpecAndSubclasses(final InstanceHandler handler, final ObjectSpecification noSpec) {
-        parseIfNotAbstract(noSpec, handler);
+    private void addInstancesOfSpecAndSubclasses(final ObjectSpecification noSpec, final List<RootOid> instances) {
+        if (!noSpec.isAbstract()) {
+            instances.addAll(instanceIndex.instances(noSpec.getFullIdentifier()));
+        }
         for (final ObjectSpecification subSpec : noSpec.subclasses()) {
-            parseSpecAndSubclasses(handler, subSpec);
+            addInstancesOfSpecAndSubclasses(subSpec, instances);
         }
     }
 
-    private void parseIfNotAbstract(final ObjectSpecification noSpec, final InstanceHandler handler) {
-        if (noSpec.isAbstract()) {
-            return;
+    private int countInstances(final ObjectSpecification noSpec) {
+        int count = noSpec.isAbstract() ? 0 : instanceIndex.numberOfInstances(noSpec.getFullIdentifier());
+        for (final ObjectSpecification subSpec : noSpec.subclasses()) {
+            count += countInstances(subSpec);
         }
-        xmlFile.parse(handler, noSpec.getFullIdentifier());
+        return count;
     }
 
     /**
@@ -349,13 +387,7 @@ public final void insertObject(final ObjectData data) {
 
         writeInstanceToItsDataFile(data);
         final ObjectSpecification objSpec = data.getSpecification(getSpecificationLoader());
-        addReferenceToInstancesFile(data.getRootOid(), objSpec);
-    }
-
-    private void addReferenceToInstancesFile(final RootOid oid, final ObjectSpecification noSpec) {
-        final Vector<RootOid> instances = loadInstances(noSpec);
-        instances.addElement(oid);
-        writeInstanceFile(noSpec, instances);
+        instanceIndex.add(objSpec.getFullIdentifier(), data.getRootOid());
     }
 
     // ////////////////////////////////////////////////////////
@@ -365,7 +397,7 @@ private void addReferenceToInstancesFile(final RootOid oid, final ObjectSpecific
     @Override
     public final void remove(final RootOid oid) throws ObjectNotFoundException, ObjectPersistenceException {
         final Data data = loadData(oid);
-        removeReferenceFromInstancesFile(oid, data.getSpecification(getSpecificationLoader()));
+        instanceIndex.remove(data.getSpecification(getSpecificationLoader()).getFullIdentifier(), oid);
         deleteData(oid);
     }
 
@@ -373,42 +405,10 @@ public final void remove(final RootOid oid) throws ObjectNotFoundException, Obje
      * Delete the data for an existing instance.
      */
     private void deleteData(final RootOid oid) {
+        evictInstanceData(oid);
         xmlFile.delete(filename(oid));
     }
 
-    private void removeReferenceFromInstancesFile(final RootOid oid, final ObjectSpecification noSpec) {
-        final Vector<RootOid> instances = loadInstances(noSpec);
-        instances.removeElement(oid);
-        writeInstanceFile(noSpec, instances);
-    }
-
-    // ////////////////////////////////////////////////////////
-    // helpers (used by both add & remove)
-    // ////////////////////////////////////////////////////////
-
-    private void writeInstanceFile(final ObjectSpecification noSpec, final Vector<RootOid> instances) {
-        writeInstanceFile(noSpec.getFullIdentifier(), instances);
-    }
-
-    private void writeInstanceFile(final String name, final Vector<RootOid> instances) {
-        xmlFile.writeXml(name, new ContentWriter() {
-            @Override
-            public void write(final Writer writer) throws IOException {
-                writer.write("<instances");
-                Utils.appendAttribute(writer, "name", name);
-                writer.append(">\n");
-
-                for (final RootOid elementAt : instances) {
-                    writer.append("  <instance");
-                    Utils.appendAttribute(writer, "oid", elementAt.enString(getOidMarshaller()));
-                    writer.append("/>\n");
-                }
-                writer.append("</instances>");
-                writer.flush();
-            }
-        });
-    }
-
     // ////////////////////////////////////////////////////////
     // save
     // ////////////////////////////////////////////////////////
@@ -422,6 +422,7 @@ public final void save(final Data data) {
     }
 
     private void writeInstanceToItsDataFile(final Data data) {
+        evictInstanceData(data.getRootOid());
         xmlFile.writeXml(filename(data.getRootOid()), new ContentWriter() {
             @Override
             public void write(final Writer writer) throws IOException {
@@ -523,7 +524,13 @@ private static void writeCollection(final Data data, final Writer writer) throws
     }
 
     
-    private static String filename(final RootOid oid) {
+    private void evictInstanceData(final RootOid oid) {
+        if (instanceDataByOid != null) {
+            instanceDataByOid.remove(oid);
+        }
+    }
+
+    static String filename(final RootOid oid) {
         return oid.getObjectSpecId() + File.separator + oid.getIdentifier();
     }
 
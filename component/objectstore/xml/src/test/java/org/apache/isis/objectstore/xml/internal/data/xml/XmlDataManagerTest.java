@@ -71,7 +71,7 @@ protected static void clearTestDirectory() {
         final String[] files = directory.list(new FilenameFilter() {
             @Override
             public boolean accept(final File arg0, final String name) {
-                return name.endsWith(".xml");
+                return name.endsWith(".xml") || name.endsWith(".log");
             }
         });
 
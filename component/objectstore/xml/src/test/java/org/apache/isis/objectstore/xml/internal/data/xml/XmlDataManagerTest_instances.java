@@ -37,6 +37,7 @@
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.adapter.oid.RootOidDefault;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.tck.dom.xmlos.Role;
 import org.apache.isis.core.tck.dom.xmlos.TeamDomainRepository;
 import org.apache.isis.objectstore.xml.XmlPersistenceMechanismInstaller;
 import org.apache.isis.objectstore.xml.internal.clock.DefaultClock;
@@ -52,6 +53,8 @@ public class XmlDataManagerTest_instances {
         .withServices(new TeamDomainRepository())
         .build();
 
+    private static final File TEST_DIRECTORY = new File("tmp" + File.separator + "tests");
+
     protected XmlDataManager manager;
     protected final int SIZE = 5;
 
@@ -79,12 +82,17 @@ public void setUp() throws Exception {
         }
     }
 
+    private XmlDataManager newManager(final int compactAfter, final boolean indexInstanceData) {
+        final String charset = Utils.lookupCharset(iswf.getIsisSystem().getConfiguration());
+        return new XmlDataManager(new XmlFile(charset, "tmp/tests"), compactAfter, indexInstanceData);
+    }
+
     protected static void clearTestDirectory() {
-        final File directory = new File("tmp" + File.separator + "tests");
+        final File directory = TEST_DIRECTORY;
         final String[] files = directory.list(new FilenameFilter() {
             @Override
             public boolean accept(final File arg0, final String name) {
-                return name.endsWith(".xml");
+                return name.endsWith(".xml") || name.endsWith(".log");
             }
         });
 
@@ -101,6 +109,55 @@ public void testNumberOfInstances() {
         assertEquals(SIZE, manager.numberOfInstances(pattern));
     }
 
+    @Test
+    public void testInstancesReadByNewManager() throws Exception {
+        manager.remove(oids[2]);
+
+        final XmlDataManager newManager = newManager(XmlDataManager.COMPACT_AFTER_DEFAULT, false);
+        assertEquals(SIZE - 1, newManager.numberOfInstances(pattern));
+    }
+
+    @Test
+    public void testInstancesLogCompacted() throws Exception {
+        final File logFile = new File(TEST_DIRECTORY, Role.class.getName() + ".log");
+        assertTrue(logFile.exists());
+
+        manager.shutdown();
+        assertFalse(logFile.exists());
+
+        final XmlDataManager newManager = newManager(XmlDataManager.COMPACT_AFTER_DEFAULT, false);
+        assertEquals(SIZE, newManager.numberOfInstances(pattern));
+    }
+
+    @Test
+    public void testInstancesLogCompactedOnceThresholdReached() throws Exception {
+        clearTestDirectory();
+        manager = newManager(2, false);
+        final File logFile = new File(TEST_DIRECTORY, Role.class.getName() + ".log");
+
+        manager.insertObject(data[0]);
+        manager.insertObject(data[1]);
+        assertTrue(logFile.exists());
+
+        manager.insertObject(data[2]);
+        assertFalse(logFile.exists());
+
+        assertEquals(3, newManager(2, false).numberOfInstances(pattern));
+    }
+
+    @Test
+    public void testSaveObjectWithIndexedData() throws Exception {
+        manager = newManager(XmlDataManager.COMPACT_AFTER_DEFAULT, true);
+        pattern.set("Name", "Fred");
+        assertEquals(0, manager.getInstances(pattern).size());
+
+        data[2].set("Name", "Fred");
+        manager.save(data[2]);
+
+        assertEquals(1, manager.getInstances(pattern).size());
+        assertEquals(1, manager.numberOfInstances(pattern));
+    }
+
     @Test
     public void testRemove() throws Exception {
         final RootOid oid = oids[2];
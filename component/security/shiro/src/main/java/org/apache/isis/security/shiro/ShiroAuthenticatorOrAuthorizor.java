@@ -20,6 +20,7 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
@@ -45,11 +46,16 @@
 import org.apache.shiro.authc.UnknownAccountException;
 import org.apache.shiro.authc.UsernamePasswordToken;
 import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Permission;
 import org.apache.shiro.mgt.RealmSecurityManager;
 import org.apache.shiro.mgt.SecurityManager;
 import org.apache.shiro.realm.Realm;
+import org.apache.shiro.subject.PrincipalCollection;
 import org.apache.shiro.subject.Subject;
 
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 
 /**
@@ -67,6 +73,18 @@ public class ShiroAuthenticatorOrAuthorizor implements Authenticator, Authorizor
 
     private final IsisConfiguration configuration;
 
+    /**
+     * Decisions of {@link #isPermitted(Identifier, String)}, or <tt>null</tt> if disabled.
+     */
+    private final Cache<PermissionKey, Boolean> permissionCache;
+
+    /**
+     * The {@link SecurityManager} and its {@link Realm}s that the cached decisions were made by;
+     * if either is replaced (eg on reloading the <tt>shiro.ini</tt>) then the cache is invalidated.
+     */
+    private volatile RealmSecurityManager permissionCacheSecurityManager;
+    private volatile Collection<Realm> permissionCacheRealms;
+
 
     // //////////////////////////////////////////////////////
     // constructor
@@ -74,6 +92,16 @@ public class ShiroAuthenticatorOrAuthorizor implements Authenticator, Authorizor
 
     public ShiroAuthenticatorOrAuthorizor(final IsisConfiguration configuration) {
         this.configuration = configuration;
+        this.permissionCache = createPermissionCache(configuration);
+    }
+
+    private static Cache<PermissionKey, Boolean> createPermissionCache(final IsisConfiguration configuration) {
+        final int maxSize = configuration.getInteger(ShiroConstants.PERMISSION_CACHE_MAX_SIZE, ShiroConstants.PERMISSION_CACHE_MAX_SIZE_DEFAULT);
+        if(maxSize <= 0) {
+            return null;
+        }
+        final int expiry = configuration.getInteger(ShiroConstants.PERMISSION_CACHE_EXPIRY, ShiroConstants.PERMISSION_CACHE_EXPIRY_DEFAULT);
+        return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(expiry, TimeUnit.SECONDS).build();
     }
 
     // //////////////////////////////////////////////////////
@@ -231,17 +259,87 @@ private boolean isPermitted(Identifier identifier, String qualifier) {
             return false;
         }
 
-        String permission = asPermissionsString(identifier) + ":" + qualifier;
-
         Subject subject = SecurityUtils.getSubject();
-        
+
+        final PrincipalCollection principals = subject.getPrincipals();
+        if(permissionCache == null || principals == null || principals.isEmpty()) {
+            return isPermitted(subject, identifier, qualifier);
+        }
+
+        invalidatePermissionCacheIfChanged(securityManager);
+        final PermissionKey key = new PermissionKey(principals, identifier.toString(), qualifier);
+        final Boolean cached = permissionCache.getIfPresent(key);
+        if(cached != null) {
+            return cached;
+        }
+        final boolean permitted = isPermitted(subject, identifier, qualifier);
+        permissionCache.put(key, permitted);
+        return permitted;
+    }
+
+    private static boolean isPermitted(Subject subject, Identifier identifier, String qualifier) {
+        String permissionString = asPermissionsString(identifier) + ":" + qualifier;
+        Permission permission = new IsisPermission(permissionString);
+
         try {
+            // register any vetoes first, so that they apply whatever the order of the roles' permissions 
+            subject.isPermitted(IsisPermission.vetoesOf(permission));
             return subject.isPermitted(permission);
         } finally {
             IsisPermission.resetVetoedPermissions();
         }
     }
 
+    private void invalidatePermissionCacheIfChanged(RealmSecurityManager securityManager) {
+        final Collection<Realm> realms = securityManager.getRealms();
+        if(securityManager == permissionCacheSecurityManager && realms == permissionCacheRealms) {
+            return;
+        }
+        synchronized (this) {
+            if(securityManager != permissionCacheSecurityManager || realms != permissionCacheRealms) {
+                permissionCache.invalidateAll();
+                permissionCacheSecurityManager = securityManager;
+                permissionCacheRealms = realms;
+            }
+        }
+    }
+
+    /**
+     * Discards all cached permission decisions; for use if the permissions held by a {@link Realm} are changed
+     * (changes to the Shiro configuration itself are detected automatically).
+     */
+    public void invalidatePermissionCache() {
+        if(permissionCache != null) {
+            permissionCache.invalidateAll();
+        }
+    }
+
+    private static final class PermissionKey {
+        private final PrincipalCollection principals;
+        private final String identifier;
+        private final String qualifier;
+
+        PermissionKey(PrincipalCollection principals, String identifier, String qualifier) {
+            this.principals = principals;
+            this.identifier = identifier;
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(principals, identifier, qualifier);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(!(obj instanceof PermissionKey)) {
+                return false;
+            }
+            final PermissionKey other = (PermissionKey) obj;
+            return identifier.equals(other.identifier) && qualifier.equals(other.qualifier) && principals.equals(other.principals);
+        }
+    }
+
     private static String asPermissionsString(Identifier identifier) {
         String fullyQualifiedClassName = identifier.getClassName();
         int lastDot = fullyQualifiedClassName.lastIndexOf('.');
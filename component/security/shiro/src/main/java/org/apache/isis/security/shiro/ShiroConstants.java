@@ -21,11 +21,29 @@
 
 import org.apache.isis.core.commons.config.ConfigurationConstants;
 import org.apache.isis.core.runtime.authentication.AuthenticationManagerInstaller;
+import org.apache.isis.core.runtime.authorization.AuthorizationManagerInstaller;
 import org.apache.isis.security.shiro.authentication.ShiroAuthenticationManagerInstaller;
+import org.apache.isis.security.shiro.authorization.ShiroAuthorizationManagerInstaller;
 
 public final class ShiroConstants {
 
     public static final String ROOT_AUTHENTICATION = ConfigurationConstants.ROOT + AuthenticationManagerInstaller.TYPE + "." + ShiroAuthenticationManagerInstaller.NAME + ".";
+    public static final String ROOT_AUTHORIZATION = ConfigurationConstants.ROOT + AuthorizationManagerInstaller.TYPE + "." + ShiroAuthorizationManagerInstaller.NAME + ".";
+
+    /**
+     * The maximum number of (principal, member, read/write) permission decisions
+     * to cache; <tt>0</tt> disables the cache.
+     */
+    public static final String PERMISSION_CACHE_MAX_SIZE = ROOT_AUTHORIZATION + "permissionCache.maxSize";
+    public static final int PERMISSION_CACHE_MAX_SIZE_DEFAULT = 10000;
+
+    /**
+     * The number of seconds for which a cached permission decision is used, so that
+     * changes to permissions held outside of the Shiro configuration (eg in LDAP)
+     * are eventually picked up.
+     */
+    public static final String PERMISSION_CACHE_EXPIRY = ROOT_AUTHORIZATION + "permissionCache.expireAfterSeconds";
+    public static final int PERMISSION_CACHE_EXPIRY_DEFAULT = 600;
 
     private ShiroConstants() {
     }
@@ -58,6 +58,33 @@ public static boolean isVetoed(String permissionGroup, Permission p) {
         return false;
     }
 
+    /**
+     * Returns a pseudo-permission that no permission implies, but which, when
+     * checked (eg using <tt>Subject#isPermitted(Permission)</tt>), registers
+     * every vetoing permission that implies the provided permission.
+     * 
+     * <p>
+     * Checking this prior to the permission itself means that vetoes apply
+     * irrespective of the order in which a role's permissions happen to be
+     * evaluated.
+     */
+    public static Permission vetoesOf(Permission permission) {
+        return new VetoCollector(permission);
+    }
+
+    private static final class VetoCollector implements Permission {
+        private final Permission permission;
+
+        VetoCollector(Permission permission) {
+            this.permission = permission;
+        }
+
+        @Override
+        public boolean implies(Permission p) {
+            return false;
+        }
+    }
+
     public static void addVeto(IsisPermission vetoingPermission) {
         String permissionGroup = vetoingPermission.getPermissionGroup();
         List<IsisPermission> vetoingPermissions = IsisPermission.VETOING_PERMISSIONS.get().get(permissionGroup);
@@ -96,6 +123,12 @@ protected void setParts(String wildcardString, boolean caseSensitive) {
     
     @Override
     public boolean implies(Permission p) {
+        if(p instanceof VetoCollector) {
+            if(veto && impliesWithoutVeto(((VetoCollector) p).permission)) {
+                IsisPermission.addVeto(this);
+            }
+            return false;
+        }
         if(veto) {
             IsisPermission.addVeto(this);
             return false;
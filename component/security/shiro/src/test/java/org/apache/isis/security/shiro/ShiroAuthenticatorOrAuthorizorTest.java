@@ -31,10 +31,13 @@
 import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
 import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
 import org.apache.shiro.SecurityUtils;
+import org.apache.shiro.config.Ini;
 import org.apache.shiro.config.IniSecurityManagerFactory;
 import org.apache.shiro.mgt.SecurityManager;
 import org.apache.shiro.subject.Subject;
 import org.apache.shiro.util.Factory;
+import org.apache.shiro.util.ThreadContext;
+import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.junit.After;
 import org.junit.Before;
@@ -53,6 +56,14 @@ public class ShiroAuthenticatorOrAuthorizorTest {
 
     @Before
     public void setUp() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(mockConfiguration).getInteger(ShiroConstants.PERMISSION_CACHE_MAX_SIZE, ShiroConstants.PERMISSION_CACHE_MAX_SIZE_DEFAULT);
+                will(returnValue(ShiroConstants.PERMISSION_CACHE_MAX_SIZE_DEFAULT));
+                allowing(mockConfiguration).getInteger(ShiroConstants.PERMISSION_CACHE_EXPIRY, ShiroConstants.PERMISSION_CACHE_EXPIRY_DEFAULT);
+                will(returnValue(ShiroConstants.PERMISSION_CACHE_EXPIRY_DEFAULT));
+            }
+        });
         authOrAuth = new ShiroAuthenticatorOrAuthorizor(mockConfiguration);
         authOrAuth.init();
     }
@@ -133,5 +144,26 @@ public void vetoingOverridden() throws Exception {
         assertThat(authOrAuth.isVisibleInAnyRole(removeCustomerIdentifier), is(true));
     }
 
+    @Test
+    public void cachedPermissionsInvalidatedWhenSecurityManagerReplaced() throws Exception {
+        Factory<SecurityManager> factory = new IniSecurityManagerFactory("classpath:shiro.ini");
+        SecurityUtils.setSecurityManager(factory.getInstance());
+
+        authOrAuth.authenticate(new AuthenticationRequestPassword("lonestarr", "vespa"), null);
+
+        Identifier cancelOrderIdentifier = Identifier.actionIdentifier("com.mycompany.myapp.Order", "cancel");
+        assertThat(authOrAuth.isVisibleInAnyRole(cancelOrderIdentifier), is(false));
+        assertThat(authOrAuth.isVisibleInAnyRole(cancelOrderIdentifier), is(false));
+
+        // reconfigured, granting the permission
+        Ini ini = Ini.fromResourcePath("classpath:shiro.ini");
+        ini.getSection("roles").put("goodguy", "goodguy/com.mycompany.myapp:Customer:remove:*,goodguy/com.mycompany.myapp:Order:cancel:*");
+        SecurityUtils.setSecurityManager(new IniSecurityManagerFactory(ini).getInstance());
+        ThreadContext.unbindSubject();
+
+        authOrAuth.authenticate(new AuthenticationRequestPassword("lonestarr", "vespa"), null);
+
+        assertThat(authOrAuth.isVisibleInAnyRole(cancelOrderIdentifier), is(true));
+    }
 
 }
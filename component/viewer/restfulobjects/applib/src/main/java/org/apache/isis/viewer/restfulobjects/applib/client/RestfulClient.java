@@ -31,6 +31,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.LinkRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.RestfulHttpMethod;
+import org.apache.isis.viewer.restfulobjects.applib.batch.BatchResource;
 import org.apache.isis.viewer.restfulobjects.applib.domainobjects.DomainObjectResource;
 import org.apache.isis.viewer.restfulobjects.applib.domainobjects.DomainServiceResource;
 import org.apache.isis.viewer.restfulobjects.applib.domaintypes.DomainTypeResource;
@@ -46,6 +47,7 @@ public class RestfulClient {
     private final DomainObjectResource domainObjectResource;
     private final DomainServiceResource domainServiceResource;
     private final DomainTypeResource domainTypeResource;
+    private final BatchResource batchResource;
 
     private final ClientExecutor executor;
     private final ClientRequestFactory clientRequestFactory;
@@ -64,6 +66,7 @@ public RestfulClient(final URI baseUri, final ClientExecutor clientExecutor) {
         this.domainServiceResource = clientRequestFactory.createProxy(DomainServiceResource.class);
         this.domainObjectResource = clientRequestFactory.createProxy(DomainObjectResource.class);
         this.versionResource = clientRequestFactory.createProxy(VersionResource.class);
+        this.batchResource = clientRequestFactory.createProxy(BatchResource.class);
     }
 
     // ///////////////////////////////////////////////////////////////
@@ -94,6 +97,10 @@ public DomainServiceResource getDomainServiceResource() {
         return domainServiceResource;
     }
 
+    public BatchResource getBatchResource() {
+        return batchResource;
+    }
+
     // ///////////////////////////////////////////////////////////////
     // resource walking support
     // ///////////////////////////////////////////////////////////////
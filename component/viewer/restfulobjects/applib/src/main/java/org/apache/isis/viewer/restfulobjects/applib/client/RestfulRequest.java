@@ -66,6 +66,8 @@ public String toString() {
         public static RequestParameter<List<String>> SORT_BY = new RequestParameter<List<String>>("x-ro-sort-by", Parser.forListOfStrings(), Collections.<String> emptyList());
         public static RequestParameter<DomainModel> DOMAIN_MODEL = new RequestParameter<DomainModel>("x-ro-domain-model", DomainModel.parser(), DomainModel.FORMAL);
         public static RequestParameter<Boolean> VALIDATE_ONLY = new RequestParameter<Boolean>("x-ro-validate-only", Parser.forBoolean(), false);
+        // not part of the spec
+        public static RequestParameter<List<String>> FIELDS = new RequestParameter<List<String>>("x-isis-fields", Parser.forListOfStrings(), Collections.<String> emptyList());
 
         private final String name;
         private final Parser<Q> parser;
@@ -19,6 +19,7 @@
 package org.apache.isis.viewer.restfulobjects.applib.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -28,6 +29,7 @@
 import javax.ws.rs.core.Response;
 
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.codehaus.jackson.JsonEncoding;
 import org.codehaus.jackson.JsonGenerationException;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.JsonNode;
@@ -176,4 +178,22 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * As per {@link #write(Object)}, but streamed (as UTF-8) through a
+     * {@link JsonGenerator} directly to the provided {@link OutputStream},
+     * rather than first being buffered as a string.
+     * 
+     * <p>
+     * The stream is flushed, but not closed.
+     */
+    public void write(final Object object, final OutputStream outputStream) throws JsonGenerationException, JsonMappingException, IOException {
+        final JsonGenerator jsonGenerator = objectMapper.getJsonFactory().createJsonGenerator(outputStream, JsonEncoding.UTF8);
+        jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (objectMapper.getSerializationConfig().isEnabled(SerializationConfig.Feature.INDENT_OUTPUT)) {
+            jsonGenerator.useDefaultPrettyPrinter();
+        }
+        objectMapper.writeValue(jsonGenerator, object);
+        jsonGenerator.close();
+    }
+
 }
\ No newline at end of file
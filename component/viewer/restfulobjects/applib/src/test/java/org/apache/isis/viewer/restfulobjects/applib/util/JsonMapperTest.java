@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.restfulobjects.applib.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
+public class JsonMapperTest {
+
+    private JsonMapper jsonMapper;
+    private JsonRepresentation representation;
+
+    @Before
+    public void setUp() throws Exception {
+        jsonMapper = JsonMapper.instance();
+
+        representation = JsonRepresentation.newMap();
+        representation.mapPut("aString", "héllo");
+        representation.mapPut("anInt", 123);
+        final JsonRepresentation array = JsonRepresentation.newArray();
+        array.arrayAdd("x");
+        array.arrayAdd("y");
+        representation.mapPut("anArray", array);
+    }
+
+    @Test
+    public void write_toOutputStream_sameAsToString() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonMapper.write(representation, outputStream);
+
+        assertThat(outputStream.toString("UTF-8"), is(jsonMapper.write(representation)));
+    }
+
+    @Test
+    public void write_toOutputStream_doesNotCloseStream() throws Exception {
+        final CloseTrackingOutputStream outputStream = new CloseTrackingOutputStream();
+
+        jsonMapper.write(representation, outputStream);
+
+        assertThat(outputStream.closed, is(false));
+        assertThat(outputStream.size() > 0, is(true));
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+}
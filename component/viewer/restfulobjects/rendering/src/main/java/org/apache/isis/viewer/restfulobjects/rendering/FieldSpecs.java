@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
+/**
+ * The members (properties, collections and actions) of a domain object that the client has asked
+ * to be rendered, as specified by the <tt>x-isis-fields</tt> query parameter.
+ * 
+ * <p>
+ * If no fields were specified then all members are included; otherwise only those listed.  Members
+ * that are not included are not evaluated at all (neither their visibility nor their value).
+ */
+public final class FieldSpecs {
+
+    private final static FieldSpecs ALL = new FieldSpecs(Collections.<String>emptySet());
+
+    public final static FieldSpecs create(final List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return ALL;
+        }
+        final Set<String> memberIds = Sets.newHashSet();
+        for (final String field : fields) {
+            final String memberId = field.trim();
+            if (!memberId.isEmpty()) {
+                memberIds.add(memberId);
+            }
+        }
+        return memberIds.isEmpty() ? ALL : new FieldSpecs(memberIds);
+    }
+
+    private final Set<String> memberIds;
+
+    private FieldSpecs(final Set<String> memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    /**
+     * Whether every member is to be rendered (that is, no fields were specified).
+     */
+    public boolean isAll() {
+        return memberIds.isEmpty();
+    }
+
+    public boolean includes(final String memberId) {
+        return isAll() || memberIds.contains(memberId);
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "ALL" : memberIds.toString();
+    }
+
+}
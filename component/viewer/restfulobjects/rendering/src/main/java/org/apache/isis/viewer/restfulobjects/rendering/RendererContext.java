@@ -43,6 +43,11 @@ public interface RendererContext {
     public PersistenceSession getPersistenceSession();
     
     public List<List<String>> getFollowLinks();
+
+    /**
+     * The members to be rendered for domain objects (<tt>x-isis-fields</tt>); an empty list means all members.
+     */
+    public List<String> getFields();
     
     public Where getWhere();
     
@@ -35,6 +35,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.Rel;
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.applib.RestfulHttpMethod;
+import org.apache.isis.viewer.restfulobjects.rendering.FieldSpecs;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
@@ -86,15 +87,24 @@ public boolean checkVisibility() {
         public boolean isArgs() {
             return isPersistLinkArgs() || isUpdatePropertiesLinkArgs();
         }
+
+        /**
+         * Only regular representations honour <tt>x-isis-fields</tt>; link arguments and events always include every member.
+         */
+        public boolean honourFieldSpecs() {
+            return isRegular();
+        }
     }
 
     private ObjectAdapterLinkTo linkToBuilder;
     private ObjectAdapter objectAdapter;
     private Mode mode = Mode.REGULAR;
+    private final FieldSpecs fieldSpecs;
 
     public DomainObjectReprRenderer(final RendererContext resourceContext, final LinkFollowSpecs linkFollower, final JsonRepresentation representation) {
         super(resourceContext, linkFollower, RepresentationType.DOMAIN_OBJECT, representation);
         usingLinkToBuilder(new DomainObjectLinkTo());
+        this.fieldSpecs = FieldSpecs.create(resourceContext.getFields());
     }
 
     /**
@@ -225,6 +235,9 @@ private void addAssociations(final ObjectAdapter objectAdapter, final JsonRepres
         final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("members");
         for (final ObjectAssociation assoc : associations) {
 
+            if (!includes(assoc.getId())) {
+                continue;
+            }
             if (mode.checkVisibility()) {
                 final Consent visibility = assoc.isVisible(getRendererContext().getAuthenticationSession(), objectAdapter, rendererContext.getWhere());
                 if (!visibility.isAllowed()) {
@@ -268,6 +281,9 @@ private void addAssociations(final ObjectAdapter objectAdapter, final JsonRepres
 
     private void addActions(final ObjectAdapter objectAdapter, final List<ObjectAction> actions, final JsonRepresentation members) {
         for (final ObjectAction action : actions) {
+            if (!includes(action.getId())) {
+                continue;
+            }
             final Consent visibility = action.isVisible(getRendererContext().getAuthenticationSession(), objectAdapter, rendererContext.getWhere());
             if (!visibility.isAllowed()) {
                 continue;
@@ -282,6 +298,10 @@ private void addActions(final ObjectAdapter objectAdapter, final List<ObjectActi
         }
     }
 
+    private boolean includes(final String memberId) {
+        return !mode.honourFieldSpecs() || fieldSpecs.includes(memberId);
+    }
+
     private void addPersistLinkIfTransientAndPersistable() {
         if (objectAdapter.representsPersistent()) {
             return;
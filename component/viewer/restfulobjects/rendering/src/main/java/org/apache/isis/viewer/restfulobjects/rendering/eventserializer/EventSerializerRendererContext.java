@@ -76,6 +76,11 @@ public List<List<String>> getFollowLinks() {
         return Collections.emptyList();
     }
 
+    @Override
+    public List<String> getFields() {
+        return Collections.emptyList();
+    }
+
     @Override
     public Where getWhere() {
         return where;
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.isis.viewer.restfulobjects.applib.util.Parser;
+
+public class FieldSpecsTest {
+
+    @Test
+    public void whenNoneSpecified() throws Exception {
+        final FieldSpecs fieldSpecs = FieldSpecs.create(Collections.<String>emptyList());
+
+        assertThat(fieldSpecs.isAll(), is(true));
+        assertThat(fieldSpecs.includes("anything"), is(true));
+    }
+
+    @Test
+    public void whenNull() throws Exception {
+        final FieldSpecs fieldSpecs = FieldSpecs.create(null);
+
+        assertThat(fieldSpecs.isAll(), is(true));
+    }
+
+    @Test
+    public void whenSpecified() throws Exception {
+        final FieldSpecs fieldSpecs = FieldSpecs.create(asList("description, dueBy"));
+
+        assertThat(fieldSpecs.isAll(), is(false));
+        assertThat(fieldSpecs.includes("description"), is(true));
+        assertThat(fieldSpecs.includes("dueBy"), is(true));
+        assertThat(fieldSpecs.includes("dependencies"), is(false));
+    }
+
+    @Test
+    public void whenOnlyBlanks() throws Exception {
+        final FieldSpecs fieldSpecs = FieldSpecs.create(asList(" ,"));
+
+        assertThat(fieldSpecs.isAll(), is(true));
+    }
+
+    private static List<String> asList(final String str) {
+        return Parser.forListOfStrings().valueOf(str);
+    }
+
+}
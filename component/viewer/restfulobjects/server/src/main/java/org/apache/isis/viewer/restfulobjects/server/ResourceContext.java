@@ -31,6 +31,8 @@
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 
 import org.apache.isis.applib.annotation.Where;
@@ -49,6 +51,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
 import org.apache.isis.viewer.restfulobjects.server.resources.DomainResourceHelper;
+import org.apache.isis.viewer.restfulobjects.server.util.UrlDecoderUtils;
 
 public class ResourceContext implements RendererContext {
 
@@ -60,7 +63,6 @@ public class ResourceContext implements RendererContext {
     private final SecurityContext securityContext;
     private final Localization localization;
 
-    @SuppressWarnings("unused")
     private final IsisConfiguration configuration;
     private final AuthenticationSession authenticationSession;
     private final PersistenceSession persistenceSession;
@@ -68,9 +70,16 @@ public class ResourceContext implements RendererContext {
     private final SpecificationLoader specificationLookup;
 
     private List<List<String>> followLinks;
+    private List<String> fields;
 
     private final Where where;
     private final String queryString;
+    /**
+     * Whether the arguments are read only from the {@link #queryString} (for a
+     * {@link #forSubRequest(String) sub-request}), rather than from the
+     * parameters of the {@link HttpServletRequest}.
+     */
+    private final boolean subRequest;
     private JsonRepresentation readQueryStringAsMap;
 
     //////////////////////////////////////////////////////////////////
@@ -92,11 +101,32 @@ public ResourceContext(
             final AdapterManager objectAdapterLookup, 
             final SpecificationLoader specificationLookup, 
             final IsisConfiguration configuration) {
+        this(representationType, httpHeaders, uriInfo, request, where, queryStringIfAny, false, httpServletRequest, httpServletResponse, 
+                securityContext, localization, authenticationSession, persistenceSession, objectAdapterLookup, specificationLookup, configuration);
+    }
+
+    private ResourceContext(
+            final RepresentationType representationType, 
+            final HttpHeaders httpHeaders, 
+            final UriInfo uriInfo, 
+            final Request request, 
+            final Where where, 
+            final String queryStringIfAny,
+            final boolean subRequest,
+            final HttpServletRequest httpServletRequest, 
+            final HttpServletResponse httpServletResponse,
+            final SecurityContext securityContext, 
+            final Localization localization, final AuthenticationSession authenticationSession, 
+            final PersistenceSession persistenceSession, 
+            final AdapterManager objectAdapterLookup, 
+            final SpecificationLoader specificationLookup, 
+            final IsisConfiguration configuration) {
 
         this.httpHeaders = httpHeaders;
         this.uriInfo = uriInfo;
         this.request = request;
         this.queryString = queryStringIfAny;
+        this.subRequest = subRequest;
         this.httpServletRequest = httpServletRequest;
         this.httpServletResponse = httpServletResponse;
         this.securityContext = securityContext;
@@ -112,6 +142,18 @@ public ResourceContext(
     }
 
     
+    /**
+     * A context for a sub-request (eg an entry of a batch) made within this
+     * request, whose arguments are taken only from its own query string.
+     * 
+     * @param queryStringIfAny - as (url-encoded) <tt>name=value</tt> pairs, or
+     *            as a (url-encoded) JSON map.
+     */
+    public ResourceContext forSubRequest(final String queryStringIfAny) {
+        return new ResourceContext(null, httpHeaders, uriInfo, request, where, Strings.nullToEmpty(queryStringIfAny), true, httpServletRequest, httpServletResponse, 
+                securityContext, localization, authenticationSession, persistenceSession, adapterManager, specificationLookup, configuration);
+    }
+
     void init(final RepresentationType representationType) {
         getQueryStringAsJsonRepr(); // force it to be cached
         
@@ -119,6 +161,7 @@ void init(final RepresentationType representationType) {
         ensureDomainModelQueryParamSupported();
         
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
+        this.fields = Collections.unmodifiableList(getArg(RequestParameter.FIELDS));
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -185,6 +228,9 @@ public JsonRepresentation getQueryStringAsJsonRepr() {
     }
 
     protected JsonRepresentation requestArgsAsMap() {
+        if (subRequest) {
+            return subRequestArgsAsMap(queryString);
+        }
         @SuppressWarnings("unchecked")
         final Map<String,String[]> params = httpServletRequest.getParameterMap();
 
@@ -206,6 +252,25 @@ protected JsonRepresentation requestArgsAsMap() {
         }
     }
 
+    /**
+     * The query string of a sub-request is either a JSON map (as sent by the
+     * client) or <tt>name=value</tt> pairs; either way, read as the
+     * {@link RequestParameter}s of a <tt>GET</tt>.
+     */
+    private static JsonRepresentation subRequestArgsAsMap(final String queryString) {
+        if (UrlDecoderUtils.urlDecode(queryString).trim().startsWith("{")) {
+            return DomainResourceHelper.readQueryStringAsMap(queryString);
+        }
+        final JsonRepresentation map = JsonRepresentation.newMap();
+        for (final String param : Splitter.on('&').omitEmptyStrings().split(queryString)) {
+            final int equals = param.indexOf('=');
+            final String paramName = UrlDecoderUtils.urlDecode(equals >= 0 ? param.substring(0, equals) : param);
+            final String paramValue = equals >= 0 ? UrlDecoderUtils.urlDecode(param.substring(equals + 1)) : "";
+            map.mapPut(paramName, paramValue);
+        }
+        return map;
+    }
+
     private static boolean simpleQueryArgs(Map<String, String[]> params) {
         if(params.isEmpty()) {
             return false;
@@ -249,6 +314,10 @@ public List<List<String>> getFollowLinks() {
         return followLinks;
     }
 
+    public List<String> getFields() {
+        return fields;
+    }
+
 
     
     public Localization getLocalization() {
@@ -18,6 +18,14 @@
  */
 package org.apache.isis.viewer.restfulobjects.server.authentication;
 
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,22 +34,61 @@
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.runtime.authentication.AuthenticationManager;
 import org.apache.isis.core.runtime.authentication.AuthenticationRequestPassword;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.webapp.auth.AuthenticationSessionStrategyAbstract;
 
 /**
  * Implements the HTTP Basic Auth protocol; does not bind the
  * {@link AuthenticationSession} onto the {@link HttpSession}.
+ * 
+ * <p>
+ * Because every request carries the credentials, verified credentials are
+ * cached (for {@value #CACHE_TTL_SECONDS_DEFAULT} seconds and up to
+ * {@value #CACHE_MAX_SIZE_DEFAULT} entries, by default), so that the
+ * {@link AuthenticationManager} is consulted only on a cache miss.  The cache
+ * is keyed by a salted hash of the <tt>Authorization</tt> header, so no
+ * passwords are held in memory.
+ * 
+ * <p>
+ * Only the outcome of the authentication (the user name, roles and validation
+ * code) is cached; each request is given an {@link AuthenticationSession} of
+ * its own, since sessions are mutable (they hold attributes, and the
+ * {@link AuthenticationSession#getMessageBroker() message broker}).
  */
 public class AuthenticationSessionStrategyBasicAuth extends AuthenticationSessionStrategyAbstract {
 
     private static Pattern USER_AND_PASSWORD_REGEX = Pattern.compile("^(.+):(.+)$");
 
+    /**
+     * Maximum number of verified credentials to cache; <tt>0</tt> disables the cache.
+     */
+    public static final String CACHE_MAX_SIZE_KEY = "isis.viewer.restfulobjects.authentication.basicAuth.cache.maxSize";
+    public static final int CACHE_MAX_SIZE_DEFAULT = 1000;
+
+    /**
+     * How long (in seconds) verified credentials are cached for; <tt>0</tt> disables the cache.
+     */
+    public static final String CACHE_TTL_SECONDS_KEY = "isis.viewer.restfulobjects.authentication.basicAuth.cache.ttlSeconds";
+    public static final int CACHE_TTL_SECONDS_DEFAULT = 300;
+
+    private final byte[] salt = newSalt();
+    private final Object cacheLock = new Object();
+    private volatile Cache<String, VerifiedUser> cache;
+    private volatile boolean cacheInitialized;
+
     @Override
     public AuthenticationSession lookupValid(final ServletRequest servletRequest, final ServletResponse servletResponse) {
 
@@ -53,6 +100,34 @@ public AuthenticationSession lookupValid(final ServletRequest servletRequest, fi
         if (authStr == null || !authStr.startsWith("Basic ")) {
             return null;
         }
+
+        final Cache<String, VerifiedUser> cache = getCache();
+        if (cache == null) {
+            return authenticate(authStr);
+        }
+
+        try {
+            // concurrent requests with the same credentials share a single authentication
+            final VerifiedUser verifiedUser = cache.get(hash(authStr), new Callable<VerifiedUser>() {
+                @Override
+                public VerifiedUser call() throws Exception {
+                    final AuthenticationSession authSession = authenticate(authStr);
+                    if (authSession == null) {
+                        throw new NotAuthenticatedException();
+                    }
+                    return new VerifiedUser(authSession);
+                }
+            });
+            return verifiedUser.newSession();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof NotAuthenticatedException) {
+                return null;
+            }
+            throw new UncheckedExecutionException(ex.getCause());
+        }
+    }
+
+    private AuthenticationSession authenticate(final String authStr) {
         final String digest = authStr.substring(6);
 
         final String userAndPassword = new String(new Base64().decode(digest.getBytes()));
@@ -68,6 +143,80 @@ public AuthenticationSession lookupValid(final ServletRequest servletRequest, fi
         return authSession;
     }
 
+    private static class NotAuthenticatedException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Immutable outcome of a successful authentication, from which a new
+     * {@link AuthenticationSession} is created for each request.
+     */
+    private static class VerifiedUser {
+        private final String userName;
+        private final List<String> roles;
+        private final String validationCode;
+
+        VerifiedUser(final AuthenticationSession authSession) {
+            this.userName = authSession.getUserName();
+            this.roles = ImmutableList.copyOf(authSession.getRoles());
+            this.validationCode = authSession.getValidationCode();
+        }
+
+        AuthenticationSession newSession() {
+            return new SimpleSession(userName, roles, validationCode);
+        }
+    }
+
+    // //////////////////////////////////////////////////////////
+    // Cache
+    // //////////////////////////////////////////////////////////
+
+    /**
+     * Lazily created (the {@link IsisContext} is not yet available when this
+     * strategy is instantiated); <tt>null</tt> if disabled.
+     */
+    private Cache<String, VerifiedUser> getCache() {
+        if (!cacheInitialized) {
+            synchronized (cacheLock) {
+                if (!cacheInitialized) {
+                    cache = createCache(getConfiguration());
+                    cacheInitialized = true;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private Cache<String, VerifiedUser> createCache(final IsisConfiguration configuration) {
+        final int maxSize = configuration.getInteger(CACHE_MAX_SIZE_KEY, CACHE_MAX_SIZE_DEFAULT);
+        final int ttlSeconds = configuration.getInteger(CACHE_TTL_SECONDS_KEY, CACHE_TTL_SECONDS_DEFAULT);
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            return null;
+        }
+        return CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .<String, VerifiedUser>build();
+    }
+
+    private String hash(final String authStr) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(salt);
+            return Hex.encodeHexString(messageDigest.digest(authStr.getBytes("UTF-8")));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final UnsupportedEncodingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] newSalt() {
+        final byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+
     // //////////////////////////////////////////////////////////
     // Dependencies (from context)
     // //////////////////////////////////////////////////////////
@@ -76,4 +225,8 @@ protected AuthenticationManager getAuthenticationManager() {
         return IsisContext.getAuthenticationManager();
     }
 
+    protected IsisConfiguration getConfiguration() {
+        return IsisContext.getConfiguration();
+    }
+
 }
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import java.util.List;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRendererAbstract;
+
+/**
+ * Renders the result of a {@link BatchResourceServerside batch} request: a list of links,
+ * each (unless in error) with the representation of its target as its value.
+ */
+public class BatchReprRenderer extends ReprRendererAbstract<BatchReprRenderer, List<JsonRepresentation>> {
+
+    private List<JsonRepresentation> entries;
+
+    BatchReprRenderer(final RendererContext resourceContext, final LinkFollowSpecs linkFollower, final JsonRepresentation representation) {
+        super(resourceContext, linkFollower, RepresentationType.LIST, representation);
+    }
+
+    @Override
+    public BatchReprRenderer with(final List<JsonRepresentation> entries) {
+        this.entries = entries;
+        return this;
+    }
+
+    @Override
+    public JsonRepresentation render() {
+        final JsonRepresentation values = JsonRepresentation.newArray();
+        if (entries != null) {
+            for (final JsonRepresentation entry : entries) {
+                values.arrayAdd(entry);
+            }
+        }
+        representation.mapPut("value", values);
+
+        getExtensions();
+
+        return representation;
+    }
+
+}
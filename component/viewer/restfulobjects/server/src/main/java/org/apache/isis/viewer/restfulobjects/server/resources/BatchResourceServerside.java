@@ -0,0 +1,280 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.jboss.resteasy.annotations.ClientResponseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.Rel;
+import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulMediaType;
+import org.apache.isis.viewer.restfulobjects.applib.batch.BatchResource;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRenderer;
+import org.apache.isis.viewer.restfulobjects.server.ResourceContext;
+import org.apache.isis.viewer.restfulobjects.server.RestfulObjectsApplicationException;
+import org.apache.isis.viewer.restfulobjects.server.util.OidUtils;
+import org.apache.isis.viewer.restfulobjects.server.util.UrlDecoderUtils;
+
+/**
+ * Resolves a list of object, property, collection and action prompt hrefs within a single
+ * session, first asking the object store to
+ * {@link org.apache.isis.core.runtime.system.persistence.PersistenceSession#prefetchInstances(List) prefetch}
+ * all of the objects involved.
+ * 
+ * <p>
+ * Each sub-request is evaluated as a <tt>GET</tt> would be, with the query parameters (if any) of
+ * its own href (eg <tt>x-ro-follow-links</tt>); a failure of one (eg object not found, member
+ * not visible, or any other exception, reported as a <tt>500</tt>) is reported against that entry,
+ * and does not fail the batch as a whole.
+ */
+public class BatchResourceServerside extends ResourceAbstract implements BatchResource {
+
+    private final static Logger LOG = LoggerFactory.getLogger(BatchResourceServerside.class);
+
+    /**
+     * The maximum number of sub-requests in a single batch; larger batches are rejected with a
+     * <tt>400</tt>.
+     */
+    public final static String MAX_SIZE_KEY = "isis.viewer.restfulobjects.batch.maxSize";
+    public final static int MAX_SIZE_DEFAULT = 100;
+
+    private final static Pattern HREF_PATTERN = Pattern.compile("/?objects/([^/?]+)/([^/?]+)(?:/(properties|collections|actions)/([^/?]+))?/?(?:\\?(.*))?");
+
+    @Override
+    @POST
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.APPLICATION_JSON, RestfulMediaType.APPLICATION_JSON_LIST, RestfulMediaType.APPLICATION_JSON_ERROR })
+    @ClientResponseType(entityType = String.class)
+    public Response batch(final InputStream body) {
+        init(RepresentationType.LIST, Where.OBJECT_FORMS);
+
+        final String bodyStr = DomainResourceHelper.asStringUtf8(body);
+        final JsonRepresentation hrefs = DomainResourceHelper.readAsList(bodyStr);
+
+        final int maxSize = getConfiguration().getInteger(MAX_SIZE_KEY, MAX_SIZE_DEFAULT);
+        if (hrefs.size() > maxSize) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, "batch of %d exceeds maximum size of %d", hrefs.size(), maxSize);
+        }
+
+        final String baseUri = getResourceContext().urlFor("");
+        final List<SubRequest> subRequests = Lists.newArrayList();
+        for (final JsonRepresentation hrefRepr : hrefs.arrayIterable()) {
+            subRequests.add(SubRequest.parse(hrefOf(hrefRepr), baseUri));
+        }
+
+        prefetch(subRequests);
+
+        final List<JsonRepresentation> entries = Lists.newArrayList();
+        for (final SubRequest subRequest : subRequests) {
+            entries.add(entryFor(subRequest));
+        }
+
+        final BatchReprRenderer renderer = new BatchReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
+        renderer.with(entries);
+
+        return responseOfOk(renderer, Caching.NONE).build();
+    }
+
+    private static String hrefOf(final JsonRepresentation hrefRepr) {
+        if (hrefRepr.isString()) {
+            return hrefRepr.asString();
+        }
+        if (hrefRepr.isMap() && hrefRepr.isString("href")) {
+            return hrefRepr.getString("href");
+        }
+        throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, "batch entries must be hrefs or links; got %s", hrefRepr);
+    }
+
+    private void prefetch(final List<SubRequest> subRequests) {
+        final Set<RootOid> oids = Sets.newLinkedHashSet();
+        for (final SubRequest subRequest : subRequests) {
+            if (subRequest.isValid()) {
+                final RootOid rootOid = rootOidElseNull(subRequest);
+                if (rootOid != null) {
+                    oids.add(rootOid);
+                }
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("prefetching " + oids.size() + " objects for batch of " + subRequests.size());
+        }
+        getPersistenceSession().prefetchInstances(Lists.newArrayList(oids));
+    }
+
+    private static RootOid rootOidElseNull(final SubRequest subRequest) {
+        try {
+            return OidUtils.getRootOid(subRequest.getDomainType(), subRequest.getInstanceId());
+        } catch (final RuntimeException ex) {
+            // unknown domain type or malformed identifier; reported as not found when the entry is evaluated
+            return null;
+        }
+    }
+
+    private JsonRepresentation entryFor(final SubRequest subRequest) {
+        final String href = subRequest.getHref();
+        if (!subRequest.isValid()) {
+            return errorEntry(href, HttpStatusCode.BAD_REQUEST, "not an object, property, collection or action href");
+        }
+        try {
+            final ResourceContext subRequestContext = getResourceContext().forSubRequest(subRequest.getQueryString());
+            final ReprRenderer<?, ?> renderer = rendererFor(subRequest, subRequestContext);
+            return LinkBuilder.newBuilder(getResourceContext(), Rel.ELEMENT.getName(), renderer.getMediaType(), "%s", href).withValue(renderer.render()).build();
+        } catch (final RestfulObjectsApplicationException ex) {
+            return errorEntry(href, ex.getHttpStatusCode(), ex.getMessage());
+        } catch (final RuntimeException ex) {
+            LOG.warn("failed to evaluate batch entry " + href, ex);
+            return errorEntry(href, HttpStatusCode.INTERNAL_SERVER_ERROR, ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName());
+        }
+    }
+
+    private ReprRenderer<?, ?> rendererFor(final SubRequest subRequest, final ResourceContext subRequestContext) {
+        if (rootOidElseNull(subRequest) == null) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.NOT_FOUND, "could not determine adapter for OID: '%s:%s'", subRequest.getDomainType(), subRequest.getInstanceId());
+        }
+        final ObjectAdapter objectAdapter = getObjectAdapterElseThrowNotFound(subRequest.getDomainType(), subRequest.getInstanceId());
+        final DomainResourceHelper helper = new DomainResourceHelper(subRequestContext, objectAdapter);
+
+        final String memberType = subRequest.getMemberType();
+        if (memberType == null) {
+            return helper.objectRenderer();
+        }
+        if ("properties".equals(memberType)) {
+            return helper.propertyRenderer(subRequest.getMemberId(), Where.OBJECT_FORMS);
+        }
+        if ("collections".equals(memberType)) {
+            return helper.collectionRenderer(subRequest.getMemberId(), Where.PARENTED_TABLES);
+        }
+        return helper.actionPromptRenderer(subRequest.getMemberId(), Where.OBJECT_FORMS);
+    }
+
+    private JsonRepresentation errorEntry(final String href, final HttpStatusCode httpStatusCode, final String message) {
+        final JsonRepresentation entry = LinkBuilder.newBuilder(getResourceContext(), Rel.ELEMENT.getName(), RepresentationType.ERROR, "%s", href).build();
+        final JsonRepresentation error = JsonRepresentation.newMap();
+        error.mapPut("httpStatusCode", httpStatusCode.getStatusCode());
+        error.mapPut("message", message);
+        entry.mapPut("error", error);
+        return entry;
+    }
+
+    // //////////////////////////////////////////////////////////////
+    // SubRequest
+    // //////////////////////////////////////////////////////////////
+
+    static class SubRequest {
+
+        /**
+         * @param href - either absolute (in which case must be relative to <tt>baseUri</tt>) or relative.
+         */
+        static SubRequest parse(final String href, final String baseUri) {
+            String relativeHref = href;
+            if (relativeHref.startsWith(baseUri)) {
+                relativeHref = relativeHref.substring(baseUri.length());
+            }
+            final Matcher matcher = HREF_PATTERN.matcher(relativeHref);
+            if (!matcher.matches()) {
+                return new SubRequest(relativeHref, null, null, null, null, null);
+            }
+            // decoded, as they would be if @PathParams of a single GET
+            return new SubRequest(relativeHref, urlDecode(matcher.group(1)), urlDecode(matcher.group(2)), matcher.group(3), urlDecode(matcher.group(4)), matcher.group(5));
+        }
+
+        /**
+         * Path (rather than form) decoding, so a literal <tt>+</tt> is preserved.
+         */
+        private static String urlDecode(final String str) {
+            return str != null ? UrlDecoderUtils.urlDecode(str.replace("+", "%2B")) : null;
+        }
+
+        private final String href;
+        private final String domainType;
+        private final String instanceId;
+        private final String memberType;
+        private final String memberId;
+        private final String queryString;
+
+        private SubRequest(final String href, final String domainType, final String instanceId, final String memberType, final String memberId, final String queryString) {
+            this.href = href;
+            this.domainType = domainType;
+            this.instanceId = instanceId;
+            this.memberType = memberType;
+            this.memberId = memberId;
+            this.queryString = queryString;
+        }
+
+        /**
+         * The href, relative to the base URI.
+         */
+        String getHref() {
+            return href;
+        }
+
+        boolean isValid() {
+            return domainType != null;
+        }
+
+        String getDomainType() {
+            return domainType;
+        }
+
+        String getInstanceId() {
+            return instanceId;
+        }
+
+        /**
+         * <tt>properties</tt>, <tt>collections</tt> or <tt>actions</tt>; <tt>null</tt> if the href is for the object itself.
+         */
+        String getMemberType() {
+            return memberType;
+        }
+
+        String getMemberId() {
+            return memberId;
+        }
+
+        /**
+         * The (still url-encoded) query string of the href, if any.
+         */
+        String getQueryString() {
+            return queryString;
+        }
+    }
+
+}
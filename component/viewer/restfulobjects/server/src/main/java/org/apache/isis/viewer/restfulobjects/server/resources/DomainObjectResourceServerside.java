@@ -109,7 +109,7 @@ public Response object(@PathParam("domainType") String domainType, @PathParam("i
         final ObjectAdapter objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId);
 
         final DomainResourceHelper helper = new DomainResourceHelper(getResourceContext(), objectAdapter);
-        return helper.objectRepresentation();
+        return helper.objectRepresentationIfModified();
     }
 
     @Override
@@ -19,8 +19,6 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -78,14 +76,13 @@
 
 public final class DomainResourceHelper {
 
-    private static final DateFormat ETAG_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
 
-    private final RendererContext resourceContext;
+    private final ResourceContext resourceContext;
     private ObjectAdapterLinkTo adapterLinkTo;
 
     private final ObjectAdapter objectAdapter;
 
-    public DomainResourceHelper(final RendererContext resourceContext, final ObjectAdapter objectAdapter) {
+    public DomainResourceHelper(final ResourceContext resourceContext, final ObjectAdapter objectAdapter) {
         this.resourceContext = resourceContext;
         this.objectAdapter = objectAdapter;
         using(new DomainObjectLinkTo());
@@ -189,16 +186,27 @@ static boolean copyOverProperties(final RendererContext resourceContext, final O
     // //////////////////////////////////////////////////////////////
 
     public Response objectRepresentation() {
+        final DomainObjectReprRenderer renderer = objectRenderer();
+        return ResourceAbstract.responseOfOk(renderer, Caching.NONE, objectAdapter.getVersion()).build();
+    }
+
+    DomainObjectReprRenderer objectRenderer() {
         final DomainObjectReprRenderer renderer = new DomainObjectReprRenderer(resourceContext, null, JsonRepresentation.newMap());
         renderer.with(objectAdapter).includesSelf();
+        return renderer;
+    }
 
-        final ResponseBuilder respBuilder = ResourceAbstract.responseOfOk(renderer, Caching.NONE);
-
-        final Version version = objectAdapter.getVersion();
-        if (version != null && version.getTime() != null) {
-            respBuilder.tag(ETAG_FORMAT.format(version.getTime()));
+    /**
+     * As {@link #objectRepresentation()}, but returning a
+     * <tt>304 Not Modified</tt> (without rendering) if the request's
+     * conditional GET headers show the client's copy to be current.
+     */
+    public Response objectRepresentationIfModified() {
+        final Response notModified = responseOfNotModifiedElseNull(Caching.NONE);
+        if (notModified != null) {
+            return notModified;
         }
-        return respBuilder.build();
+        return objectRepresentation();
     }
 
     // //////////////////////////////////////////////////////////////
@@ -220,19 +228,43 @@ public void apply(final AbstractObjectMemberReprRenderer<?, ?> renderer) {
         };
 
         public abstract void apply(AbstractObjectMemberReprRenderer<?, ?> renderer);
+
+        /**
+         * Whether the request is a (possibly conditional) GET of the member;
+         * if not then the object's version is not yet up-to-date.
+         */
+        public boolean isConditional() {
+            return this == NOT_MUTATING;
+        }
     }
 
     Response propertyDetails(final String propertyId, final MemberMode memberMode, final Caching caching, Where where) {
 
         final OneToOneAssociation property = getPropertyThatIsVisibleForIntent(propertyId, Intent.ACCESS, where);
 
+        if (memberMode.isConditional()) {
+            final Response notModified = responseOfNotModifiedElseNull(caching);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+
+        final ObjectPropertyReprRenderer renderer = propertyRenderer(property, memberMode);
+        return ResourceAbstract.responseOfOk(renderer, caching, versionIf(memberMode)).build();
+    }
+
+    ObjectPropertyReprRenderer propertyRenderer(final String propertyId, final Where where) {
+        final OneToOneAssociation property = getPropertyThatIsVisibleForIntent(propertyId, Intent.ACCESS, where);
+        return propertyRenderer(property, MemberMode.NOT_MUTATING);
+    }
+
+    private ObjectPropertyReprRenderer propertyRenderer(final OneToOneAssociation property, final MemberMode memberMode) {
         final ObjectPropertyReprRenderer renderer = new ObjectPropertyReprRenderer(resourceContext, null, null, JsonRepresentation.newMap());
 
         renderer.with(new ObjectAndProperty(objectAdapter, property)).usingLinkTo(adapterLinkTo);
 
         memberMode.apply(renderer);
-
-        return ResourceAbstract.responseOfOk(renderer, caching).build();
+        return renderer;
     }
 
     // //////////////////////////////////////////////////////////////
@@ -243,13 +275,38 @@ Response collectionDetails(final String collectionId, final MemberMode memberMod
 
         final OneToManyAssociation collection = getCollectionThatIsVisibleForIntent(collectionId, Intent.ACCESS, where);
 
+        if (memberMode.isConditional()) {
+            final Response notModified = responseOfNotModifiedElseNull(caching);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+
+        final ObjectCollectionReprRenderer renderer = collectionRenderer(collection, memberMode);
+        return ResourceAbstract.responseOfOk(renderer, caching, versionIf(memberMode)).build();
+    }
+
+    ObjectCollectionReprRenderer collectionRenderer(final String collectionId, final Where where) {
+        final OneToManyAssociation collection = getCollectionThatIsVisibleForIntent(collectionId, Intent.ACCESS, where);
+        return collectionRenderer(collection, MemberMode.NOT_MUTATING);
+    }
+
+    private ObjectCollectionReprRenderer collectionRenderer(final OneToManyAssociation collection, final MemberMode memberMode) {
         final ObjectCollectionReprRenderer renderer = new ObjectCollectionReprRenderer(resourceContext, null, null, JsonRepresentation.newMap());
 
         renderer.with(new ObjectAndCollection(objectAdapter, collection)).usingLinkTo(adapterLinkTo);
 
         memberMode.apply(renderer);
+        return renderer;
+    }
+
+    private Version versionIf(final MemberMode memberMode) {
+        return memberMode.isConditional() ? objectAdapter.getVersion() : null;
+    }
 
-        return ResourceAbstract.responseOfOk(renderer, caching).build();
+    private Response responseOfNotModifiedElseNull(final Caching caching) {
+        final ResponseBuilder respBuilder = ResourceAbstract.responseOfNotModifiedElseNull(resourceContext, objectAdapter.getVersion(), caching);
+        return respBuilder != null ? respBuilder.build() : null;
     }
 
     // //////////////////////////////////////////////////////////////
@@ -257,13 +314,17 @@ Response collectionDetails(final String collectionId, final MemberMode memberMod
     // //////////////////////////////////////////////////////////////
 
     Response actionPrompt(final String actionId, Where where) {
+        final ObjectActionReprRenderer renderer = actionPromptRenderer(actionId, where);
+        return ResourceAbstract.responseOfOk(renderer, Caching.NONE).build();
+    }
+
+    ObjectActionReprRenderer actionPromptRenderer(final String actionId, final Where where) {
         final ObjectAction action = getObjectActionThatIsVisibleForIntent(actionId, Intent.ACCESS, where);
 
         final ObjectActionReprRenderer renderer = new ObjectActionReprRenderer(resourceContext, null, null, JsonRepresentation.newMap());
 
         renderer.with(new ObjectAndAction(objectAdapter, action)).usingLinkTo(adapterLinkTo).asStandalone();
-
-        return ResourceAbstract.responseOfOk(renderer, Caching.NONE).build();
+        return renderer;
     }
 
     // //////////////////////////////////////////////////////////////
@@ -624,13 +685,32 @@ public static JsonRepresentation readAsMap(final String body) {
         return read(bodyTrimmed, "body");
     }
 
+    public static JsonRepresentation readAsList(final String body) {
+        if (body == null) {
+            return JsonRepresentation.newArray();
+        }
+        final String bodyTrimmed = body.trim();
+        if (bodyTrimmed.isEmpty()) {
+            return JsonRepresentation.newArray();
+        }
+        final JsonRepresentation jsonRepr = parse(bodyTrimmed, "body");
+        if (!jsonRepr.isArray()) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, "could not read %s as a JSON list", "body");
+        }
+        return jsonRepr;
+    }
+
     private static JsonRepresentation read(final String args, final String argsNature) {
+        final JsonRepresentation jsonRepr = parse(args, argsNature);
+        if (!jsonRepr.isMap()) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, "could not read %s as a JSON map", argsNature);
+        }
+        return jsonRepr;
+    }
+
+    private static JsonRepresentation parse(final String args, final String argsNature) {
         try {
-            final JsonRepresentation jsonRepr = JsonMapper.instance().read(args);
-            if (!jsonRepr.isMap()) {
-                throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, "could not read %s as a JSON map", argsNature);
-            }
-            return jsonRepr;
+            return JsonMapper.instance().read(args);
         } catch (final JsonParseException e) {
             throw RestfulObjectsApplicationException.createWithCauseAndMessage(HttpStatusCode.BAD_REQUEST, e, "could not parse %s", argsNature);
         } catch (final JsonMappingException e) {
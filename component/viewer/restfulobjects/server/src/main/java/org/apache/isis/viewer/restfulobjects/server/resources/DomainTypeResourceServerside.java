@@ -27,10 +27,13 @@
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
 
 import com.google.common.base.Strings;
 
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
@@ -45,6 +48,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.applib.domaintypes.DomainTypeResource;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.ActionDescriptionReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.ActionParameterDescriptionReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
@@ -96,7 +100,7 @@ public Response domainType(@PathParam("domainType") final String domainType) {
         final DomainTypeReprRenderer renderer = new DomainTypeReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
         renderer.with(objectSpec).includesSelf();
 
-        return responseOfOk(renderer, Caching.ONE_DAY).build();
+        return responseOfOkCached(renderer);
     }
 
     @Override
@@ -121,7 +125,7 @@ public Response typeProperty(@PathParam("domainType") final String domainType, @
         final PropertyDescriptionReprRenderer renderer = new PropertyDescriptionReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
         renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
 
-        return responseOfOk(renderer, Caching.ONE_DAY).build();
+        return responseOfOkCached(renderer);
     }
 
     @Override
@@ -146,7 +150,7 @@ public Response typeCollection(@PathParam("domainType") final String domainType,
         final CollectionDescriptionReprRenderer renderer = new CollectionDescriptionReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
         renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
 
-        return responseOfOk(renderer, Caching.ONE_DAY).build();
+        return responseOfOkCached(renderer);
     }
 
     @Override
@@ -171,7 +175,7 @@ public Response typeAction(@PathParam("domainType") final String domainType, @Pa
         final ActionDescriptionReprRenderer renderer = new ActionDescriptionReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
         renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
 
-        return responseOfOk(renderer, Caching.ONE_DAY).build();
+        return responseOfOkCached(renderer);
     }
 
     @Override
@@ -198,7 +202,50 @@ public Response typeActionParam(@PathParam("domainType") final String domainType
         final ActionParameterDescriptionReprRenderer renderer = new ActionParameterDescriptionReprRenderer(getResourceContext(), null, JsonRepresentation.newMap());
         renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
 
-        return responseOfOk(renderer, Caching.ONE_DAY).build();
+        return responseOfOkCached(renderer);
+    }
+
+    // //////////////////////////////////////////////////////////
+    // representation cache
+    // //////////////////////////////////////////////////////////
+
+    /**
+     * Shared by all instances (one per request); guarded by the class lock.
+     */
+    private static RepresentationCache representationCache;
+
+    private static synchronized RepresentationCache getRepresentationCache(final IsisConfiguration configuration) {
+        if (representationCache == null) {
+            representationCache = new RepresentationCache(configuration.getInteger(RepresentationCache.MAX_SIZE_KEY, RepresentationCache.MAX_SIZE_DEFAULT));
+        }
+        return representationCache;
+    }
+
+    /**
+     * The representations of domain types and their members depend only on
+     * the metamodel, so are served (pre-serialized) from the
+     * {@link RepresentationCache}, keyed by their URL.
+     * 
+     * <p>
+     * Not used if the request has any query parameters (eg
+     * <tt>x-ro-follow-links</tt>), because these might vary the
+     * representation.
+     */
+    private Response responseOfOkCached(final ReprRenderer<?, ?> renderer) {
+        final RepresentationCache cache = getRepresentationCache(getConfiguration());
+        final UriInfo uriInfo = getResourceContext().getUriInfo();
+        if (!cache.isEnabled() || !uriInfo.getQueryParameters().isEmpty()) {
+            return responseOfOk(renderer, Caching.ONE_DAY).build();
+        }
+
+        final String key = uriInfo.getAbsolutePath().toString();
+        final RepresentationCache.Entry entry = cache.lookup(key, getSpecificationLoader(), renderer);
+
+        final ResponseBuilder notModified = getResourceContext().getRequest().evaluatePreconditions(entry.getETag());
+        if (notModified != null) {
+            return notModified.cacheControl(Caching.ONE_DAY.getCacheControl()).build();
+        }
+        return responseOf(HttpStatusCode.OK).type(entry.getMediaType()).cacheControl(Caching.ONE_DAY.getCacheControl()).tag(entry.getETag()).entity(entry.getBytes()).build();
     }
 
     // //////////////////////////////////////////////////////////
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRenderer;
+
+/**
+ * Application-scoped cache of serialized representations that depend only on
+ * the metamodel, eg domain types and their member descriptions.
+ * 
+ * <p>
+ * Each entry remembers the {@link SpecificationLoaderSpi specification loader}
+ * (and its {@link SpecificationLoaderSpi#getInvalidationCount() invalidation count})
+ * it was rendered against, and is re-rendered if the metamodel has since been
+ * {@link SpecificationLoaderSpi#invalidateCache(Class) invalidated}.
+ */
+public class RepresentationCache {
+
+    /**
+     * Maximum number of representations to cache; 0 disables the cache.
+     */
+    public final static String MAX_SIZE_KEY = "isis.viewer.restfulobjects.representationCache.maxSize";
+    public final static int MAX_SIZE_DEFAULT = 1000;
+
+    public static class Entry {
+
+        private final byte[] bytes;
+        private final MediaType mediaType;
+        private final EntityTag eTag;
+        private final SpecificationLoaderSpi specificationLoader;
+        private final long invalidationCount;
+
+        Entry(final byte[] bytes, final MediaType mediaType, final SpecificationLoaderSpi specificationLoader, final long invalidationCount) {
+            this.bytes = bytes;
+            this.mediaType = mediaType;
+            this.eTag = new EntityTag(Hashing.md5().hashBytes(bytes).toString());
+            this.specificationLoader = specificationLoader;
+            this.invalidationCount = invalidationCount;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Hash of the serialized representation, so unchanged by a restart
+         * (or a metamodel invalidation that makes no difference).
+         */
+        public EntityTag getETag() {
+            return eTag;
+        }
+
+        boolean isCurrent(final SpecificationLoaderSpi specificationLoader) {
+            return this.specificationLoader == specificationLoader && this.invalidationCount == specificationLoader.getInvalidationCount();
+        }
+    }
+
+    private final Cache<String, Entry> cache;
+
+    public RepresentationCache(final int maxSize) {
+        this.cache = maxSize > 0 ? CacheBuilder.newBuilder().maximumSize(maxSize).<String, Entry> build() : null;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * The cached entry for the key, rendering (and caching) it first if
+     * required.
+     * 
+     * @return the entry, else <tt>null</tt> if not {@link #isEnabled() enabled}.
+     */
+    public Entry lookup(final String key, final SpecificationLoaderSpi specificationLoader, final ReprRenderer<?, ?> renderer) {
+        if (cache == null) {
+            return null;
+        }
+        final Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.isCurrent(specificationLoader)) {
+            return cached;
+        }
+        // read the count first, so that a concurrent invalidation leaves the entry stale
+        final long invalidationCount = specificationLoader.getInvalidationCount();
+        final Entry entry = new Entry(serialize(renderer), renderer.getMediaType(), specificationLoader, invalidationCount);
+        cache.put(key, entry);
+        return entry;
+    }
+
+    private static byte[] serialize(final ReprRenderer<?, ?> renderer) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            JsonMapper.instance().write(renderer.render(), baos);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        return baos.toByteArray();
+    }
+
+}
@@ -20,11 +20,13 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
@@ -34,6 +36,7 @@
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import org.codehaus.jackson.JsonGenerationException;
@@ -55,6 +58,7 @@
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
@@ -69,6 +73,17 @@ public abstract class ResourceAbstract {
 
     protected final static JsonMapper jsonMapper = JsonMapper.instance();
 
+    /**
+     * Whether the serialization of representations is streamed directly to the
+     * response (rather than first being written to a string).
+     * 
+     * <p>
+     * Read once, on first use; the representations themselves are still
+     * rendered in full before being serialized.
+     */
+    public final static String STREAMING_KEY = "isis.viewer.restfulobjects.streaming";
+    public final static boolean STREAMING_DEFAULT = false;
+
     public enum Caching {
         ONE_DAY(24 * 60 * 60), ONE_HOUR(60 * 60), NONE(0);
 
@@ -206,10 +221,40 @@ public static ResponseBuilder responseOfOk(final ReprRenderer<?, ?> renderer, fi
 
     public static ResponseBuilder responseOfOk(final ReprRenderer<?, ?> renderer, final Caching caching, final Version version) {
         final MediaType mediaType = renderer.getMediaType();
-        final ResponseBuilder response = responseOf(HttpStatusCode.OK).type(mediaType).cacheControl(caching.getCacheControl()).entity(jsonFor(renderer.render()));
+        final ResponseBuilder response = responseOf(HttpStatusCode.OK).type(mediaType).cacheControl(caching.getCacheControl()).entity(entityFor(renderer.render()));
         return addLastModifiedAndETagIfAvailable(response, version);
     }
 
+    /**
+     * If {@link #STREAMING_KEY streaming}, then a {@link StreamingOutput} that
+     * writes the representation directly to the response; otherwise the
+     * representation {@link #jsonFor(Object) as a string}.
+     * 
+     * <p>
+     * Either way the representation is rendered eagerly, ie within the
+     * current transaction; streaming just avoids also holding the entire
+     * response as a string.
+     */
+    private static Object entityFor(final JsonRepresentation representation) {
+        if (!Streaming.ENABLED) {
+            return jsonFor(representation);
+        }
+        return new StreamingOutput() {
+            @Override
+            public void write(final OutputStream output) throws IOException, WebApplicationException {
+                jsonMapper.write(representation, output);
+            }
+        };
+    }
+
+    /**
+     * Lazily initialized holder, so that the {@link #STREAMING_KEY} is only
+     * read once the {@link IsisContext} has been set up.
+     */
+    private static class Streaming {
+        private static final boolean ENABLED = IsisContext.getConfiguration().getBoolean(STREAMING_KEY, STREAMING_DEFAULT);
+    }
+
     protected static ResponseBuilder responseOf(final HttpStatusCode httpStatusCode) {
         return Response.status(httpStatusCode.getJaxrsStatusType()).type(MediaType.APPLICATION_JSON_TYPE);
     }
@@ -223,6 +268,42 @@ public static ResponseBuilder addLastModifiedAndETagIfAvailable(final ResponseBu
         return responseBuilder;
     }
 
+    /**
+     * Evaluates the conditional GET headers of the request against the
+     * {@link Version} of the object, so that the caller can skip rendering a
+     * representation that the client already holds.
+     *
+     * <p>
+     * <tt>If-None-Match</tt> is checked against the same ETag as emitted by
+     * {@link #addLastModifiedAndETagIfAvailable(ResponseBuilder, Version)};
+     * only if absent is <tt>If-Modified-Since</tt> checked (RFC 2616, 14.26).
+     *
+     * @return a builder for a <tt>304 Not Modified</tt> (or, if an
+     *         <tt>If-Match</tt> or <tt>If-Unmodified-Since</tt> fails, a
+     *         <tt>412 Precondition Failed</tt>) response, else
+     *         <tt>null</tt> if the representation should be rendered.
+     */
+    public static ResponseBuilder responseOfNotModifiedElseNull(final ResourceContext resourceContext, final Version version, final Caching caching) {
+        if (version == null || version.getTime() == null) {
+            return null;
+        }
+        final Date time = version.getTime();
+        final Request request = resourceContext.getRequest();
+
+        final ResponseBuilder responseBuilder;
+        if (resourceContext.getHttpHeaders().getRequestHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            responseBuilder = request.evaluatePreconditions(asETag(time));
+        } else {
+            // HTTP dates have a precision of one second only
+            responseBuilder = request.evaluatePreconditions(new Date(time.getTime() / 1000L * 1000L));
+        }
+        if (responseBuilder == null) {
+            return null;
+        }
+        responseBuilder.cacheControl(caching.getCacheControl());
+        return addLastModifiedAndETagIfAvailable(responseBuilder, version);
+    }
+
     private static EntityTag asETag(final Date time) {
         final String utcTime = ISODateTimeFormat.basicDateTime().print(new DateTime(time));
         return new EntityTag(utcTime, true);
@@ -65,6 +65,10 @@ public static ObjectAdapter getObjectAdapterElseNull(final RendererContext resou
      * @throws {@link ObjectNotFoundException} if not found
      */
     public static ObjectAdapter getObjectAdapterElseThrowNotFound(final RendererContext resourceContext, final String domainType, final String instanceId) throws ObjectNotFoundException {
+        return resourceContext.getPersistenceSession().getAdapterManager().adapterFor(getRootOid(domainType, instanceId));
+    }
+
+    public static RootOid getRootOid(final String domainType, final String instanceId) {
         String oidStr = joinAsOid(domainType, instanceId);
         
         // REVIEW: this is all rather disgusting...
@@ -75,7 +79,7 @@ public static ObjectAdapter getObjectAdapterElseThrowNotFound(final RendererCont
             oidStr = "*" + oidStr;
         }
 
-        return getObjectAdapterForUnencodedElseThrowNotFound(resourceContext, oidStr);
+        return RootOidDefault.deStringEncoded(oidStr, getOidMarshaller());
     }
 
     /**
@@ -0,0 +1,187 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.restfulobjects.server.authentication;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.codec.binary.Base64;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.runtime.authentication.AuthenticationManager;
+import org.apache.isis.core.runtime.authentication.AuthenticationRequest;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class AuthenticationSessionStrategyBasicAuthTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private HttpServletRequest mockRequest;
+    @Mock
+    private HttpServletResponse mockResponse;
+    @Mock
+    private AuthenticationManager mockAuthenticationManager;
+    @Mock
+    private IsisConfiguration mockConfiguration;
+
+    private AuthenticationSession authSession;
+    private AuthenticationSessionStrategyBasicAuth strategy;
+
+    @Before
+    public void setUp() throws Exception {
+        authSession = new SimpleSession("sven", Arrays.asList("admin", "user"), "ABC123");
+        strategy = new AuthenticationSessionStrategyBasicAuth() {
+            @Override
+            protected AuthenticationManager getAuthenticationManager() {
+                return mockAuthenticationManager;
+            }
+            @Override
+            protected IsisConfiguration getConfiguration() {
+                return mockConfiguration;
+            }
+        };
+    }
+
+    @Test
+    public void noHeader() throws Exception {
+        givenHeader(null);
+
+        assertThat(strategy.lookupValid(mockRequest, mockResponse), is(nullValue()));
+    }
+
+    @Test
+    public void whenCached_authenticatesOnlyOnce() throws Exception {
+        givenCache(10, 60);
+        givenHeader(basicAuth("sven", "pass"));
+        context.checking(new Expectations() {
+            {
+                oneOf(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+                will(returnValue(authSession));
+            }
+        });
+
+        assertVerifiedAsSven(strategy.lookupValid(mockRequest, mockResponse));
+        assertVerifiedAsSven(strategy.lookupValid(mockRequest, mockResponse));
+        assertVerifiedAsSven(strategy.lookupValid(mockRequest, mockResponse));
+    }
+
+    @Test
+    public void whenCached_eachRequestHasItsOwnSession() throws Exception {
+        givenCache(10, 60);
+        givenHeader(basicAuth("sven", "pass"));
+        context.checking(new Expectations() {
+            {
+                oneOf(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+                will(returnValue(authSession));
+
+                // cached sessions are never closed, since requests may still be using them
+                never(mockAuthenticationManager).closeSession(with(any(AuthenticationSession.class)));
+            }
+        });
+
+        final AuthenticationSession session1 = strategy.lookupValid(mockRequest, mockResponse);
+        final AuthenticationSession session2 = strategy.lookupValid(mockRequest, mockResponse);
+
+        assertThat(session2, is(not(sameInstance(session1))));
+        assertThat(session1, is(not(sameInstance(authSession))));
+
+        session1.setAttribute("foo", "bar");
+        assertThat(session2.getAttribute("foo"), is(nullValue()));
+    }
+
+    @Test
+    public void whenCached_invalidCredentialsAreNotCached() throws Exception {
+        givenCache(10, 60);
+        givenHeader(basicAuth("sven", "wrong"));
+        context.checking(new Expectations() {
+            {
+                exactly(2).of(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+                will(returnValue(null));
+            }
+        });
+
+        assertThat(strategy.lookupValid(mockRequest, mockResponse), is(nullValue()));
+        assertThat(strategy.lookupValid(mockRequest, mockResponse), is(nullValue()));
+    }
+
+    @Test
+    public void whenCacheDisabled_authenticatesEveryTime() throws Exception {
+        givenCache(0, 60);
+        givenHeader(basicAuth("sven", "pass"));
+        context.checking(new Expectations() {
+            {
+                exactly(2).of(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+                will(returnValue(authSession));
+            }
+        });
+
+        assertThat(strategy.lookupValid(mockRequest, mockResponse), is(sameInstance(authSession)));
+        assertThat(strategy.lookupValid(mockRequest, mockResponse), is(sameInstance(authSession)));
+    }
+
+    private static void assertVerifiedAsSven(final AuthenticationSession session) {
+        assertThat(session.getUserName(), is("sven"));
+        assertThat(session.getRoles(), is(Arrays.asList("admin", "user")));
+        assertThat(session.getValidationCode(), is("ABC123"));
+    }
+
+    private void givenCache(final int maxSize, final int ttlSeconds) {
+        context.checking(new Expectations() {
+            {
+                allowing(mockConfiguration).getInteger(AuthenticationSessionStrategyBasicAuth.CACHE_MAX_SIZE_KEY, AuthenticationSessionStrategyBasicAuth.CACHE_MAX_SIZE_DEFAULT);
+                will(returnValue(maxSize));
+                allowing(mockConfiguration).getInteger(AuthenticationSessionStrategyBasicAuth.CACHE_TTL_SECONDS_KEY, AuthenticationSessionStrategyBasicAuth.CACHE_TTL_SECONDS_DEFAULT);
+                will(returnValue(ttlSeconds));
+            }
+        });
+    }
+
+    private void givenHeader(final String header) {
+        context.checking(new Expectations() {
+            {
+                allowing(mockRequest).getHeader("Authorization");
+                will(returnValue(header));
+            }
+        });
+    }
+
+    private static String basicAuth(final String user, final String password) {
+        return "Basic " + new String(Base64.encodeBase64((user + ":" + password).getBytes()));
+    }
+
+}
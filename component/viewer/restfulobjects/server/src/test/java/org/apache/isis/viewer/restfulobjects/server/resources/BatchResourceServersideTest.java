@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import org.apache.isis.viewer.restfulobjects.server.resources.BatchResourceServerside.SubRequest;
+
+public class BatchResourceServersideTest {
+
+    private static final String BASE_URI = "http://localhost:8080/restful/";
+
+    @Test
+    public void absoluteObjectHref() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/L_1", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getHref(), is("objects/TODO/L_1"));
+        assertThat(subRequest.getDomainType(), is("TODO"));
+        assertThat(subRequest.getInstanceId(), is("L_1"));
+        assertThat(subRequest.getMemberType(), is(nullValue()));
+        assertThat(subRequest.getMemberId(), is(nullValue()));
+        assertThat(subRequest.getQueryString(), is(nullValue()));
+    }
+
+    @Test
+    public void relativeObjectHref() throws Exception {
+        final SubRequest subRequest = SubRequest.parse("objects/TODO/L_1/", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getDomainType(), is("TODO"));
+        assertThat(subRequest.getInstanceId(), is("L_1"));
+    }
+
+    @Test
+    public void encodedPathSegmentsAreDecoded() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/%2AAB+C%253D/properties/due%20date", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getHref(), is("objects/TODO/%2AAB+C%253D/properties/due%20date"));
+        // decoded once, as by @PathParam
+        assertThat(subRequest.getInstanceId(), is("*AB+C%3D"));
+        assertThat(subRequest.getMemberId(), is("due date"));
+    }
+
+    @Test
+    public void propertyHref() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/L_1/properties/description", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getMemberType(), is("properties"));
+        assertThat(subRequest.getMemberId(), is("description"));
+    }
+
+    @Test
+    public void collectionHrefWithQueryString() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/L_1/collections/dependencies?x-ro-follow-links=value", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getMemberType(), is("collections"));
+        assertThat(subRequest.getMemberId(), is("dependencies"));
+        assertThat(subRequest.getQueryString(), is("x-ro-follow-links=value"));
+    }
+
+    @Test
+    public void actionPromptHref() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/L_1/actions/completed", BASE_URI);
+        assertThat(subRequest.isValid(), is(true));
+        assertThat(subRequest.getMemberType(), is("actions"));
+        assertThat(subRequest.getMemberId(), is("completed"));
+    }
+
+    @Test
+    public void actionInvokeHrefIsNotValid() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "objects/TODO/L_1/actions/completed/invoke", BASE_URI);
+        assertThat(subRequest.isValid(), is(false));
+    }
+
+    @Test
+    public void serviceHrefIsNotValid() throws Exception {
+        final SubRequest subRequest = SubRequest.parse(BASE_URI + "services/ToDoItems", BASE_URI);
+        assertThat(subRequest.isValid(), is(false));
+        assertThat(subRequest.getHref(), is("services/ToDoItems"));
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.core.MediaType;
+
+import com.google.common.base.Charsets;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRenderer;
+
+public class RepresentationCacheTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private SpecificationLoaderSpi mockSpecificationLoader;
+    @Mock
+    private SpecificationLoaderSpi mockOtherSpecificationLoader;
+    @Mock
+    private ReprRenderer<?, ?> mockRenderer;
+
+    private RepresentationCache cache;
+    private JsonRepresentation representation;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new RepresentationCache(10);
+
+        representation = JsonRepresentation.newMap();
+        representation.mapPut("domainType", "ABC");
+
+        context.checking(new Expectations() {
+            {
+                allowing(mockRenderer).getMediaType();
+                will(returnValue(MediaType.APPLICATION_JSON_TYPE));
+                allowing(mockOtherSpecificationLoader).getInvalidationCount();
+                will(returnValue(0L));
+            }
+        });
+    }
+
+    @Test
+    public void rendersOnceOnly() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(mockSpecificationLoader).getInvalidationCount();
+                will(returnValue(0L));
+                oneOf(mockRenderer).render();
+                will(returnValue(representation));
+            }
+        });
+
+        final RepresentationCache.Entry entry = cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer);
+        final RepresentationCache.Entry entry2 = cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer);
+
+        assertThat(entry2, is(sameInstance(entry)));
+        assertThat(new String(entry.getBytes(), Charsets.UTF_8), is(JsonMapper.instance().write(representation)));
+        assertThat(entry.getMediaType(), is(MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    public void rerendersOnceMetamodelInvalidated() throws Exception {
+        final AtomicLong invalidationCount = new AtomicLong();
+        context.checking(new Expectations() {
+            {
+                allowing(mockSpecificationLoader).getInvalidationCount();
+                will(new CustomAction("invalidation count") {
+                    @Override
+                    public Object invoke(final Invocation invocation) throws Throwable {
+                        return invalidationCount.get();
+                    }
+                });
+                exactly(2).of(mockRenderer).render();
+                will(returnValue(representation));
+            }
+        });
+
+        final RepresentationCache.Entry entry = cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer);
+        invalidationCount.incrementAndGet();
+        final RepresentationCache.Entry entry2 = cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer);
+
+        assertThat(entry2, is(not(sameInstance(entry))));
+        // same content, so same ETag
+        assertThat(entry2.getETag(), is(entry.getETag()));
+    }
+
+    @Test
+    public void rerendersForDifferentSpecificationLoader() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(mockSpecificationLoader).getInvalidationCount();
+                will(returnValue(0L));
+                exactly(2).of(mockRenderer).render();
+                will(returnValue(representation));
+            }
+        });
+
+        final RepresentationCache.Entry entry = cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer);
+        final RepresentationCache.Entry entry2 = cache.lookup("http://localhost/domain-types/ABC", mockOtherSpecificationLoader, mockRenderer);
+
+        assertThat(entry2, is(not(sameInstance(entry))));
+    }
+
+    @Test
+    public void whenDisabled() throws Exception {
+        cache = new RepresentationCache(0);
+        context.checking(new Expectations() {
+            {
+                never(mockRenderer).render();
+            }
+        });
+
+        assertThat(cache.isEnabled(), is(false));
+        assertThat(cache.lookup("http://localhost/domain-types/ABC", mockSpecificationLoader, mockRenderer), is(nullValue()));
+    }
+
+}
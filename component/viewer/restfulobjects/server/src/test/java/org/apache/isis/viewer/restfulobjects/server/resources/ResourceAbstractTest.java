@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Date;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.specimpl.RequestImpl;
+import org.jboss.resteasy.util.DateUtil;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.version.Version;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.viewer.restfulobjects.server.ResourceContext;
+import org.apache.isis.viewer.restfulobjects.server.resources.ResourceAbstract.Caching;
+
+public class ResourceAbstractTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ResourceContext mockResourceContext;
+
+    private Version version;
+    private String eTag;
+    private MockHttpRequest httpRequest;
+
+    @Before
+    public void setUp() throws Exception {
+        // nb: not on a second boundary
+        version = Version.create(1L, "sven", new Date(1388534400123L));
+        final Response okResponse = ResourceAbstract.addLastModifiedAndETagIfAvailable(Response.ok(), version).build();
+        eTag = okResponse.getMetadata().getFirst(HttpHeaders.ETAG).toString();
+
+        httpRequest = MockHttpRequest.get("/objects/ABC/1");
+    }
+
+    private ResponseBuilder evaluate(final Version version) {
+        context.checking(new Expectations() {
+            {
+                allowing(mockResourceContext).getRequest();
+                will(returnValue(new RequestImpl(httpRequest)));
+                allowing(mockResourceContext).getHttpHeaders();
+                will(returnValue(httpRequest.getHttpHeaders()));
+            }
+        });
+        return ResourceAbstract.responseOfNotModifiedElseNull(mockResourceContext, version, Caching.NONE);
+    }
+
+    @Test
+    public void noConditionalHeaders() throws Exception {
+        assertThat(evaluate(version), is(nullValue()));
+    }
+
+    @Test
+    public void noVersion() throws Exception {
+        httpRequest.header(HttpHeaders.IF_NONE_MATCH, eTag);
+        assertThat(evaluate(null), is(nullValue()));
+    }
+
+    @Test
+    public void ifNoneMatch_whenMatches() throws Exception {
+        httpRequest.header(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        final ResponseBuilder builder = evaluate(version);
+
+        assertThat(builder, is(notNullValue()));
+        final Response response = builder.build();
+        assertThat(response.getStatus(), is(304));
+        assertThat(response.getEntity(), is(nullValue()));
+        assertThat(response.getMetadata().getFirst(HttpHeaders.ETAG).toString(), is(eTag));
+    }
+
+    @Test
+    public void ifNoneMatch_whenDoesNotMatch() throws Exception {
+        httpRequest.header(HttpHeaders.IF_NONE_MATCH, new EntityTag("20130101T000000.000Z", true).toString());
+        assertThat(evaluate(version), is(nullValue()));
+    }
+
+    @Test
+    public void ifNoneMatch_takesPrecedenceOverIfModifiedSince() throws Exception {
+        httpRequest.header(HttpHeaders.IF_NONE_MATCH, new EntityTag("20130101T000000.000Z", true).toString());
+        httpRequest.header(HttpHeaders.IF_MODIFIED_SINCE, DateUtil.formatDate(version.getTime()));
+        assertThat(evaluate(version), is(nullValue()));
+    }
+
+    @Test
+    public void ifModifiedSince_whenNotModified() throws Exception {
+        // the HTTP date loses the milliseconds of the version's time
+        httpRequest.header(HttpHeaders.IF_MODIFIED_SINCE, DateUtil.formatDate(version.getTime()));
+
+        final ResponseBuilder builder = evaluate(version);
+
+        assertThat(builder, is(notNullValue()));
+        assertThat(builder.build().getStatus(), is(304));
+    }
+
+    @Test
+    public void ifModifiedSince_whenModified() throws Exception {
+        httpRequest.header(HttpHeaders.IF_MODIFIED_SINCE, DateUtil.formatDate(new Date(version.getTime().getTime() - 1000L)));
+        assertThat(evaluate(version), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.tck.batch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.webserver.WebServer;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulClient;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.tck.IsisWebServerRule;
+import org.apache.isis.viewer.restfulobjects.tck.Util;
+
+public class Post_thenRepresentation_inRequestOrder_ok {
+
+    @Rule
+    public IsisWebServerRule webServerRule = new IsisWebServerRule();
+
+    protected RestfulClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        final WebServer webServer = webServerRule.getWebServer();
+        client = new RestfulClient(webServer.getBase());
+    }
+
+    @Test
+    public void entriesInRequestOrder_withStatusOfEach() throws Exception {
+
+        // given
+        final String firstHref = Util.domainObjectLink(client, "PrimitiveValuedEntities", "list", 0).getHref();
+        final String secondHref = Util.domainObjectLink(client, "PrimitiveValuedEntities", "list", 1).getHref();
+
+        final JsonRepresentation hrefs = JsonRepresentation.newArray();
+        hrefs.arrayAdd(secondHref + "/properties/intProperty");
+        hrefs.arrayAdd("services/PrimitiveValuedEntities");
+        hrefs.arrayAdd(firstHref);
+        hrefs.arrayAdd(firstHref + "?x-ro-domain-model=simple");
+        hrefs.arrayAdd(firstHref + "?x-ro-follow-links=links%5Brel%3Ddescribedby%5D");
+
+        // when
+        final Response response = client.getBatchResource().batch(new ByteArrayInputStream(hrefs.toString().getBytes("UTF-8")));
+        final RestfulResponse<JsonRepresentation> restfulResp = RestfulResponse.of(response);
+
+        // then
+        assertThat(restfulResp.getStatus(), is(HttpStatusCode.OK));
+        final JsonRepresentation entries = restfulResp.getEntity().getArray("value");
+        assertThat(entries.size(), is(5));
+
+        final JsonRepresentation property = entries.arrayGet(0);
+        assertThat(property.getString("href").endsWith(secondHref.substring(secondHref.indexOf("objects/")) + "/properties/intProperty"), is(true));
+        assertThat(property.getRepresentation("error"), is(nullValue()));
+        assertThat(property.getString("value.id"), is("intProperty"));
+
+        final JsonRepresentation service = entries.arrayGet(1);
+        assertThat(service.getString("href").endsWith("services/PrimitiveValuedEntities"), is(true));
+        assertThat(service.getInt("error.httpStatusCode"), is(HttpStatusCode.BAD_REQUEST.getStatusCode()));
+
+        final JsonRepresentation object = entries.arrayGet(2);
+        assertThat(object.getRepresentation("error"), is(nullValue()));
+        assertThat(object.getRepresentation("value"), is(not(nullValue())));
+        assertThat(object.getString("value.instanceId"), is(firstHref.substring(firstHref.lastIndexOf('/') + 1)));
+
+        // the sub-requests' own query parameters are honoured
+        final JsonRepresentation objectWithUnsupportedDomainModel = entries.arrayGet(3);
+        assertThat(objectWithUnsupportedDomainModel.getInt("error.httpStatusCode"), is(HttpStatusCode.BAD_REQUEST.getStatusCode()));
+
+        final JsonRepresentation objectWithFollowLinks = entries.arrayGet(4);
+        assertThat(objectWithFollowLinks.getRepresentation("error"), is(nullValue()));
+        assertThat(objectWithFollowLinks.getRepresentation("value.links[rel=describedby].value"), is(not(nullValue())));
+        assertThat(object.getRepresentation("value.links[rel=describedby].value"), is(nullValue()));
+    }
+
+}
@@ -20,6 +20,7 @@
 package org.apache.isis.viewer.wicket.model.models;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -87,6 +88,12 @@ public String getName(final EntityCollectionModel model) {
                 return facet.value();
             }
 
+            @Override
+            List<ObjectAdapter> loadPage(final EntityCollectionModel entityCollectionModel, final int first, final int count) {
+                final List<ObjectAdapterMemento> mementoPage = subList(entityCollectionModel.mementoList, first, count);
+                return Lists.newArrayList(Lists.transform(mementoPage, ObjectAdapterMemento.Functions.fromMemento(ConcurrencyChecking.NO_CHECK)));
+            }
+
             @Override
             public int getCount(final EntityCollectionModel model) {
                 return model.mementoList.size();
@@ -99,29 +106,57 @@ public int getCount(final EntityCollectionModel model) {
         PARENTED {
             @Override
             List<ObjectAdapter> load(final EntityCollectionModel entityCollectionModel) {
+                final List<Object> objectList = Lists.newArrayList(collectionPojoFor(entityCollectionModel));
+                sortIfRequired(entityCollectionModel, objectList);
+                return adaptersFor(objectList);
+            }
+
+            /**
+             * Only the pojos within the requested page are adapted.
+             * 
+             * <p>
+             * Moreover, unless the collection is {@link SortedByFacet sorted},
+             * the underlying collection is not copied (if it is a {@link List})
+             * or is iterated only as far as the end of the page; for lazily
+             * loaded collections (eg as mapped by JDO) this avoids resolving
+             * the entire collection.
+             */
+            @Override
+            List<ObjectAdapter> loadPage(final EntityCollectionModel entityCollectionModel, final int first, final int count) {
+                final Iterable<Object> objects = collectionPojoFor(entityCollectionModel);
+                final Iterable<Object> page;
+                if(entityCollectionModel.sortedBy != null) {
+                    final List<Object> objectList = Lists.newArrayList(objects);
+                    sortIfRequired(entityCollectionModel, objectList);
+                    page = subList(objectList, first, count);
+                } else if(objects instanceof List) {
+                    page = subList((List<Object>) objects, first, count);
+                } else {
+                    page = Iterables.limit(Iterables.skip(objects, first), count);
+                }
+                return adaptersFor(page);
+            }
+
+            @SuppressWarnings("unchecked")
+            private Iterable<Object> collectionPojoFor(final EntityCollectionModel entityCollectionModel) {
                 final ObjectAdapter adapter = entityCollectionModel.parentObjectAdapterMemento.getObjectAdapter(ConcurrencyChecking.NO_CHECK);
                 final OneToManyAssociation collection = entityCollectionModel.collectionMemento.getCollection();
                 final ObjectAdapter collectionAsAdapter = collection.get(adapter);
+                return (Iterable<Object>) collectionAsAdapter.getObject();
+            }
 
-                final List<Object> objectList = asIterable(collectionAsAdapter);
-
+            private void sortIfRequired(final EntityCollectionModel entityCollectionModel, final List<Object> objectList) {
                 final Class<? extends Comparator<?>> sortedBy = entityCollectionModel.sortedBy;
                 if(sortedBy != null) {
                     @SuppressWarnings("unchecked")
                     final Comparator<Object> comparator = (Comparator<Object>) InstanceUtil.createInstance(sortedBy);
                     Collections.sort(objectList, comparator);
                 }
-
-                final Iterable<ObjectAdapter> adapterIterable = Iterables.transform(objectList, ObjectAdapterFunctions.fromPojo(getAdapterManagerStatic()));
-                final List<ObjectAdapter> adapterList = Lists.newArrayList(adapterIterable);
-
-                return adapterList;
             }
 
-            @SuppressWarnings("unchecked")
-            private List<Object> asIterable(final ObjectAdapter collectionAsAdapter) {
-                final Iterable<Object> objects = (Iterable<Object>) collectionAsAdapter.getObject();
-                return Lists.newArrayList(objects);
+            private List<ObjectAdapter> adaptersFor(final Iterable<Object> objects) {
+                final Iterable<ObjectAdapter> adapterIterable = Iterables.transform(objects, ObjectAdapterFunctions.fromPojo(getAdapterManagerStatic()));
+                return Lists.newArrayList(adapterIterable);
             }
 
             @Override
@@ -137,12 +172,19 @@ public String getName(EntityCollectionModel model) {
 
             @Override
             public int getCount(EntityCollectionModel model) {
-                return load(model).size();
+                final Iterable<Object> objects = collectionPojoFor(model);
+                return objects instanceof Collection ? ((Collection<?>) objects).size() : Iterables.size(objects);
             }
         };
 
         abstract List<ObjectAdapter> load(EntityCollectionModel entityCollectionModel);
 
+        /**
+         * As per {@link #load(EntityCollectionModel)}, but for just a single
+         * page of the collection.
+         */
+        abstract List<ObjectAdapter> loadPage(EntityCollectionModel entityCollectionModel, int first, int count);
+
         abstract void setObject(EntityCollectionModel entityCollectionModel, List<ObjectAdapter> list);
 
         public abstract String getName(EntityCollectionModel entityCollectionModel);
@@ -323,6 +365,26 @@ protected List<ObjectAdapter> load() {
         return type.load(this);
     }
 
+    /**
+     * The {@link ObjectAdapter adapter}s for a single page of the collection,
+     * in the same order as would be {@link #load() load}ed for the whole
+     * collection.
+     * 
+     * <p>
+     * Unlike {@link #getObject()}, only the objects within the page are
+     * recreated as adapters (and the result is not cached by the model).
+     */
+    public List<ObjectAdapter> getObjectPage(final int first, final int count) {
+        return type.loadPage(this, first, count);
+    }
+
+    private static <T> List<T> subList(final List<T> list, final int first, final int count) {
+        final int size = list.size();
+        final int fromIndex = Math.min(Math.max(first, 0), size);
+        final int toIndex = Math.min(fromIndex + Math.max(count, 0), size);
+        return list.subList(fromIndex, toIndex);
+    }
+
     public ObjectSpecification getTypeOfSpecification() {
         if (typeOfSpec == null) {
             typeOfSpec = IsisContext.getSpecificationLoader().loadSpecification(typeOf);
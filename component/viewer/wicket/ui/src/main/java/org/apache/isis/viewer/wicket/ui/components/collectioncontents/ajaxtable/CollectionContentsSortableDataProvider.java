@@ -19,9 +19,12 @@
 
 package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
 
 import org.apache.wicket.extensions.ajax.markup.html.repeater.data.table.AjaxFallbackDefaultDataTable;
@@ -49,11 +52,26 @@ public CollectionContentsSortableDataProvider(final EntityCollectionModel model)
         this.model = model;
     }
 
+    /**
+     * If not sorted, then only the requested page is obtained from the
+     * {@link EntityCollectionModel model} (and so only those objects are
+     * recreated as adapters).
+     * 
+     * <p>
+     * Otherwise the whole collection is loaded and sorted; each object's sort
+     * key is obtained just once (rather than once per comparison).
+     */
     @Override
     public Iterator<ObjectAdapter> iterator(final long first, final long count) {
-        List<ObjectAdapter> adapters = sortedIfRequired(model.getObject(), this.getSort());
+        final ObjectAssociation sortProperty = sortPropertyFor(this.getSort());
+        if(sortProperty == null) {
+            return model.getObjectPage((int)first, (int)count).iterator();
+        }
         
-        return adapters.subList((int)first, (int)(first + count)).iterator();
+        final List<ObjectAdapter> adapters = sortedBy(model.getObject(), sortProperty, getSort().isAscending());
+        final int fromIndex = (int) Math.min(first, adapters.size());
+        final int toIndex = (int) Math.min(first + count, adapters.size());
+        return adapters.subList(fromIndex, toIndex).iterator();
     }
 
     @Override
@@ -63,7 +81,7 @@ public IModel<ObjectAdapter> model(final ObjectAdapter adapter) {
 
     @Override
     public long size() {
-        return model.getObject().size();
+        return model.getCount();
     }
 
     @Override
@@ -73,25 +91,56 @@ public void detach() {
     }
 
     
-    private List<ObjectAdapter> sortedIfRequired(List<ObjectAdapter> adapters, final SortParam<String> sort) {
+    private ObjectAssociation sortPropertyFor(final SortParam<String> sort) {
         if(sort == null) {
-            return adapters;
+            return null;
         }
         
         final ObjectSpecification elementSpec = model.getTypeOfSpecification();
         
         final String sortPropertyId = sort.getProperty();
         try {
-            final ObjectAssociation sortProperty = elementSpec.getAssociation(sortPropertyId);
-            if(sortProperty == null) {
-                return adapters;
-            }
-            
-            Ordering<ObjectAdapter> ordering = orderingBy(sortProperty, sort.isAscending());
-            return ordering.sortedCopy(adapters);
+            return elementSpec.getAssociation(sortPropertyId);
         } catch(ObjectSpecificationException ex) {
             // eg invalid propertyId
-            return adapters;
+            return null;
+        }
+    }
+
+    static List<ObjectAdapter> sortedBy(final List<ObjectAdapter> adapters, final ObjectAssociation sortProperty, final boolean ascending) {
+        final List<SortKeyed> keyed = Lists.newArrayListWithCapacity(adapters.size());
+        for (final ObjectAdapter adapter : adapters) {
+            keyed.add(new SortKeyed(adapter, sortProperty.get(adapter)));
+        }
+        final Ordering<ObjectAdapter> naturalOrdering = 
+                ascending 
+                    ? ORDERING_BY_NATURAL.nullsFirst() 
+                    : ORDERING_BY_NATURAL.nullsLast();
+        final Ordering<SortKeyed> ordering = naturalOrdering.onResultOf(SortKeyed.KEY);
+        Collections.sort(keyed, ascending ? ordering : ordering.reverse());
+        return Lists.transform(keyed, SortKeyed.ADAPTER);
+    }
+
+    private static class SortKeyed {
+        static final Function<SortKeyed, ObjectAdapter> KEY = new Function<SortKeyed, ObjectAdapter>() {
+            @Override
+            public ObjectAdapter apply(final SortKeyed input) {
+                return input.key;
+            }
+        };
+        static final Function<SortKeyed, ObjectAdapter> ADAPTER = new Function<SortKeyed, ObjectAdapter>() {
+            @Override
+            public ObjectAdapter apply(final SortKeyed input) {
+                return input.adapter;
+            }
+        };
+
+        private final ObjectAdapter adapter;
+        private final ObjectAdapter key;
+
+        SortKeyed(final ObjectAdapter adapter, final ObjectAdapter key) {
+            this.adapter = adapter;
+            this.key = key;
         }
     }
 
@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.apache.wicket.extensions.markup.html.repeater.util.SortParam;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
+
+public class CollectionContentsSortableDataProviderTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private EntityCollectionModel mockModel;
+    @Mock
+    private ObjectSpecification mockElementSpec;
+    @Mock
+    private ObjectAssociation mockNameProperty;
+
+    @Mock
+    private ObjectAdapter mockAdapter1;
+    @Mock
+    private ObjectAdapter mockAdapter2;
+    @Mock
+    private ObjectAdapter mockAdapter3;
+
+    @Mock
+    private ObjectAdapter mockKey1;
+    @Mock
+    private ObjectAdapter mockKey2;
+    @Mock
+    private ObjectAdapter mockKey3;
+
+    private CollectionContentsSortableDataProvider dataProvider;
+
+    @Before
+    public void setUp() throws Exception {
+        dataProvider = new CollectionContentsSortableDataProvider(mockModel);
+    }
+
+    @Test
+    public void size_usesCountRatherThanLoadingCollection() throws Exception {
+        context.checking(new Expectations() {
+            {
+                oneOf(mockModel).getCount();
+                will(returnValue(50000));
+            }
+        });
+
+        assertThat(dataProvider.size(), is(50000L));
+    }
+
+    @Test
+    public void iterator_whenUnsorted_loadsOnlyRequestedPage() throws Exception {
+        context.checking(new Expectations() {
+            {
+                oneOf(mockModel).getObjectPage(20, 10);
+                will(returnValue(Arrays.asList(mockAdapter1, mockAdapter2)));
+            }
+        });
+
+        assertThat(Lists.newArrayList(dataProvider.iterator(20, 10)), is(Arrays.asList(mockAdapter1, mockAdapter2)));
+    }
+
+    @Test
+    public void iterator_whenSortedByUnknownProperty_loadsOnlyRequestedPage() throws Exception {
+        dataProvider.setSort(new SortParam<String>("unknown", true));
+        context.checking(new Expectations() {
+            {
+                allowing(mockModel).getTypeOfSpecification();
+                will(returnValue(mockElementSpec));
+                allowing(mockElementSpec).getAssociation("unknown");
+                will(returnValue(null));
+
+                oneOf(mockModel).getObjectPage(0, 10);
+                will(returnValue(Collections.<ObjectAdapter>emptyList()));
+            }
+        });
+
+        assertThat(dataProvider.iterator(0, 10).hasNext(), is(false));
+    }
+
+    @Test
+    public void sortedBy_ascending() throws Exception {
+        expectSortKeys();
+
+        final List<ObjectAdapter> sorted = CollectionContentsSortableDataProvider.sortedBy(Arrays.asList(mockAdapter1, mockAdapter2, mockAdapter3), mockNameProperty, true);
+        assertThat(sorted, is(Arrays.asList(mockAdapter2, mockAdapter3, mockAdapter1)));
+    }
+
+    @Test
+    public void sortedBy_descending() throws Exception {
+        expectSortKeys();
+
+        final List<ObjectAdapter> sorted = CollectionContentsSortableDataProvider.sortedBy(Arrays.asList(mockAdapter1, mockAdapter2, mockAdapter3), mockNameProperty, false);
+        assertThat(sorted, is(Arrays.asList(mockAdapter1, mockAdapter3, mockAdapter2)));
+    }
+
+    private void expectSortKeys() {
+        context.checking(new Expectations() {
+            {
+                // each sort key obtained only once
+                oneOf(mockNameProperty).get(mockAdapter1);
+                will(returnValue(mockKey1));
+                oneOf(mockNameProperty).get(mockAdapter2);
+                will(returnValue(mockKey2));
+                oneOf(mockNameProperty).get(mockAdapter3);
+                will(returnValue(mockKey3));
+
+                allowing(mockKey1).getObject();
+                will(returnValue("Zebedee"));
+                allowing(mockKey2).getObject();
+                will(returnValue("Andrew"));
+                allowing(mockKey3).getObject();
+                will(returnValue("Mary"));
+            }
+        });
+    }
+
+}
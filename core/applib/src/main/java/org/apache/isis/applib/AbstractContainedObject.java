@@ -27,6 +27,7 @@
 import org.apache.isis.applib.annotation.Hidden;
 import org.apache.isis.applib.filter.Filter;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.criteria.Criterion;
 import org.apache.isis.applib.security.UserMemento;
 
 /**
@@ -175,6 +176,15 @@ protected <T> List<T> allMatches(final Query<T> query) {
         return getContainer().allMatches(query);
     }
 
+    /**
+     * Convenience method that delegates to {@link DomainObjectContainer}.
+     * 
+     * @see DomainObjectContainer#allMatches(Class, Criterion, long...)
+     */
+    protected <T> List<T> allMatches(final Class<T> ofType, final Criterion criterion, long... range) {
+        return getContainer().allMatches(ofType, criterion, range);
+    }
+
     // //////////////////////////////////////
 
     /**
@@ -226,6 +236,15 @@ protected <T> T firstMatch(final Query<T> query) {
         return getContainer().firstMatch(query);
     }
 
+    /**
+     * Convenience method that delegates to {@link DomainObjectContainer}.
+     * 
+     * @see DomainObjectContainer#firstMatch(Class, Criterion)
+     */
+    protected <T> T firstMatch(final Class<T> ofType, final Criterion criterion) {
+        return getContainer().firstMatch(ofType, criterion);
+    }
+
     // //////////////////////////////////////
 
 
@@ -277,6 +296,15 @@ protected <T> T uniqueMatch(final Query<T> query) {
         return getContainer().uniqueMatch(query);
     }
 
+    /**
+     * Convenience method that delegates to {@link DomainObjectContainer}.
+     * 
+     * @see DomainObjectContainer#uniqueMatch(Class, Criterion)
+     */
+    protected <T> T uniqueMatch(final Class<T> ofType, final Criterion criterion) {
+        return getContainer().uniqueMatch(ofType, criterion);
+    }
+
     // //////////////////////////////////////
 
     /**
@@ -26,6 +26,9 @@
 import org.apache.isis.applib.annotation.Aggregated;
 import org.apache.isis.applib.filter.Filter;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryFindByCriteria;
+import org.apache.isis.applib.query.criteria.Criteria;
+import org.apache.isis.applib.query.criteria.Criterion;
 import org.apache.isis.applib.security.UserMemento;
 
 /**
@@ -472,6 +475,19 @@ public interface DomainObjectContainer {
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Returns all the instances of the specified type (including subtypes) that
+     * satisfy the {@link Criterion} (built using {@link Criteria}).
+     * 
+     * <p>
+     * Unlike {@link #allMatches(Class, Predicate, long...)}, the criterion is evaluated
+     * by the object store rather than client-side; equivalent to submitting a
+     * {@link QueryFindByCriteria}.
+     * 
+     * @param range 2 longs, specifying 0-based start and count.
+     */
+    <T> List<T> allMatches(Class<T> ofType, Criterion criterion, long... range);
+
     // //////////////////////////////////////
 
     /**
@@ -523,6 +539,16 @@ public interface DomainObjectContainer {
      */
     <T> T firstMatch(Query<T> query);
 
+    /**
+     * Returns the first instance of the specified type (including subtypes)
+     * that satisfies the {@link Criterion}, or <tt>null</tt> if none.
+     * 
+     * <p>
+     * The criterion is evaluated by the object store, which need fetch no more
+     * than the first matching instance.
+     */
+    <T> T firstMatch(Class<T> ofType, Criterion criterion);
+
     // //////////////////////////////////////
 
     /**
@@ -595,4 +621,18 @@ public interface DomainObjectContainer {
      */
     <T> T uniqueMatch(Query<T> query);
 
+    /**
+     * Find the only instance of the specified type (including subtypes) that
+     * satisfies the {@link Criterion}.
+     * 
+     * <p>
+     * If no instance is found then <tt>null</tt> will be return, while if there
+     * is more that one instances a run-time exception will be thrown.
+     * 
+     * <p>
+     * The criterion is evaluated by the object store, which need fetch no more
+     * than two matching instances.
+     */
+    <T> T uniqueMatch(Class<T> ofType, Criterion criterion);
+
 }
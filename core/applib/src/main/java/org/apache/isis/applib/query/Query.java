@@ -42,7 +42,9 @@
  * can use the {@link Predicate} interface to similar effect, for example in
  * {@link DomainObjectContainer#allMatches(Class, Predicate, long...)}). Note that the
  * predicate is applied within the {@link DomainObjectContainer} (ie client-side)
- * rather than being pushed back to the object store.
+ * rather than being pushed back to the object store.  The exception is a
+ * {@link org.apache.isis.applib.query.criteria.Criterion}, which all object stores
+ * are expected to evaluate (see {@link QueryFindByCriteria}).
  */
 public interface Query<T> extends Serializable {
 
@@ -0,0 +1,57 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import org.apache.isis.applib.query.criteria.Criteria;
+import org.apache.isis.applib.query.criteria.Criterion;
+
+/**
+ * Finds the instances of a type that satisfy a {@link Criterion}
+ * (built using {@link Criteria}).
+ * 
+ * <p>
+ * Object stores are expected to evaluate the criterion themselves, rather than
+ * have every instance loaded and then filtered.
+ */
+public class QueryFindByCriteria<T> extends QueryBuiltInAbstract<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Criterion criterion;
+
+    public QueryFindByCriteria(final Class<T> type, final Criterion criterion, final long ... range) {
+        super(type, range);
+        this.criterion = criterion;
+    }
+
+    public QueryFindByCriteria(final String typeName, final Criterion criterion, final long ... range) {
+        super(typeName, range);
+        this.criterion = criterion;
+    }
+
+    public Criterion getCriterion() {
+        return criterion;
+    }
+
+    @Override
+    public String getDescription() {
+        return getResultTypeName() + " (matching " + criterion + ")";
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import java.util.Collection;
+
+/**
+ * Factory methods for {@link Criterion}s.
+ * 
+ * <p>
+ * For example:
+ * <pre>
+ * import static org.apache.isis.applib.query.criteria.Criteria.*;
+ * ...
+ * List&lt;Customer&gt; customers = 
+ *     allMatches(Customer.class, 
+ *                and(eq("lastName", "Smith"), ge("creditLimit", limit)));
+ * </pre>
+ * 
+ * <p>
+ * Properties are identified by name (as per the JavaBean convention), and
+ * may be a path navigating through references, for example 
+ * <tt>"address.postcode"</tt>.
+ */
+public final class Criteria {
+
+    private Criteria() {
+    }
+
+    /**
+     * If the value is <tt>null</tt>, then equivalent to {@link #isNull(String)}.
+     */
+    public static Criterion eq(final String property, final Object value) {
+        return value != null 
+                ? new PropertyCriterion(property, Operator.EQ, value) 
+                : isNull(property);
+    }
+
+    /**
+     * If the value is <tt>null</tt>, then equivalent to {@link #notNull(String)}.
+     */
+    public static Criterion ne(final String property, final Object value) {
+        return value != null 
+                ? new PropertyCriterion(property, Operator.NE, value) 
+                : notNull(property);
+    }
+
+    public static Criterion lt(final String property, final Comparable<?> value) {
+        return new PropertyCriterion(property, Operator.LT, notNull(value, "value"));
+    }
+
+    public static Criterion le(final String property, final Comparable<?> value) {
+        return new PropertyCriterion(property, Operator.LE, notNull(value, "value"));
+    }
+
+    public static Criterion gt(final String property, final Comparable<?> value) {
+        return new PropertyCriterion(property, Operator.GT, notNull(value, "value"));
+    }
+
+    public static Criterion ge(final String property, final Comparable<?> value) {
+        return new PropertyCriterion(property, Operator.GE, notNull(value, "value"));
+    }
+
+    public static Criterion isNull(final String property) {
+        return new PropertyCriterion(property, Operator.IS_NULL, null);
+    }
+
+    public static Criterion notNull(final String property) {
+        return new PropertyCriterion(property, Operator.NOT_NULL, null);
+    }
+
+    public static Criterion startsWith(final String property, final String value) {
+        return new PropertyCriterion(property, Operator.STARTS_WITH, notNull(value, "value"));
+    }
+
+    public static Criterion endsWith(final String property, final String value) {
+        return new PropertyCriterion(property, Operator.ENDS_WITH, notNull(value, "value"));
+    }
+
+    public static Criterion contains(final String property, final String value) {
+        return new PropertyCriterion(property, Operator.CONTAINS, notNull(value, "value"));
+    }
+
+    public static Criterion in(final String property, final Collection<?> values) {
+        return new PropertyCriterion(property, Operator.IN, notNull(values, "values"));
+    }
+
+    public static Criterion and(final Criterion... criteria) {
+        return new Junction(Junction.Type.AND, criteria);
+    }
+
+    public static Criterion or(final Criterion... criteria) {
+        return new Junction(Junction.Type.OR, criteria);
+    }
+
+    public static Criterion not(final Criterion criterion) {
+        return new Negation(notNull(criterion, "criterion"));
+    }
+
+    private static <T> T notNull(final T value, final String name) {
+        if(value == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import java.io.Serializable;
+
+import com.google.common.base.Predicate;
+
+import org.apache.isis.applib.DomainObjectContainer;
+import org.apache.isis.applib.query.QueryFindByCriteria;
+
+/**
+ * A (serializable) condition on the properties of a domain object, built up
+ * using the factory methods of {@link Criteria}.
+ * 
+ * <p>
+ * Because a {@link Criterion} is also a {@link Predicate}, it can be passed to
+ * any of the predicate-based finders of the {@link DomainObjectContainer}, for
+ * example {@link DomainObjectContainer#allMatches(Class, Predicate, long...)}.
+ * Unlike an arbitrary {@link Predicate}, though, the criterion is not evaluated 
+ * client-side; instead it is submitted as a {@link QueryFindByCriteria} so that 
+ * the object store can evaluate it (for example, by translating it into the 
+ * query language of the underlying datastore).
+ */
+public abstract class Criterion implements Predicate<Object>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * For object stores to translate a {@link Criterion} into their own
+     * representation.
+     */
+    public interface Visitor<R> {
+        R visit(PropertyCriterion criterion);
+        R visit(Junction junction);
+        R visit(Negation negation);
+    }
+
+    Criterion() {
+    }
+
+    public abstract <R> R accept(Visitor<R> visitor);
+
+    /**
+     * Evaluates this criterion against the (pojo) domain object.
+     */
+    @Override
+    public abstract boolean apply(Object domainObject);
+
+    public Criterion and(final Criterion other) {
+        return Criteria.and(this, other);
+    }
+
+    public Criterion or(final Criterion other) {
+        return Criteria.or(this, other);
+    }
+
+}
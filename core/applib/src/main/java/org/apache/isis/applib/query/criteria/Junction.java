@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A conjunction or disjunction of {@link Criterion}s.
+ * 
+ * <p>
+ * Obtain using {@link Criteria#and(Criterion...)} or {@link Criteria#or(Criterion...)}.
+ */
+public class Junction extends Criterion {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        AND, OR
+    }
+
+    private final Type type;
+    private final List<Criterion> criteria;
+
+    Junction(final Type type, final Criterion... criteria) {
+        if(criteria.length == 0) {
+            throw new IllegalArgumentException("at least one criterion is required");
+        }
+        this.type = type;
+        this.criteria = Collections.unmodifiableList(Arrays.asList(criteria));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public <R> R accept(final Visitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public boolean apply(final Object domainObject) {
+        for (final Criterion criterion : criteria) {
+            final boolean applies = criterion.apply(domainObject);
+            if(type == Type.AND && !applies) {
+                return false;
+            } 
+            if(type == Type.OR && applies) {
+                return true;
+            }
+        }
+        return type == Type.AND;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("(");
+        for (final Criterion criterion : criteria) {
+            if(buf.length() > 1) {
+                buf.append(" ").append(type).append(" ");
+            }
+            buf.append(criterion);
+        }
+        return buf.append(")").toString();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+/**
+ * The negation of a {@link Criterion}.
+ * 
+ * <p>
+ * Obtain using {@link Criteria#not(Criterion)}.
+ */
+public class Negation extends Criterion {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Criterion criterion;
+
+    Negation(final Criterion criterion) {
+        this.criterion = criterion;
+    }
+
+    public Criterion getCriterion() {
+        return criterion;
+    }
+
+    @Override
+    public <R> R accept(final Visitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public boolean apply(final Object domainObject) {
+        return !criterion.apply(domainObject);
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + criterion;
+    }
+}
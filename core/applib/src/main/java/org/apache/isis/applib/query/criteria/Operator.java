@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import java.util.Collection;
+
+/**
+ * The comparison made by a {@link PropertyCriterion} between the value of the
+ * property and the value of the criterion.
+ */
+public enum Operator {
+    EQ {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && propertyValue.equals(value);
+        }
+    },
+    NE {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && !propertyValue.equals(value);
+        }
+    },
+    LT {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && compare(propertyValue, value) < 0;
+        }
+    },
+    LE {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && compare(propertyValue, value) <= 0;
+        }
+    },
+    GT {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && compare(propertyValue, value) > 0;
+        }
+    },
+    GE {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && compare(propertyValue, value) >= 0;
+        }
+    },
+    IS_NULL {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue == null;
+        }
+    },
+    NOT_NULL {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null;
+        }
+    },
+    STARTS_WITH {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && propertyValue.toString().startsWith((String) value);
+        }
+    },
+    ENDS_WITH {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && propertyValue.toString().endsWith((String) value);
+        }
+    },
+    CONTAINS {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && propertyValue.toString().contains((String) value);
+        }
+    },
+    IN {
+        @Override
+        boolean evaluate(final Object propertyValue, final Object value) {
+            return propertyValue != null && ((Collection<?>) value).contains(propertyValue);
+        }
+    };
+
+    /**
+     * Whether this operator takes a value (as opposed to just testing for <tt>null</tt>).
+     */
+    public boolean hasValue() {
+        return this != IS_NULL && this != NOT_NULL;
+    }
+
+    abstract boolean evaluate(Object propertyValue, Object value);
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(final Object propertyValue, final Object value) {
+        return ((Comparable) propertyValue).compareTo(value);
+    }
+}
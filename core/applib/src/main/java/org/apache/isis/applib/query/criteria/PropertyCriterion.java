@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Compares the value of a property (or path of properties) of a domain object
+ * using an {@link Operator}.
+ * 
+ * <p>
+ * Obtain using the factory methods of {@link Criteria}.
+ */
+public class PropertyCriterion extends Criterion {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String property;
+    private final Operator operator;
+    private final Object value;
+
+    PropertyCriterion(final String property, final Operator operator, final Object value) {
+        if(property == null || property.length() == 0) {
+            throw new IllegalArgumentException("property is required");
+        }
+        this.property = property;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * The name of the property, or a <tt>.</tt>-separated path of property names.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * The {@link #getProperty() property} split into its individual property names.
+     */
+    public String[] getPropertyPath() {
+        return property.split("\\.");
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * The value to compare against; <tt>null</tt> if the {@link #getOperator() operator}
+     * does not {@link Operator#hasValue() take a value}.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public <R> R accept(final Visitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public boolean apply(final Object domainObject) {
+        return operator.evaluate(valueOf(domainObject), value);
+    }
+
+    private Object valueOf(final Object domainObject) {
+        Object current = domainObject;
+        for (final String propertyName : getPropertyPath()) {
+            if(current == null) {
+                return null;
+            }
+            current = invokeGetter(current, propertyName);
+        }
+        return current;
+    }
+
+    private static Object invokeGetter(final Object domainObject, final String propertyName) {
+        final Method getter = getterFor(domainObject.getClass(), propertyName);
+        try {
+            return getter.invoke(domainObject);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not read property '" + propertyName + "' of " + domainObject.getClass().getName(), e);
+        } catch (final InvocationTargetException e) {
+            throw new IllegalArgumentException("Could not read property '" + propertyName + "' of " + domainObject.getClass().getName(), e.getTargetException());
+        }
+    }
+
+    private static Method getterFor(final Class<?> cls, final String propertyName) {
+        final String capitalized = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (final String prefix : new String[]{"get", "is"}) {
+            try {
+                return cls.getMethod(prefix + capitalized);
+            } catch (final NoSuchMethodException e) {
+                // try next
+            }
+        }
+        throw new IllegalArgumentException("No such property '" + propertyName + "' for " + cls.getName());
+    }
+
+    @Override
+    public String toString() {
+        return property + " " + operator + (operator.hasValue() ? " " + value : "");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query.criteria;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CriteriaTest {
+
+    public static class Address {
+        private final String city;
+        public Address(final String city) {
+            this.city = city;
+        }
+        public String getCity() {
+            return city;
+        }
+    }
+
+    public static class Customer {
+        private final String name;
+        private final int age;
+        private final boolean active;
+        private final Address address;
+        public Customer(final String name, final int age, final boolean active, final Address address) {
+            this.name = name;
+            this.age = age;
+            this.active = active;
+            this.address = address;
+        }
+        public String getName() {
+            return name;
+        }
+        public int getAge() {
+            return age;
+        }
+        public boolean isActive() {
+            return active;
+        }
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    private final Customer fred = new Customer("Fred", 42, true, new Address("London"));
+    private final Customer mary = new Customer("Mary", 25, false, null);
+
+    @Test
+    public void eq() {
+        assertThat(Criteria.eq("name", "Fred").apply(fred), is(true));
+        assertThat(Criteria.eq("name", "Fred").apply(mary), is(false));
+        assertThat(Criteria.eq("address", null).apply(mary), is(true));
+    }
+
+    @Test
+    public void comparisons() {
+        assertThat(Criteria.gt("age", 30).apply(fred), is(true));
+        assertThat(Criteria.gt("age", 30).apply(mary), is(false));
+        assertThat(Criteria.le("age", 25).apply(mary), is(true));
+        assertThat(Criteria.lt("age", 25).apply(mary), is(false));
+    }
+
+    @Test
+    public void strings() {
+        assertThat(Criteria.startsWith("name", "Fr").apply(fred), is(true));
+        assertThat(Criteria.endsWith("name", "ry").apply(fred), is(false));
+        assertThat(Criteria.contains("name", "ar").apply(mary), is(true));
+    }
+
+    @Test
+    public void in() {
+        assertThat(Criteria.in("age", Arrays.asList(25, 26)).apply(mary), is(true));
+        assertThat(Criteria.in("age", Arrays.asList(25, 26)).apply(fred), is(false));
+    }
+
+    @Test
+    public void booleanGetter() {
+        assertThat(Criteria.eq("active", true).apply(fred), is(true));
+        assertThat(Criteria.eq("active", true).apply(mary), is(false));
+    }
+
+    @Test
+    public void propertyPath() {
+        assertThat(Criteria.eq("address.city", "London").apply(fred), is(true));
+        assertThat(Criteria.eq("address.city", "London").apply(mary), is(false));
+    }
+
+    @Test
+    public void junctionsAndNegation() {
+        final Criterion criterion = Criteria.or(Criteria.gt("age", 40), Criteria.eq("name", "Mary"));
+        assertThat(criterion.apply(fred), is(true));
+        assertThat(criterion.apply(mary), is(true));
+        assertThat(Criteria.and(Criteria.gt("age", 40), Criteria.eq("name", "Mary")).apply(fred), is(false));
+        assertThat(Criteria.not(Criteria.isNull("address")).apply(fred), is(true));
+        assertThat(Criteria.eq("age", 42).and(Criteria.notNull("address")).apply(fred), is(true));
+    }
+
+}
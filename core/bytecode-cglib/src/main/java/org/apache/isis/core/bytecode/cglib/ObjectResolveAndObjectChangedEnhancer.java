@@ -29,12 +29,8 @@
 import net.sf.cglib.proxy.MethodProxy;
 
 import org.apache.isis.core.commons.lang.ArrayExtensions;
-import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils;
-import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils.ImperativeFacetFlags;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
-import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.CglibEnhanced;
-import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.runtime.bytecode.ObjectResolveAndObjectChangedEnhancerAbstract;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectChanger;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectResolver;
@@ -61,23 +57,15 @@ protected void createCallback() {
             @Override
             public Object intercept(final Object proxied, final Method proxiedMethod, final Object[] args, final MethodProxy proxyMethod) throws Throwable {
 
-                final boolean ignore = proxiedMethod.getDeclaringClass().equals(Object.class);
-                ImperativeFacetFlags flags = null;
+                final MethodDispatch dispatch = dispatchFor(proxiedMethod);
 
-                if (!ignore) {
-                    final ObjectSpecificationDefault targetObjSpec = getJavaSpecificationOfOwningClass(proxiedMethod);
-                    final ObjectMember member = targetObjSpec.getMember(proxiedMethod);
-
-                    flags = ImperativeFacetUtils.getImperativeFacetFlags(member, proxiedMethod);
-
-                    if (flags.impliesResolve()) {
-                        objectResolver.resolve(proxied, member.getName());
-                    }
+                if (dispatch.impliesResolve()) {
+                    objectResolver.resolve(proxied, dispatch.getMemberName());
                 }
 
                 final Object proxiedReturn = proxyMethod.invokeSuper(proxied, args);
 
-                if (!ignore && flags.impliesObjectChanged()) {
+                if (dispatch.impliesObjectChanged()) {
                     objectChanger.objectChanged(proxied);
                 }
 
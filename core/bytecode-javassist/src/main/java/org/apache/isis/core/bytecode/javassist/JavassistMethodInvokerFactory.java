@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.bytecode.javassist;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.MapMaker;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.core.metamodel.methodutils.MethodInvoker;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactory;
+
+/**
+ * Generates (using javassist) a {@link MethodInvoker} class per method, that
+ * calls the method directly (rather than reflectively).
+ * 
+ * <p>
+ * The generated class is defined in the classloader of the method's declaring
+ * class; methods that cannot be called from outside their package (that is,
+ * non-public methods or methods of non-public classes) are left to be invoked 
+ * reflectively.
+ * 
+ * <p>
+ * Unlike {@link Method#invoke(Object, Object...)}, an argument of the wrong type 
+ * (or a <tt>null</tt> for a primitive) is reported as an 
+ * {@link java.lang.reflect.InvocationTargetException} rather than an
+ * {@link IllegalArgumentException}.
+ */
+public class JavassistMethodInvokerFactory implements MethodInvokerFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JavassistMethodInvokerFactory.class);
+
+    private static final Map<Class<?>, String> UNBOXING_BY_PRIMITIVE = ImmutableMap.<Class<?>, String>builder()
+            .put(boolean.class, "((java.lang.Boolean) %s).booleanValue()")
+            .put(byte.class, "((java.lang.Byte) %s).byteValue()")
+            .put(char.class, "((java.lang.Character) %s).charValue()")
+            .put(short.class, "((java.lang.Short) %s).shortValue()")
+            .put(int.class, "((java.lang.Integer) %s).intValue()")
+            .put(long.class, "((java.lang.Long) %s).longValue()")
+            .put(float.class, "((java.lang.Float) %s).floatValue()")
+            .put(double.class, "((java.lang.Double) %s).doubleValue()")
+            .build();
+
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private final ClassPool classPool = new ClassPool(true);
+    /**
+     * Weakly keyed, so as not to prevent (eg webapp) class loaders from being garbage collected; the
+     * {@link LoaderClassPath}s appended to the pool only hold weak references to them, too.
+     */
+    private final Map<ClassLoader, Boolean> classLoadersOnPath = new MapMaker().weakKeys().makeMap();
+
+    @Override
+    public synchronized MethodInvoker createInvoker(final Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final ClassLoader classLoader = declaringClass.getClassLoader();
+        if (classLoader == null || !isAccessible(method)) {
+            return null;
+        }
+        appendClassPathFor(classLoader);
+
+        final String invokerClassName = declaringClass.getName() + "$$IsisInvoker_" + method.getName() + "_" + counter.incrementAndGet();
+        final CtClass invokerCtClass = classPool.makeClass(invokerClassName);
+        try {
+            invokerCtClass.addInterface(classPool.get(MethodInvoker.class.getName()));
+            invokerCtClass.addField(CtField.make("private final java.lang.reflect.Method method;", invokerCtClass));
+            invokerCtClass.addConstructor(CtNewConstructor.make("public " + invokerCtClass.getSimpleName() + "(java.lang.reflect.Method method) { this.method = $1; }", invokerCtClass));
+            invokerCtClass.addMethod(CtNewMethod.make("public java.lang.reflect.Method getMethod() { return method; }", invokerCtClass));
+            invokerCtClass.addMethod(CtNewMethod.make(invokeMethodSource(method), invokerCtClass));
+
+            final Class<?> invokerClass = invokerCtClass.toClass(classLoader, declaringClass.getProtectionDomain());
+            return (MethodInvoker) invokerClass.getConstructor(Method.class).newInstance(method);
+        } catch (final CannotCompileException e) {
+            LOG.warn("unable to generate invoker for " + method, e);
+            return null;
+        } catch (final Exception e) {
+            LOG.warn("unable to instantiate invoker for " + method, e);
+            return null;
+        } finally {
+            invokerCtClass.detach();
+        }
+    }
+
+    private void appendClassPathFor(final ClassLoader classLoader) {
+        if (classLoadersOnPath.put(classLoader, Boolean.TRUE) == null) {
+            classPool.appendClassPath(new LoaderClassPath(classLoader));
+        }
+    }
+
+    private static boolean isAccessible(final Method method) {
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> cls = method.getDeclaringClass(); cls != null; cls = cls.getEnclosingClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String invokeMethodSource(final Method method) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+        final StringBuilder buf = new StringBuilder();
+        buf.append("public Object invoke(Object target, Object[] args) throws java.lang.IllegalAccessException, java.lang.reflect.InvocationTargetException {");
+        buf.append("int argCount = 0; if ($2 != null) { argCount = $2.length; }");
+        buf.append("if (argCount != ").append(parameterTypes.length).append(") { throw new java.lang.IllegalArgumentException(\"wrong number of arguments\"); }");
+        if (!isStatic) {
+            buf.append("if ($1 == null) { throw new java.lang.NullPointerException(); }");
+        }
+        buf.append("try {");
+
+        final StringBuilder call = new StringBuilder();
+        if (isStatic) {
+            call.append(typeName(method.getDeclaringClass()));
+        } else {
+            call.append("((").append(typeName(method.getDeclaringClass())).append(") $1)");
+        }
+        call.append(".").append(method.getName()).append("(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                call.append(", ");
+            }
+            final String arg = "$2[" + i + "]";
+            final Class<?> parameterType = parameterTypes[i];
+            if (parameterType.isPrimitive()) {
+                call.append(String.format(UNBOXING_BY_PRIMITIVE.get(parameterType), arg));
+            } else {
+                call.append("(").append(typeName(parameterType)).append(") ").append(arg);
+            }
+        }
+        call.append(")");
+
+        if (method.getReturnType() == void.class) {
+            buf.append(call).append("; return null;");
+        } else {
+            buf.append("return ($w) ").append(call).append(";");
+        }
+        buf.append("} catch (java.lang.Throwable ex) { throw new java.lang.reflect.InvocationTargetException(ex); }");
+        buf.append("}");
+        return buf.toString();
+    }
+
+    private static String typeName(final Class<?> cls) {
+        return cls.isArray() ? typeName(cls.getComponentType()) + "[]" : cls.getName();
+    }
+
+}
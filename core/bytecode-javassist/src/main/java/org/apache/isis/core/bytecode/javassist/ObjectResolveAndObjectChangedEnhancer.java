@@ -20,6 +20,9 @@
 package org.apache.isis.core.bytecode.javassist;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
 
 import javassist.util.proxy.MethodFilter;
 import javassist.util.proxy.MethodHandler;
@@ -28,11 +31,7 @@
 
 import org.apache.isis.core.commons.exceptions.IsisException;
 import org.apache.isis.core.commons.lang.ArrayExtensions;
-import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils;
-import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils.ImperativeFacetFlags;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
-import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
-import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.runtime.bytecode.ObjectResolveAndObjectChangedEnhancerAbstract;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectChanger;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectResolver;
@@ -41,6 +40,15 @@ public class ObjectResolveAndObjectChangedEnhancer extends ObjectResolveAndObjec
 
     private MethodHandler methodHandler;
 
+    /**
+     * Cache of proxy classes, lazy populated.
+     * 
+     * <p>
+     * Weak keys and values, so as not to prevent the class loader of the
+     * enhanced classes from being collected.
+     */
+    private final ConcurrentMap<Class<?>, Class<?>> proxySubclassByClass = new MapMaker().weakKeys().weakValues().makeMap();
+
     public ObjectResolveAndObjectChangedEnhancer(final ObjectResolver objectResolver, final ObjectChanger objectChanger, final SpecificationLoaderSpi specificationLoader) {
         super(objectResolver, objectChanger, specificationLoader);
 
@@ -54,17 +62,10 @@ protected void createCallback() {
             public Object invoke(final Object proxied, final Method proxyMethod, final Method proxiedMethod, final Object[] args) throws Throwable {
 
                 final boolean ignore = proxyMethod.getDeclaringClass().equals(Object.class);
-                ImperativeFacetFlags flags = null;
-
-                if (!ignore) {
-                    final ObjectSpecificationDefault targetObjSpec = getJavaSpecificationOfOwningClass(proxiedMethod);
-
-                    final ObjectMember member = targetObjSpec.getMember(proxiedMethod);
-                    flags = ImperativeFacetUtils.getImperativeFacetFlags(member, proxiedMethod);
+                final MethodDispatch dispatch = ignore ? null : dispatchFor(proxiedMethod);
 
-                    if (flags.impliesResolve()) {
-                        objectResolver.resolve(proxied, member.getName());
-                    }
+                if (!ignore && dispatch.impliesResolve()) {
+                    objectResolver.resolve(proxied, dispatch.getMemberName());
                 }
 
                 final Object proxiedReturn = proxiedMethod.invoke(proxied, args); // execute
@@ -72,7 +73,7 @@ public Object invoke(final Object proxied, final Method proxyMethod, final Metho
                                                                                   // original
                                                                                   // method.
 
-                if (!ignore && flags.impliesObjectChanged()) {
+                if (!ignore && dispatch.impliesObjectChanged()) {
                     objectChanger.objectChanged(proxied);
                 }
 
@@ -84,6 +85,26 @@ public Object invoke(final Object proxied, final Method proxyMethod, final Metho
     @SuppressWarnings("unchecked")
     public <T> T newInstance(final Class<T> cls) {
 
+        final Class<T> proxySubclass = (Class<T>) lookupOrCreateProxySubclassFor(cls);
+        try {
+            final T newInstance = proxySubclass.newInstance();
+            final ProxyObject proxyObject = (ProxyObject) newInstance;
+            proxyObject.setHandler(methodHandler);
+
+            return newInstance;
+        } catch (final InstantiationException e) {
+            throw new IsisException(e);
+        } catch (final IllegalAccessException e) {
+            throw new IsisException(e);
+        }
+    }
+
+    private Class<?> lookupOrCreateProxySubclassFor(final Class<?> cls) {
+        final Class<?> proxySubclass = proxySubclassByClass.get(cls);
+        if (proxySubclass != null) {
+            return proxySubclass;
+        }
+
         final ProxyFactory proxyFactory = new ProxyFactory();
         proxyFactory.setSuperclass(cls);
         proxyFactory.setInterfaces(ArrayExtensions.combine(cls.getInterfaces(), new Class<?>[] { JavassistEnhanced.class }));
@@ -96,18 +117,9 @@ public boolean isHandled(final Method m) {
             }
         });
 
-        final Class<T> proxySubclass = proxyFactory.createClass();
-        try {
-            final T newInstance = proxySubclass.newInstance();
-            final ProxyObject proxyObject = (ProxyObject) newInstance;
-            proxyObject.setHandler(methodHandler);
-
-            return newInstance;
-        } catch (final InstantiationException e) {
-            throw new IsisException(e);
-        } catch (final IllegalAccessException e) {
-            throw new IsisException(e);
-        }
+        final Class<?> newProxySubclass = proxyFactory.createClass();
+        final Class<?> existing = proxySubclassByClass.putIfAbsent(cls, newProxySubclass);
+        return existing != null ? existing : newProxySubclass;
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.bytecode.javassist;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.methodutils.MethodInvoker;
+
+public class JavassistMethodInvokerFactoryTest {
+
+    public static class Customer {
+        private String name;
+        private int age;
+        private final List<String> notes = Lists.newArrayList();
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+        public int getAge() { return age; }
+        public void setAge(final int age) { this.age = age; }
+        public boolean addNotes(final String[] notes, final long when) { return this.notes.addAll(Lists.newArrayList(notes)); }
+        public void fail() { throw new IllegalStateException("failed"); }
+        public static String title(final Customer customer) { return "Customer: " + customer.getName(); }
+        String packagePrivate() { return null; }
+    }
+
+    static class NonPublicCustomer {
+        public String getName() { return null; }
+    }
+
+    private JavassistMethodInvokerFactory factory;
+    private Customer customer;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = new JavassistMethodInvokerFactory();
+        customer = new Customer();
+    }
+
+    @Test
+    public void invokeGetterAndSetter() throws Exception {
+        final MethodInvoker setter = factory.createInvoker(Customer.class.getMethod("setName", String.class));
+        final MethodInvoker getter = factory.createInvoker(Customer.class.getMethod("getName"));
+
+        assertThat(setter.invoke(customer, new Object[] { "Fred" }), is(nullValue()));
+        assertThat((String) getter.invoke(customer, new Object[0]), is("Fred"));
+        assertThat(getter.getMethod(), is(Customer.class.getMethod("getName")));
+    }
+
+    @Test
+    public void invokePrimitivesAndArrays() throws Exception {
+        factory.createInvoker(Customer.class.getMethod("setAge", int.class)).invoke(customer, new Object[] { 42 });
+        assertThat((Integer) factory.createInvoker(Customer.class.getMethod("getAge")).invoke(customer, null), is(42));
+
+        final Object added = factory.createInvoker(Customer.class.getMethod("addNotes", String[].class, long.class)).invoke(customer, new Object[] { new String[] { "a", "b" }, 1L });
+        assertThat((Boolean) added, is(true));
+        assertThat(customer.notes.size(), is(2));
+    }
+
+    @Test
+    public void invokeStatic() throws Exception {
+        customer.setName("Fred");
+        final Object title = factory.createInvoker(Customer.class.getMethod("title", Customer.class)).invoke(null, new Object[] { customer });
+        assertThat((String) title, is("Customer: Fred"));
+    }
+
+    @Test
+    public void exceptionIsWrapped() throws Exception {
+        try {
+            factory.createInvoker(Customer.class.getMethod("fail")).invoke(customer, new Object[0]);
+            fail();
+        } catch (final InvocationTargetException ex) {
+            assertThat(ex.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongNumberOfArguments() throws Exception {
+        factory.createInvoker(Customer.class.getMethod("setName", String.class)).invoke(customer, new Object[0]);
+    }
+
+    @Test
+    public void notAccessible() throws Exception {
+        assertThat(factory.createInvoker(Customer.class.getDeclaredMethod("packagePrivate")), is(nullValue()));
+        assertThat(factory.createInvoker(NonPublicCustomer.class.getMethod("getName")), is(nullValue()));
+        assertThat(factory.createInvoker(Customer.class.getMethod("getName")), is(not(nullValue())));
+    }
+
+}
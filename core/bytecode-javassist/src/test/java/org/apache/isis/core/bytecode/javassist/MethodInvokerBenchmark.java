@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.bytecode.javassist;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.isis.core.metamodel.methodutils.MethodInvoker;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactory;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactoryMethodHandles;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactoryReflective;
+
+/**
+ * Microbenchmark comparing the {@link MethodInvokerFactory} implementations 
+ * for the kinds of methods called by facets: property accessors, supporting
+ * methods (<tt>validateXxx</tt>, <tt>title()</tt>) and actions.
+ * 
+ * <p>
+ * Run using the {@link #main(String[]) main} method, eg from the IDE (not run as part of the build).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MethodInvokerBenchmark {
+
+    public static class Customer {
+        private String firstName;
+        public String getFirstName() { return firstName; }
+        public void setFirstName(final String firstName) { this.firstName = firstName; }
+        private String lastName;
+        public String getLastName() { return lastName; }
+        public void setLastName(final String lastName) { this.lastName = lastName; }
+        private int loyaltyPoints;
+        public int getLoyaltyPoints() { return loyaltyPoints; }
+        public void setLoyaltyPoints(final int loyaltyPoints) { this.loyaltyPoints = loyaltyPoints; }
+        private BigDecimal creditLimit;
+        public BigDecimal getCreditLimit() { return creditLimit; }
+        public void setCreditLimit(final BigDecimal creditLimit) { this.creditLimit = creditLimit; }
+
+        public String title() {
+            return lastName + ", " + firstName;
+        }
+
+        public Customer placeOrder(final String product, final int quantity, final BigDecimal price) {
+            loyaltyPoints += quantity;
+            return this;
+        }
+        public String validatePlaceOrder(final String product, final int quantity, final BigDecimal price) {
+            return quantity <= 0 ? "Quantity must be positive" : null;
+        }
+    }
+
+    @Param({ "reflective", "methodhandles", "javassist" })
+    public String invokers;
+
+    private Customer customer;
+    private Object[] noArgs;
+    private Object[] placeOrderArgs;
+
+    private MethodInvoker getFirstName;
+    private MethodInvoker setLoyaltyPoints;
+    private MethodInvoker title;
+    private MethodInvoker validatePlaceOrder;
+    private MethodInvoker placeOrder;
+
+    @Setup
+    public void setUp() throws Exception {
+        final MethodInvokerFactory factory = 
+                "methodhandles".equals(invokers) ? new MethodInvokerFactoryMethodHandles() : 
+                "javassist".equals(invokers) ? new JavassistMethodInvokerFactory() : 
+                new MethodInvokerFactoryReflective();
+
+        customer = new Customer();
+        customer.setFirstName("Fred");
+        customer.setLastName("Smith");
+        customer.setCreditLimit(new BigDecimal("1000.00"));
+        noArgs = new Object[0];
+        placeOrderArgs = new Object[] { "Widget", 3, new BigDecimal("9.99") };
+
+        getFirstName = factory.createInvoker(method("getFirstName"));
+        setLoyaltyPoints = factory.createInvoker(method("setLoyaltyPoints", int.class));
+        title = factory.createInvoker(method("title"));
+        validatePlaceOrder = factory.createInvoker(method("validatePlaceOrder", String.class, int.class, BigDecimal.class));
+        placeOrder = factory.createInvoker(method("placeOrder", String.class, int.class, BigDecimal.class));
+    }
+
+    private static Method method(final String name, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Customer.class.getMethod(name, parameterTypes);
+    }
+
+    @Benchmark
+    public Object getter() throws IllegalAccessException, InvocationTargetException {
+        return getFirstName.invoke(customer, noArgs);
+    }
+
+    @Benchmark
+    public Object setterPrimitive() throws IllegalAccessException, InvocationTargetException {
+        return setLoyaltyPoints.invoke(customer, new Object[] { 10 });
+    }
+
+    @Benchmark
+    public Object titleMethod() throws IllegalAccessException, InvocationTargetException {
+        return title.invoke(customer, noArgs);
+    }
+
+    @Benchmark
+    public Object validateMethod() throws IllegalAccessException, InvocationTargetException {
+        return validatePlaceOrder.invoke(customer, placeOrderArgs);
+    }
+
+    @Benchmark
+    public Object action() throws IllegalAccessException, InvocationTargetException {
+        return placeOrder.invoke(customer, placeOrderArgs);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MethodInvokerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
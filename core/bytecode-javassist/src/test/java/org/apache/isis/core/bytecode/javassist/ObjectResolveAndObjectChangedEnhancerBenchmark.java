@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.bytecode.javassist;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import javassist.util.proxy.ProxyObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.facetdecorator.FacetDecorator;
+import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils;
+import org.apache.isis.core.metamodel.runtimecontext.noruntime.RuntimeContextNoRuntime;
+import org.apache.isis.core.metamodel.services.container.DomainObjectContainerDefault;
+import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.specloader.ObjectReflectorDefault;
+import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutorAbstract;
+import org.apache.isis.core.metamodel.specloader.collectiontyperegistry.CollectionTypeRegistryDefault;
+import org.apache.isis.core.metamodel.specloader.traverser.SpecificationTraverserDefault;
+import org.apache.isis.core.progmodel.metamodelvalidator.dflt.MetaModelValidatorDefault;
+import org.apache.isis.core.runtime.persistence.objectfactory.ObjectChanger;
+import org.apache.isis.core.runtime.persistence.objectfactory.ObjectResolver;
+import org.apache.isis.progmodels.dflt.ProgrammingModelFacetsJava5;
+
+/**
+ * Microbenchmark of getter and setter calls on a plain domain object, compared
+ * to one enhanced by {@link ObjectResolveAndObjectChangedEnhancer}.
+ * 
+ * <p>
+ * The <tt>enhanced_lookupPerCall</tt> variant reproduces the previous
+ * implementation (looking up the specification, member and imperative facet
+ * flags on every call), for comparison.
+ * 
+ * <p>
+ * Run using the {@link #main(String[]) main} method, eg from the IDE (not run as part of the build).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ObjectResolveAndObjectChangedEnhancerBenchmark {
+
+    public static class Customer {
+        private String firstName;
+        public String getFirstName() { return firstName; }
+        public void setFirstName(final String firstName) { this.firstName = firstName; }
+        private int loyaltyPoints;
+        public int getLoyaltyPoints() { return loyaltyPoints; }
+        public void setLoyaltyPoints(final int loyaltyPoints) { this.loyaltyPoints = loyaltyPoints; }
+    }
+
+    private static final ObjectResolver RESOLVER = new ObjectResolver() {
+        @Override
+        public void resolve(final Object domainObject, final String propertyName) {
+        }
+    };
+    private static final ObjectChanger CHANGER = new ObjectChanger() {
+        @Override
+        public void objectChanged(final Object domainObject) {
+        }
+    };
+
+    @Param({ "plain", "enhanced", "enhanced_lookupPerCall" })
+    public String customers;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        final ObjectReflectorDefault reflector = 
+                new ObjectReflectorDefault(
+                        new IsisConfigurationDefault(), 
+                        new ClassSubstitutorAbstract() {
+                            @Override
+                            public Class<?> getClass(final Class<?> cls) {
+                                // specs of the proxy classes are those of the enhanced classes
+                                return super.getClass(ProxyObject.class.isAssignableFrom(cls) ? cls.getSuperclass() : cls);
+                            }
+                        }, 
+                        new CollectionTypeRegistryDefault(), 
+                        new SpecificationTraverserDefault(), 
+                        new ProgrammingModelFacetsJava5(), 
+                        new HashSet<FacetDecorator>(),
+                        new MetaModelValidatorDefault());
+        reflector.setRuntimeContext(new RuntimeContextNoRuntime());
+        reflector.setContainer(new DomainObjectContainerDefault());
+        reflector.setServices(Collections.emptyList());
+        reflector.init();
+
+        final ObjectResolveAndObjectChangedEnhancer enhancer = 
+                "enhanced".equals(customers) ? new ObjectResolveAndObjectChangedEnhancer(RESOLVER, CHANGER, reflector) : 
+                "enhanced_lookupPerCall".equals(customers) ? new LookupPerCallEnhancer(reflector) : 
+                null;
+        customer = enhancer != null ? enhancer.newInstance(Customer.class) : new Customer();
+        customer.setFirstName("Fred");
+    }
+
+    private static class LookupPerCallEnhancer extends ObjectResolveAndObjectChangedEnhancer {
+        LookupPerCallEnhancer(final SpecificationLoaderSpi specificationLoader) {
+            super(RESOLVER, CHANGER, specificationLoader);
+        }
+
+        @Override
+        protected MethodDispatch dispatchFor(final Method method) {
+            final ObjectMember member = getJavaSpecificationOfOwningClass(method).getMember(method);
+            return new MethodDispatch(member != null ? member.getName() : null, ImperativeFacetUtils.getImperativeFacetFlags(member, method));
+        }
+    }
+
+    @Benchmark
+    public Object getter() {
+        return customer.getFirstName();
+    }
+
+    @Benchmark
+    public int getterPrimitive() {
+        return customer.getLoyaltyPoints();
+    }
+
+    @Benchmark
+    public void setter() {
+        customer.setLoyaltyPoints(10);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ObjectResolveAndObjectChangedEnhancerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -24,6 +24,7 @@
 import java.lang.reflect.Modifier;
 
 import org.apache.isis.core.metamodel.exceptions.MetaModelException;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokers;
 
 public class MethodExtensions {
 
@@ -45,9 +46,12 @@ public static Object invoke(final Method method, final Object object) {
         return MethodExtensions.invoke(method, object, parameters);
     }
 
+    /**
+     * Invokes the method using the {@link MethodInvokers#invokerFor(Method) configured invoker}.
+     */
     public static Object invoke(final Method method, final Object object, final Object[] parameters) {
         try {
-            return method.invoke(object, parameters);
+            return MethodInvokers.invokerFor(method).invoke(object, parameters);
         } catch (final IllegalArgumentException e) {
             throw e;
         } catch (final InvocationTargetException e) {
@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.interactions;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetFilters;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+
+/**
+ * The {@link HidingInteractionAdvisor hiding}, {@link DisablingInteractionAdvisor disabling}
+ * and {@link ValidatingInteractionAdvisor validating} facets of a {@link FacetHolder},
+ * resolved once into typed arrays.
+ * 
+ * <p>
+ * Immutable; a new instance must be {@link #of(FacetHolder) resolved} if the facets of
+ * the holder are changed.
+ * 
+ * @see InteractionUtils
+ */
+public final class InteractionAdvisors {
+
+    public static InteractionAdvisors of(final FacetHolder facetHolder) {
+        return new InteractionAdvisors(
+                toArray(facetHolder, HidingInteractionAdvisor.class), 
+                toArray(facetHolder, DisablingInteractionAdvisor.class), 
+                toArray(facetHolder, ValidatingInteractionAdvisor.class));
+    }
+
+    private final HidingInteractionAdvisor[] hidingAdvisors;
+    private final DisablingInteractionAdvisor[] disablingAdvisors;
+    private final ValidatingInteractionAdvisor[] validatingAdvisors;
+
+    private InteractionAdvisors(
+            final HidingInteractionAdvisor[] hidingAdvisors, 
+            final DisablingInteractionAdvisor[] disablingAdvisors, 
+            final ValidatingInteractionAdvisor[] validatingAdvisors) {
+        this.hidingAdvisors = hidingAdvisors;
+        this.disablingAdvisors = disablingAdvisors;
+        this.validatingAdvisors = validatingAdvisors;
+    }
+
+    /**
+     * Not to be modified by callers.
+     */
+    HidingInteractionAdvisor[] getHidingAdvisors() {
+        return hidingAdvisors;
+    }
+
+    /**
+     * Not to be modified by callers.
+     */
+    DisablingInteractionAdvisor[] getDisablingAdvisors() {
+        return disablingAdvisors;
+    }
+
+    /**
+     * Not to be modified by callers.
+     */
+    ValidatingInteractionAdvisor[] getValidatingAdvisors() {
+        return validatingAdvisors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(final FacetHolder facetHolder, final Class<T> advisorType) {
+        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(advisorType));
+        final T[] advisors = (T[]) Array.newInstance(advisorType, facets.size());
+        for (int i = 0; i < advisors.length; i++) {
+            advisors[i] = advisorType.cast(facets.get(i));
+        }
+        return advisors;
+    }
+
+}
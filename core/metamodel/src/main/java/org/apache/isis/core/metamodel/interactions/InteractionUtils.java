@@ -19,24 +19,34 @@
 
 package org.apache.isis.core.metamodel.interactions;
 
-import java.util.List;
-
 import org.apache.isis.core.metamodel.consent.InteractionResult;
 import org.apache.isis.core.metamodel.consent.InteractionResultSet;
-import org.apache.isis.core.metamodel.facetapi.Facet;
-import org.apache.isis.core.metamodel.facetapi.FacetFilters;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 
+/**
+ * Consults the {@link InteractionAdvisorFacet advisor facets} of a {@link FacetHolder}.
+ * 
+ * <p>
+ * Evaluation stops at the first advisor to veto the interaction, so the
+ * {@link InteractionResult#getReason() reason} is that of the first vetoing advisor.
+ * Callers that consult the same holder repeatedly (such as
+ * {@link org.apache.isis.core.metamodel.spec.feature.ObjectMember}s) should resolve
+ * the {@link InteractionAdvisors} once and use the corresponding overloads.
+ */
 public final class InteractionUtils {
 
     private InteractionUtils() {
     }
 
     public static InteractionResult isVisibleResult(final FacetHolder facetHolder, final VisibilityContext<?> context) {
+        return isVisibleResult(InteractionAdvisors.of(facetHolder), context);
+    }
+
+    public static InteractionResult isVisibleResult(final InteractionAdvisors advisors, final VisibilityContext<?> context) {
         final InteractionResult result = new InteractionResult(context.createInteractionEvent());
-        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(HidingInteractionAdvisor.class));
-        for (final Facet facet : facets) {
-            final HidingInteractionAdvisor advisor = (HidingInteractionAdvisor) facet;
+        final HidingInteractionAdvisor[] hidingAdvisors = advisors.getHidingAdvisors();
+        for (int i = 0; i < hidingAdvisors.length && result.isNotVetoing(); i++) {
+            final HidingInteractionAdvisor advisor = hidingAdvisors[i];
             result.advise(advisor.hides(context), advisor);
         }
         return result;
@@ -47,10 +57,14 @@ public static InteractionResultSet isVisibleResultSet(final FacetHolder facetHol
     }
 
     public static InteractionResult isUsableResult(final FacetHolder facetHolder, final UsabilityContext<?> context) {
+        return isUsableResult(InteractionAdvisors.of(facetHolder), context);
+    }
+
+    public static InteractionResult isUsableResult(final InteractionAdvisors advisors, final UsabilityContext<?> context) {
         final InteractionResult result = new InteractionResult(context.createInteractionEvent());
-        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(DisablingInteractionAdvisor.class));
-        for (final Facet facet : facets) {
-            final DisablingInteractionAdvisor advisor = (DisablingInteractionAdvisor) facet;
+        final DisablingInteractionAdvisor[] disablingAdvisors = advisors.getDisablingAdvisors();
+        for (int i = 0; i < disablingAdvisors.length && result.isNotVetoing(); i++) {
+            final DisablingInteractionAdvisor advisor = disablingAdvisors[i];
             final String disables = advisor.disables(context);
             result.advise(disables, advisor);
         }
@@ -62,10 +76,14 @@ public static InteractionResultSet isUsableResultSet(final FacetHolder facetHold
     }
 
     public static InteractionResult isValidResult(final FacetHolder facetHolder, final ValidityContext<?> context) {
+        return isValidResult(InteractionAdvisors.of(facetHolder), context);
+    }
+
+    public static InteractionResult isValidResult(final InteractionAdvisors advisors, final ValidityContext<?> context) {
         final InteractionResult result = new InteractionResult(context.createInteractionEvent());
-        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(ValidatingInteractionAdvisor.class));
-        for (final Facet facet : facets) {
-            final ValidatingInteractionAdvisor advisor = (ValidatingInteractionAdvisor) facet;
+        final ValidatingInteractionAdvisor[] validatingAdvisors = advisors.getValidatingAdvisors();
+        for (int i = 0; i < validatingAdvisors.length && result.isNotVetoing(); i++) {
+            final ValidatingInteractionAdvisor advisor = validatingAdvisors[i];
             result.advise(advisor.invalidates(context), advisor);
         }
         return result;
@@ -75,4 +93,8 @@ public static InteractionResultSet isValidResultSet(final FacetHolder facetHolde
         return resultSet.add(isValidResult(facetHolder, context));
     }
 
+    public static InteractionResultSet isValidResultSet(final InteractionAdvisors advisors, final ValidityContext<?> context, final InteractionResultSet resultSet) {
+        return resultSet.add(isValidResult(advisors, context));
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a single {@link Method}, with the same contract as
+ * {@link Method#invoke(Object, Object...)}: any exception thrown by the method
+ * itself is wrapped in an {@link InvocationTargetException}.
+ * 
+ * <p>
+ * Obtain using {@link MethodInvokers#invokerFor(Method)}; implementations are
+ * created by the configured {@link MethodInvokerFactory}.
+ */
+public interface MethodInvoker {
+
+    Method getMethod();
+
+    /**
+     * @param target - ignored if the method is static.
+     */
+    Object invoke(Object target, Object[] args) throws IllegalAccessException, InvocationTargetException;
+}
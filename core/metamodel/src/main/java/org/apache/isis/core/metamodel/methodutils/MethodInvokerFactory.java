@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.Method;
+
+import org.apache.isis.core.metamodel.specloader.ReflectorConstants;
+
+/**
+ * Strategy for creating {@link MethodInvoker}s, as configured using
+ * {@link ReflectorConstants#METHOD_INVOKER_FACTORY_CLASS_NAME}.
+ * 
+ * <p>
+ * Implementations must have a public no-arg constructor.
+ * 
+ * @see MethodInvokerFactoryReflective
+ * @see MethodInvokerFactoryMethodHandles
+ */
+public interface MethodInvokerFactory {
+
+    /**
+     * The invoker for the method, or <tt>null</tt> if this factory is unable to
+     * create one (in which case the method is invoked reflectively).
+     * 
+     * <p>
+     * Called at most once per method; the invoker is cached by {@link MethodInvokers}.
+     */
+    MethodInvoker createInvoker(Method method);
+}
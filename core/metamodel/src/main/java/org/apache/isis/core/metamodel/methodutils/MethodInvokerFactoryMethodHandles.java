@@ -0,0 +1,213 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes methods through a <tt>java.lang.invoke.MethodHandle</tt>, adapted once per method to
+ * accept the target and the arguments as an array.
+ * 
+ * <p>
+ * Requires a Java 7 (or later) runtime. Since the codebase is compiled for Java 6, the 
+ * <tt>java.lang.invoke</tt> API is only looked up reflectively (when this factory is instantiated);
+ * the signature-polymorphic <tt>invokeExact</tt> cannot be called either, so each handle is
+ * bound to {@link Invocation} using <tt>MethodHandleProxies</tt>.  This is several
+ * times faster than <tt>MethodHandle#invokeWithArguments(Object...)</tt>.
+ * 
+ * <p>
+ * As for {@link Method#invoke(Object, Object...)}, an exception thrown by the method itself is wrapped 
+ * in an {@link InvocationTargetException}, whereas arguments that cannot be adapted to the method's
+ * parameter types (wrong number, wrong type, <tt>null</tt> for a primitive) cause an
+ * {@link IllegalArgumentException}.
+ * 
+ * <p>
+ * Methods that are not accessible (eg non-public, or declared by a non-public class) are left to 
+ * be invoked reflectively.
+ */
+public class MethodInvokerFactoryMethodHandles implements MethodInvokerFactory {
+
+    /**
+     * The single-method interface that each adapted method handle is bound to.
+     */
+    public interface Invocation {
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Carries an exception thrown by the target method itself through the adapted handle, so
+     * that it can be told apart from a failure to adapt the arguments.
+     */
+    static class TargetException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        TargetException(final Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * The exception handler installed around every target method handle.
+     * 
+     * <p>
+     * Not API; public only so that it can be looked up using the public lookup.
+     */
+    public static Object rethrowAsTargetException(final Throwable ex) {
+        throw new TargetException(ex);
+    }
+
+    static class MethodInvokerMethodHandle implements MethodInvoker {
+
+        private final Method method;
+        private final Invocation invocation;
+        private final int parameterCount;
+        private final boolean isStatic;
+
+        MethodInvokerMethodHandle(final Method method, final Invocation invocation) {
+            this.method = method;
+            this.invocation = invocation;
+            this.parameterCount = method.getParameterTypes().length;
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(final Object target, final Object[] args) throws IllegalAccessException, InvocationTargetException {
+            final int argCount = args != null ? args.length : 0;
+            if (argCount != parameterCount) {
+                throw new IllegalArgumentException("wrong number of arguments");
+            }
+            if (target == null && !isStatic) {
+                throw new NullPointerException();
+            }
+            try {
+                return invocation.invoke(target, args);
+            } catch (final TargetException ex) {
+                throw new InvocationTargetException(ex.getCause());
+            } catch (final Throwable ex) {
+                // thrown while adapting the target or arguments, before the method was called
+                throw new IllegalArgumentException("argument type mismatch", ex);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "method handle: " + method;
+        }
+    }
+
+    // //////////////////////////////////////
+
+    private final Object publicLookup;
+    private final Method unreflect;
+    private final Method methodType;
+    private final Method asType;
+    private final Method asSpreader;
+    private final Method dropArguments;
+    private final Method catchException;
+    private final Method asInterfaceInstance;
+
+    private final Object invocationType;
+    private final Object rethrowAsTargetException;
+
+    /**
+     * @throws IllegalStateException - if not running on Java 7 (or later).
+     */
+    public MethodInvokerFactoryMethodHandles() {
+        try {
+            final Class<?> methodHandlesClass = Class.forName("java.lang.invoke.MethodHandles");
+            final Class<?> lookupClass = Class.forName("java.lang.invoke.MethodHandles$Lookup");
+            final Class<?> methodHandleClass = Class.forName("java.lang.invoke.MethodHandle");
+            final Class<?> methodTypeClass = Class.forName("java.lang.invoke.MethodType");
+            final Class<?> methodHandleProxiesClass = Class.forName("java.lang.invoke.MethodHandleProxies");
+
+            publicLookup = methodHandlesClass.getMethod("publicLookup").invoke(null);
+            unreflect = lookupClass.getMethod("unreflect", Method.class);
+            methodType = methodTypeClass.getMethod("methodType", Class.class, Class[].class);
+            asType = methodHandleClass.getMethod("asType", methodTypeClass);
+            asSpreader = methodHandleClass.getMethod("asSpreader", Class.class, int.class);
+            dropArguments = methodHandlesClass.getMethod("dropArguments", methodHandleClass, int.class, Class[].class);
+            catchException = methodHandlesClass.getMethod("catchException", methodHandleClass, Class.class, methodHandleClass);
+            asInterfaceInstance = methodHandleProxiesClass.getMethod("asInterfaceInstance", Class.class, methodHandleClass);
+
+            invocationType = methodType.invoke(null, Object.class, new Class<?>[] { Object.class, Object[].class });
+            final Method rethrow = MethodInvokerFactoryMethodHandles.class.getMethod("rethrowAsTargetException", Throwable.class);
+            rethrowAsTargetException = unreflect.invoke(publicLookup, rethrow);
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalStateException("method handles require a Java 7 (or later) runtime", ex);
+        } catch (final NoSuchMethodException ex) {
+            throw new IllegalStateException("method handles require a Java 7 (or later) runtime", ex);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final InvocationTargetException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public MethodInvoker createInvoker(final Method method) {
+        try {
+            return new MethodInvokerMethodHandle(method, (Invocation) asInterfaceInstance.invoke(null, Invocation.class, adapt(method)));
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final InvocationTargetException ex) {
+            if (ex.getCause() instanceof IllegalAccessException) {
+                return null;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Adapts the handle for the method to <tt>(Object, Object[])Object</tt>, wrapping any exception
+     * thrown by the method itself in a {@link TargetException}.
+     */
+    private Object adapt(final Method method) throws IllegalAccessException, InvocationTargetException {
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final Class<?>[] handleParameterTypes;
+        if (isStatic) {
+            handleParameterTypes = parameterTypes;
+        } else {
+            handleParameterTypes = new Class<?>[parameterTypes.length + 1];
+            handleParameterTypes[0] = method.getDeclaringClass();
+            System.arraycopy(parameterTypes, 0, handleParameterTypes, 1, parameterTypes.length);
+        }
+
+        final Object target = unreflect.invoke(publicLookup, method);
+        Object handler = asType.invoke(rethrowAsTargetException, methodType.invoke(null, method.getReturnType(), new Class<?>[] { Throwable.class }));
+        handler = dropArguments.invoke(null, handler, 1, handleParameterTypes);
+
+        Object adapted = catchException.invoke(null, target, Throwable.class, handler);
+        if (isStatic) {
+            adapted = dropArguments.invoke(null, adapted, 0, new Class<?>[] { Object.class });
+        }
+        adapted = asSpreader.invoke(adapted, Object[].class, parameterTypes.length);
+        // same conversions (unboxing, widening) as Method#invoke
+        return asType.invoke(adapted, invocationType);
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes methods using {@link Method#invoke(Object, Object...) reflection}; the default.
+ */
+public class MethodInvokerFactoryReflective implements MethodInvokerFactory {
+
+    static class MethodInvokerReflective implements MethodInvoker {
+
+        private final Method method;
+
+        MethodInvokerReflective(final Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(final Object target, final Object[] args) throws IllegalAccessException, InvocationTargetException {
+            return method.invoke(target, args);
+        }
+
+        @Override
+        public String toString() {
+            return "reflective: " + method;
+        }
+    }
+
+    @Override
+    public MethodInvoker createInvoker(final Method method) {
+        return new MethodInvokerReflective(method);
+    }
+
+}
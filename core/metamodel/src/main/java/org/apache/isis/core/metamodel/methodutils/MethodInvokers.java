@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.core.commons.lang.MethodExtensions;
+import org.apache.isis.core.metamodel.specloader.ReflectorConstants;
+
+/**
+ * Holds the {@link MethodInvokerFactory} in use and caches the {@link MethodInvoker}
+ * it creates for each {@link Method}.
+ * 
+ * <p>
+ * Used by {@link MethodExtensions#invoke(Method, Object, Object[])} (and hence by
+ * every facet that invokes a method on a domain object); the factory is set up
+ * by the reflector installer from {@link ReflectorConstants#METHOD_INVOKER_FACTORY_CLASS_NAME}.
+ */
+public final class MethodInvokers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodInvokers.class);
+
+    private static final MethodInvokerFactory REFLECTIVE = new MethodInvokerFactoryReflective();
+
+    private static volatile MethodInvokerFactory factory = REFLECTIVE;
+    private static volatile ConcurrentMap<Method, MethodInvoker> invokerByMethod = new ConcurrentHashMap<Method, MethodInvoker>();
+
+    private MethodInvokers() {
+    }
+
+    public static MethodInvokerFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Replaces the factory (discarding all invokers created by the previous one).
+     * 
+     * @param methodInvokerFactory - if <tt>null</tt>, then reverts to {@link MethodInvokerFactoryReflective reflection}.
+     */
+    public static synchronized void setFactory(final MethodInvokerFactory methodInvokerFactory) {
+        factory = methodInvokerFactory != null ? methodInvokerFactory : REFLECTIVE;
+        invokerByMethod = new ConcurrentHashMap<Method, MethodInvoker>();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("method invoker factory: " + factory.getClass().getName());
+        }
+    }
+
+    public static MethodInvoker invokerFor(final Method method) {
+        final ConcurrentMap<Method, MethodInvoker> invokers = invokerByMethod;
+        final MethodInvoker invoker = invokers.get(method);
+        if (invoker != null) {
+            return invoker;
+        }
+        final MethodInvoker newInvoker = createInvoker(method);
+        final MethodInvoker existing = invokers.putIfAbsent(method, newInvoker);
+        return existing != null ? existing : newInvoker;
+    }
+
+    private static MethodInvoker createInvoker(final Method method) {
+        MethodInvoker invoker = null;
+        try {
+            invoker = factory.createInvoker(method);
+        } catch (final RuntimeException ex) {
+            LOG.warn("unable to create invoker for " + method + ", will invoke reflectively", ex);
+        } catch (final LinkageError ex) {
+            LOG.warn("unable to create invoker for " + method + ", will invoke reflectively", ex);
+        }
+        return invoker != null ? invoker : REFLECTIVE.createInvoker(method);
+    }
+
+}
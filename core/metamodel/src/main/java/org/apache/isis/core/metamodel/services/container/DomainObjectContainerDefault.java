@@ -36,6 +36,8 @@
 import org.apache.isis.applib.filter.Filters;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.applib.query.QueryFindByCriteria;
+import org.apache.isis.applib.query.criteria.Criterion;
 import org.apache.isis.applib.security.RoleMemento;
 import org.apache.isis.applib.security.UserMemento;
 import org.apache.isis.applib.services.exceprecog.ExceptionRecognizer;
@@ -370,6 +372,9 @@ public <T> List<T> allInstances(final Class<T> type, long... range) {
     
     @Override
     public <T> List<T> allMatches(final Class<T> cls, final Predicate<? super T> predicate, long... range) {
+        if (predicate instanceof Criterion) {
+            return allMatches(cls, (Criterion) predicate, range);
+        }
         final List<T> allInstances = allInstances(cls, range);
         final List<T> filtered = new ArrayList<T>();
         for (final T instance : allInstances) {
@@ -404,12 +409,20 @@ public <T> List<T> allMatches(final Query<T> query) {
         return AdapterUtils.unwrap(allMatching);
     }
 
+    @Override
+    public <T> List<T> allMatches(final Class<T> type, final Criterion criterion, long... range) {
+        return allMatches(new QueryFindByCriteria<T>(type, criterion, range));
+    }
+
     // //////////////////////////////////////////////////////////////////
     // firstMatch
     // //////////////////////////////////////////////////////////////////
 
     @Override
     public <T> T firstMatch(final Class<T> cls, final Predicate<T> predicate) {
+        if (predicate instanceof Criterion) {
+            return firstMatch(cls, (Criterion) predicate);
+        }
         final List<T> allInstances = allInstances(cls); // Have to fetch all, as matching is done in next loop
         for (final T instance : allInstances) {
             if (predicate.apply(instance)) {
@@ -445,6 +458,12 @@ public <T> T firstMatch(final Query<T> query) {
         return (T) AdapterUtils.unwrap(firstMatching);
     }
 
+    @Override
+    public <T> T firstMatch(final Class<T> type, final Criterion criterion) {
+        final List<T> instances = allMatches(type, criterion, 0, 1); // No need to fetch more than 1
+        return firstInstanceElseNull(instances);
+    }
+
     // //////////////////////////////////////////////////////////////////
     // uniqueMatch
     // //////////////////////////////////////////////////////////////////
@@ -495,6 +514,15 @@ public <T> T uniqueMatch(final Query<T> query) {
         return firstInstanceElseNull(instances);
     }
 
+    @Override
+    public <T> T uniqueMatch(final Class<T> type, final Criterion criterion) {
+        final List<T> instances = allMatches(type, criterion, 0, 2); // No need to fetch more than 2.
+        if (instances.size() > 1) {
+            throw new RepositoryException("Found more than one instance of " + type + " matching criterion " + criterion);
+        }
+        return firstInstanceElseNull(instances);
+    }
+
     private <T> T firstInstanceElseNull(final List<T> instances) {
         return instances.size() == 0 ? null : instances.get(0);
     }
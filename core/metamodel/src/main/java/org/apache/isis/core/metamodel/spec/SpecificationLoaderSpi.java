@@ -24,6 +24,7 @@
 import org.apache.isis.applib.DomainObjectContainer;
 import org.apache.isis.core.commons.components.ApplicationScopedComponent;
 import org.apache.isis.core.commons.debug.DebuggableWithTitle;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
 
@@ -51,6 +52,25 @@ public interface SpecificationLoaderSpi extends ApplicationScopedComponent, Debu
     void invalidateCacheFor(Object domainObject);
     
     void invalidateCache(Class<?> domainClass);
+
+    /**
+     * Incremented each time that the cache is {@link #invalidateCache(Class) invalidated},
+     * allowing anything derived from the metamodel (eg a viewer's cache of rendered
+     * type descriptions) to detect that it is stale.
+     */
+    long getInvalidationCount();
+
+    /**
+     * Looks up an action (including any contributed actions) of the specification by its
+     * {@link org.apache.isis.applib.Identifier#toClassAndNameIdentityString() identity string}.
+     * 
+     * <p>
+     * Implementations may index the actions of each specification; any such index is discarded
+     * when the cache is {@link #invalidateCache(Class) invalidated}.
+     * 
+     * @return <tt>null</tt> if there is no such action.
+     */
+    ObjectAction lookupObjectActionByIdentityString(ObjectSpecification objectSpec, String actionIdentityString);
     
     boolean isInitialized();
 }
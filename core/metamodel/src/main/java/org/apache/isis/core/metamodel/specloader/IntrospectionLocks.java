@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Per-specification locks for {@link ObjectReflectorDefault}, allowing 
+ * independent types to be introspected concurrently.
+ * 
+ * <p>
+ * A specification is {@link #claim(ObjectSpecification) claimed} by the thread 
+ * that creates it (before it is cached), and {@link #release(ObjectSpecification) released}
+ * once introspected. Any other thread that loads the specification in the meantime 
+ * {@link #awaitIntrospected(ObjectSpecification) waits} for it to be introspected,
+ * unless doing so would deadlock: a specification that (directly or transitively)
+ * is waiting on the current thread is returned partially introspected, exactly as a 
+ * single thread introspecting a cycle of references always has done.
+ */
+final class IntrospectionLocks {
+
+    private final Map<ObjectSpecification, Thread> ownerBySpec = new IdentityHashMap<ObjectSpecification, Thread>();
+    private final Map<Thread, ObjectSpecification> awaitedByThread = Maps.newHashMap();
+
+    synchronized void claim(final ObjectSpecification spec) {
+        ownerBySpec.put(spec, Thread.currentThread());
+    }
+
+    synchronized void release(final ObjectSpecification spec) {
+        ownerBySpec.remove(spec);
+        notifyAll();
+    }
+
+    synchronized void awaitIntrospected(final ObjectSpecification spec) {
+        final Thread currentThread = Thread.currentThread();
+        while (ownerBySpec.containsKey(spec) && !wouldDeadlock(spec, currentThread)) {
+            awaitedByThread.put(currentThread, spec);
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                awaitedByThread.remove(currentThread);
+            }
+        }
+    }
+
+    /**
+     * Whether the thread introspecting the spec is (transitively) waiting on
+     * the current thread; also true if the current thread itself is introspecting
+     * the spec.
+     */
+    private boolean wouldDeadlock(final ObjectSpecification spec, final Thread currentThread) {
+        ObjectSpecification awaited = spec;
+        while (awaited != null) {
+            final Thread owner = ownerBySpec.get(awaited);
+            if (owner == null) {
+                return false;
+            }
+            if (owner == currentThread) {
+                return true;
+            }
+            awaited = awaitedByThread.get(owner);
+        }
+        return false;
+    }
+
+}
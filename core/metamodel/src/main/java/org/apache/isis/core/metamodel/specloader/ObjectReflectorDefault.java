@@ -29,10 +29,18 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +77,8 @@
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderAware;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpiAware;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.ObjectMemberContext;
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutor;
 import org.apache.isis.core.metamodel.specloader.collectiontyperegistry.CollectionTypeRegistry;
@@ -182,7 +192,13 @@ public final class ObjectReflectorDefault implements SpecificationLoaderSpi, App
 
     private final MetaModelValidator metaModelValidator;
     private final SpecificationCacheDefault cache = new SpecificationCacheDefault();
+    private final IntrospectionLocks introspectionLocks = new IntrospectionLocks();
     private final ServiceInitializer serviceInitializer = new ServiceInitializer();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    /**
+     * Actions (including contributed actions) by identity string, keyed by the spec's full identifier.
+     */
+    private final ConcurrentMap<String, Map<String, ObjectAction>> actionsByIdentityString = Maps.newConcurrentMap();
 
     private boolean initialized = false;
 
@@ -306,25 +322,74 @@ private void cacheBySpecId() {
      * load the service specifications and then, using the
      * {@link #getSpecificationTraverser() traverser}, keep loading all
      * referenced specifications until we can find no more.
+     * 
+     * <p>
+     * If {@link ReflectorConstants#INTROSPECTION_THREADS configured}, each
+     * batch of types is introspected in parallel.
      */
     private void primeCache() {
-        for (final Class<?> serviceClass : getServiceClasses()) {
-            internalLoadSpecification(serviceClass);
+        final int introspectionThreads = configuration.getInteger(ReflectorConstants.INTROSPECTION_THREADS, ReflectorConstants.INTROSPECTION_THREADS_DEFAULT);
+        if (introspectionThreads <= 1) {
+            loadSpecificationsUsing(null, getServiceClasses());
+            loadAllSpecifications(null);
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(introspectionThreads, new ThreadFactoryBuilder().setNameFormat("isis-introspector-%d").setDaemon(true).build());
+        try {
+            loadSpecificationsUsing(executor, getServiceClasses());
+            loadAllSpecifications(executor);
+        } finally {
+            executor.shutdown();
         }
-        loadAllSpecifications();
     }
 
-    private void loadAllSpecifications() {
+    private void loadAllSpecifications(final ExecutorService executor) {
         List<Class<?>> newlyDiscoveredClasses = newlyDiscoveredClasses();
 
         while (newlyDiscoveredClasses.size() > 0) {
-            for (final Class<?> newClass : newlyDiscoveredClasses) {
-                internalLoadSpecification(newClass);
-            }
+            loadSpecificationsUsing(executor, newlyDiscoveredClasses);
             newlyDiscoveredClasses = newlyDiscoveredClasses();
         }
     }
 
+    /**
+     * @param executor - if <tt>null</tt>, then loads serially in the calling thread.
+     */
+    private void loadSpecificationsUsing(final ExecutorService executor, final List<Class<?>> classesToLoad) {
+        if (executor == null) {
+            for (final Class<?> cls : classesToLoad) {
+                internalLoadSpecification(cls);
+            }
+            return;
+        }
+        final List<Future<ObjectSpecification>> futures = Lists.newArrayList();
+        for (final Class<?> cls : classesToLoad) {
+            futures.add(executor.submit(new Callable<ObjectSpecification>() {
+                @Override
+                public ObjectSpecification call() {
+                    return internalLoadSpecification(cls);
+                }
+            }));
+        }
+        for (final Future<ObjectSpecification> future : futures) {
+            try {
+                future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IsisException(ex);
+            } catch (final ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IsisException(cause);
+            }
+        }
+    }
+
     private List<Class<?>> newlyDiscoveredClasses() {
         final List<Class<?>> newlyDiscoveredClasses = new ArrayList<Class<?>>();
 
@@ -348,6 +413,7 @@ public void shutdown() {
         initialized = false;
         
         getCache().clear();
+        actionsByIdentityString.clear();
         facetDecoratorSet.shutdown();
     }
 
@@ -382,6 +448,37 @@ public void invalidateCache(final Class<?> cls) {
             }
             spec = spec.superclass(); 
         }
+        // subclasses may also have been affected, so discard the index for all specs
+        actionsByIdentityString.clear();
+        invalidationCount.incrementAndGet();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    @Override
+    public ObjectAction lookupObjectActionByIdentityString(final ObjectSpecification objectSpec, final String actionIdentityString) {
+        final String specFullIdentifier = objectSpec.getFullIdentifier();
+        Map<String, ObjectAction> actions = actionsByIdentityString.get(specFullIdentifier);
+        if(actions == null) {
+            actions = indexActionsByIdentityString(objectSpec);
+            actionsByIdentityString.put(specFullIdentifier, actions);
+        }
+        return actions.get(actionIdentityString);
+    }
+
+    private static Map<String, ObjectAction> indexActionsByIdentityString(final ObjectSpecification objectSpec) {
+        final Map<String, ObjectAction> actions = Maps.newHashMap();
+        for (final ObjectAction objectAction : objectSpec.getObjectActions(Contributed.INCLUDED)) {
+            final String identityString = objectAction.getIdentifier().toClassAndNameIdentityString();
+            // as per a linear search, the first match wins
+            if(!actions.containsKey(identityString)) {
+                actions.put(identityString, objectAction);
+            }
+        }
+        return Collections.unmodifiableMap(actions);
     }
 
     private void recache(final ObjectSpecification newSpec) {
@@ -445,24 +542,39 @@ private ObjectSpecification loadSpecificationForSubstitutedClass(final Class<?>
         final String typeName = type.getName();
 
         final SpecificationCacheDefault specificationCache = getCache();
-        synchronized (specificationCache) {
-            final ObjectSpecification spec = specificationCache.get(typeName);
-            if (spec != null) {
-                return spec;
-            }
-            final ObjectSpecification specification = createSpecification(type);
-            if (specification == null) {
-                throw new IsisException("Failed to create specification for class " + typeName);
-            }
-
-            // put into the cache prior to introspecting, to prevent
-            // infinite loops
-            specificationCache.cache(typeName, specification);
+        final ObjectSpecification spec = specificationCache.get(typeName);
+        if (spec != null) {
+            return awaitIntrospected(spec);
+        }
+        final ObjectSpecification specification = createSpecification(type);
+        if (specification == null) {
+            throw new IsisException("Failed to create specification for class " + typeName);
+        }
 
+        // put into the cache prior to introspecting, to prevent
+        // infinite loops; claimed first so that any other thread will 
+        // wait for it to be introspected
+        introspectionLocks.claim(specification);
+        final ObjectSpecification existingSpec = specificationCache.cacheIfAbsent(typeName, specification);
+        if (existingSpec != null) {
+            // another thread got there first
+            introspectionLocks.release(specification);
+            return awaitIntrospected(existingSpec);
+        }
+        try {
             introspectIfRequired(specification);
+        } finally {
+            introspectionLocks.release(specification);
+        }
+        return specification;
+    }
 
-            return specification;
+    private ObjectSpecification awaitIntrospected(final ObjectSpecification spec) {
+        final ObjectSpecificationAbstract specSpi = (ObjectSpecificationAbstract) spec;
+        if (specSpi.getIntrospectionState() != IntrospectionState.INTROSPECTED) {
+            introspectionLocks.awaitIntrospected(spec);
         }
+        return spec;
     }
 
     /**
@@ -23,6 +23,7 @@
 import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.facetdecorator.FacetDecorator;
 import org.apache.isis.core.metamodel.facets.FacetFactory;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactory;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator;
 
@@ -71,6 +72,25 @@ public final class ReflectorConstants {
      */
     public static final String FACET_DECORATOR_CLASS_NAMES = ConfigurationConstants.ROOT + "reflector.facet-decorators";
 
+    /**
+     * Key used to lookup implementation of {@link MethodInvokerFactory} in
+     * {@link IsisConfiguration}.
+     * 
+     * <p>
+     * As well as the default (reflection), may be set to
+     * <tt>org.apache.isis.core.metamodel.methodutils.MethodInvokerFactoryMethodHandles</tt> or
+     * (if on the classpath) <tt>org.apache.isis.core.bytecode.javassist.JavassistMethodInvokerFactory</tt>.
+     */
+    public static final String METHOD_INVOKER_FACTORY_CLASS_NAME = ConfigurationConstants.ROOT + "reflector.method-invoker";
+    public static final String METHOD_INVOKER_FACTORY_CLASS_NAME_DEFAULT = "org.apache.isis.core.metamodel.methodutils.MethodInvokerFactoryReflective";
+
+    /**
+     * Key used to lookup the number of threads used to introspect the metamodel
+     * at startup; if not specified (or <tt>1</tt>), types are introspected serially.
+     */
+    public static final String INTROSPECTION_THREADS = ConfigurationConstants.ROOT + "reflector.introspection.threads";
+    public static final int INTROSPECTION_THREADS_DEFAULT = 1;
+
     private ReflectorConstants() {
     }
 
@@ -22,6 +22,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.Maps;
 
@@ -32,8 +33,8 @@
 
 class SpecificationCacheDefault {
     
-    private final Map<String, ObjectSpecification> specByClassName = Maps.newHashMap();
-    private Map<ObjectSpecId, ObjectSpecification> specById;
+    private final ConcurrentMap<String, ObjectSpecification> specByClassName = Maps.newConcurrentMap();
+    private volatile Map<ObjectSpecId, ObjectSpecification> specById;
 
     public ObjectSpecification get(final String className) {
         return specByClassName.get(className);
@@ -42,6 +43,15 @@ public ObjectSpecification get(final String className) {
     public void cache(final String className, final ObjectSpecification spec) {
         specByClassName.put(className, spec);
     }
+
+    /**
+     * Caches the specification unless one is already cached for the class.
+     * 
+     * @return the specification already cached, else <tt>null</tt>.
+     */
+    public ObjectSpecification cacheIfAbsent(final String className, final ObjectSpecification spec) {
+        return specByClassName.putIfAbsent(className, spec);
+    }
     
 
     public void clear() {
@@ -56,15 +66,16 @@ public ObjectSpecification getByObjectType(ObjectSpecId objectSpecID) {
         if (!isInitialized()) {
             throw new IllegalStateException("SpecificationCache by object type has not yet been initialized");
         }
-        return specById.get(objectSpecID);
+        return objectSpecID != null ? specById.get(objectSpecID) : null;
     }
 
     /**
      * Populated as a result of running {@link MetaModelValidator#validate() validation} after xxxallxxx most specs have been loaded. 
      */
     void setCacheBySpecId(Map<ObjectSpecId, ObjectSpecification> specById) {
-        this.specById = Maps.newHashMap();
-        this.specById.putAll(specById);
+        final Map<ObjectSpecId, ObjectSpecification> cacheById = Maps.newConcurrentMap();
+        cacheById.putAll(specById);
+        this.specById = cacheById;
     }
 
     public ObjectSpecification remove(String typeName) {
@@ -74,7 +85,9 @@ public ObjectSpecification remove(String typeName) {
                 // umm.  It turns out that anonymous inner classes (eg org.estatio.dom.WithTitleGetter$ToString$1)
                 // don't have an ObjectSpecId; hence the guard.
                 ObjectSpecId specId = removed.getSpecId();
-                specById.remove(specId);
+                if(specId != null) {
+                    specById.remove(specId);
+                }
             }
         }
         return removed;
@@ -89,7 +102,11 @@ public void recache(ObjectSpecification spec) {
             // just ignore.
             return;
         }
-        specById.put(spec.getSpecId(), spec);
+        final ObjectSpecId specId = spec.getSpecId();
+        if(specId == null) {
+            return;
+        }
+        specById.put(specId, spec);
     }
     
     boolean isInitialized() {
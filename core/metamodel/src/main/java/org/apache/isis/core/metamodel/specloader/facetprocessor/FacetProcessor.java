@@ -86,7 +86,7 @@ public class FacetProcessor implements RuntimeContextAware {
      * <p>
      * If <tt>null</tt>, indicates that the cache hasn't been built.
      */
-    private List<String> cachedMethodPrefixes;
+    private volatile List<String> cachedMethodPrefixes;
 
     /**
      * All registered {@link FacetFactory factories} that implement
@@ -98,7 +98,7 @@ public class FacetProcessor implements RuntimeContextAware {
      * <p>
      * If <tt>null</tt>, indicates that the cache hasn't been built.
      */
-    private List<MethodFilteringFacetFactory> cachedMethodFilteringFactories;
+    private volatile List<MethodFilteringFacetFactory> cachedMethodFilteringFactories;
     
     /**
      * All registered {@link FacetFactory factories} that implement
@@ -107,7 +107,7 @@ public class FacetProcessor implements RuntimeContextAware {
      * <p>
      * If <tt>null</tt>, indicates that the cache hasn't been built.
      */
-    private List<ContributeeMemberFacetFactory> cachedMemberOrderingFactories;
+    private volatile List<ContributeeMemberFacetFactory> cachedMemberOrderingFactories;
 
     /**
      * All registered {@link FacetFactory factories} that implement
@@ -119,7 +119,7 @@ public class FacetProcessor implements RuntimeContextAware {
      * <p>
      * If <tt>null</tt>, indicates that the cache hasn't been built.
      */
-    private List<PropertyOrCollectionIdentifyingFacetFactory> cachedPropertyOrCollectionIdentifyingFactories;
+    private volatile List<PropertyOrCollectionIdentifyingFacetFactory> cachedPropertyOrCollectionIdentifyingFactories;
 
     /**
      * ObjectFeatureType => List<FacetFactory>
@@ -128,7 +128,7 @@ public class FacetProcessor implements RuntimeContextAware {
      * Lazily initialized, then cached. The lists remain in the same order that
      * the factories were {@link #registerFactory(FacetFactory) registered}.
      */
-    private Map<FeatureType, List<FacetFactory>> factoryListByFeatureType = null;
+    private volatile Map<FeatureType, List<FacetFactory>> factoryListByFeatureType = null;
 
     public FacetProcessor(final IsisConfiguration configuration, final CollectionTypeRegistry collectionTypeRegistry, final ProgrammingModel programmingModel) {
         ensureThatState(configuration, is(notNullValue()));
@@ -406,7 +406,7 @@ private synchronized void cacheByFeatureTypeIfRequired() {
         if (factoryListByFeatureType != null) {
             return;
         }
-        factoryListByFeatureType = Maps.newHashMap();
+        final Map<FeatureType, List<FacetFactory>> factoryListByFeatureType = Maps.newHashMap();
         for (final FacetFactory factory : factories) {
             final List<FeatureType> featureTypes = factory.getFeatureTypes();
             for (final FeatureType featureType : featureTypes) {
@@ -414,52 +414,56 @@ private synchronized void cacheByFeatureTypeIfRequired() {
                 factoryList.add(factory);
             }
         }
+        this.factoryListByFeatureType = factoryListByFeatureType;
     }
 
     private synchronized void cacheMethodPrefixesIfRequired() {
         if (cachedMethodPrefixes != null) {
             return;
         }
-        cachedMethodPrefixes = Lists.newArrayList();
+        final List<String> cachedMethodPrefixes = Lists.newArrayList();
         for (final FacetFactory facetFactory : factories) {
             if (facetFactory instanceof MethodPrefixBasedFacetFactory) {
                 final MethodPrefixBasedFacetFactory methodPrefixBasedFacetFactory = (MethodPrefixBasedFacetFactory) facetFactory;
                 ListExtensions.mergeWith(cachedMethodPrefixes, methodPrefixBasedFacetFactory.getPrefixes());
             }
         }
+        this.cachedMethodPrefixes = cachedMethodPrefixes;
     }
 
     private synchronized void cacheMethodFilteringFacetFactoriesIfRequired() {
         if (cachedMethodFilteringFactories != null) {
             return;
         }
-        cachedMethodFilteringFactories = Lists.newArrayList();
+        final List<MethodFilteringFacetFactory> cachedMethodFilteringFactories = Lists.newArrayList();
         for (final FacetFactory factory : factories) {
             if (factory instanceof MethodFilteringFacetFactory) {
                 final MethodFilteringFacetFactory methodFilteringFacetFactory = (MethodFilteringFacetFactory) factory;
                 cachedMethodFilteringFactories.add(methodFilteringFacetFactory);
             }
         }
+        this.cachedMethodFilteringFactories = cachedMethodFilteringFactories;
     }
 
     private synchronized void cacheMemberOrderingFacetFactoriesIfRequired() {
         if (cachedMemberOrderingFactories != null) {
             return;
         }
-        cachedMemberOrderingFactories = Lists.newArrayList();
+        final List<ContributeeMemberFacetFactory> cachedMemberOrderingFactories = Lists.newArrayList();
         for (final FacetFactory factory : factories) {
             if (factory instanceof ContributeeMemberFacetFactory) {
                 final ContributeeMemberFacetFactory memberOrderingFacetFactory = (ContributeeMemberFacetFactory) factory;
                 cachedMemberOrderingFactories.add(memberOrderingFacetFactory);
             }
         }
+        this.cachedMemberOrderingFactories = cachedMemberOrderingFactories;
     }
     
     private synchronized void cachePropertyOrCollectionIdentifyingFacetFactoriesIfRequired() {
         if (cachedPropertyOrCollectionIdentifyingFactories != null) {
             return;
         }
-        cachedPropertyOrCollectionIdentifyingFactories = Lists.newArrayList();
+        final List<PropertyOrCollectionIdentifyingFacetFactory> cachedPropertyOrCollectionIdentifyingFactories = Lists.newArrayList();
         final Iterator<FacetFactory> iter = factories.iterator();
         while (iter.hasNext()) {
             final FacetFactory factory = iter.next();
@@ -468,6 +472,7 @@ private synchronized void cachePropertyOrCollectionIdentifyingFacetFactoriesIfRe
                 cachedPropertyOrCollectionIdentifyingFactories.add(identifyingFacetFactory);
             }
         }
+        this.cachedPropertyOrCollectionIdentifyingFactories = cachedPropertyOrCollectionIdentifyingFactories;
     }
 
     private static <K, T> List<T> getList(final Map<K, List<T>> map, final K key) {
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.applib.filter.Filters;
+import org.apache.isis.core.metamodel.spec.ActionType;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+
+/**
+ * Immutable snapshot of the actions of an {@link ObjectSpecificationAbstract},
+ * pre-filtered by {@link ActionType} and {@link Contributed}, and indexed by id.
+ * 
+ * <p>
+ * Built once, and replaced whenever the actions of the specification are 
+ * updated (ie during introspection, and when contributee actions are added).
+ */
+final class ObjectActionTable {
+
+    private final Map<ActionType, Map<Contributed, List<ObjectAction>>> actionsByType = Maps.newEnumMap(ActionType.class);
+    private final Map<Contributed, List<ObjectAction>> actions = Maps.newEnumMap(Contributed.class);
+    private final Map<ActionType, Map<String, ObjectAction>> actionByTypeAndId = Maps.newEnumMap(ActionType.class);
+    private final Map<String, ObjectAction> actionById;
+
+    ObjectActionTable(final List<ObjectAction> allActions) {
+        for (final ActionType type : ActionType.ALL) {
+            final Map<Contributed, List<ObjectAction>> actionsOfType = Maps.newEnumMap(Contributed.class);
+            for (final Contributed contributed : Contributed.values()) {
+                actionsOfType.put(contributed, ImmutableList.copyOf(
+                        Iterables.filter(
+                                Iterables.filter(allActions, Filters.asPredicate(ObjectAction.Filters.ofType(type))),
+                                ContributeeMember.Predicates.<ObjectAction>regularElse(contributed))));
+            }
+            actionsByType.put(type, actionsOfType);
+            actionByTypeAndId.put(type, indexById(actionsOfType.get(Contributed.INCLUDED)));
+        }
+        for (final Contributed contributed : Contributed.values()) {
+            final ImmutableList.Builder<ObjectAction> builder = ImmutableList.builder();
+            for (final ActionType type : ActionType.ALL) {
+                builder.addAll(actionsByType.get(type).get(contributed));
+            }
+            actions.put(contributed, builder.build());
+        }
+        actionById = indexById(actions.get(Contributed.INCLUDED));
+    }
+
+    /**
+     * Indexes by both {@link org.apache.isis.applib.Identifier#toNameParmsIdentityString() name and parameters} 
+     * and by {@link org.apache.isis.applib.Identifier#toNameIdentityString() name} alone; as per a linear search
+     * over the actions, the first action to match wins.
+     */
+    private static Map<String, ObjectAction> indexById(final List<ObjectAction> actions) {
+        final Map<String, ObjectAction> actionById = Maps.newLinkedHashMap();
+        for (final ObjectAction action : actions) {
+            putIfAbsent(actionById, action.getIdentifier().toNameParmsIdentityString(), action);
+            putIfAbsent(actionById, action.getIdentifier().toNameIdentityString(), action);
+        }
+        return ImmutableMap.copyOf(actionById);
+    }
+
+    private static void putIfAbsent(final Map<String, ObjectAction> actionById, final String id, final ObjectAction action) {
+        if(!actionById.containsKey(id)) {
+            actionById.put(id, action);
+        }
+    }
+
+    List<ObjectAction> getActions(final Contributed contributed) {
+        return actions.get(contributed);
+    }
+
+    List<ObjectAction> getActions(final ActionType type, final Contributed contributed) {
+        return actionsByType.get(type).get(contributed);
+    }
+
+    /**
+     * Includes contributee actions; <tt>null</tt> if none.
+     */
+    ObjectAction getAction(final String id) {
+        return actionById.get(id);
+    }
+
+    /**
+     * Includes contributee actions; <tt>null</tt> if none.
+     */
+    ObjectAction getAction(final ActionType type, final String id) {
+        return actionByTypeAndId.get(type).get(id);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.applib.filter.Filters;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Immutable snapshot of the associations of an {@link ObjectSpecificationAbstract},
+ * pre-filtered by {@link Contributed} and indexed by id.
+ * 
+ * <p>
+ * Built once, and replaced whenever the associations of the specification are 
+ * updated (ie during introspection, and when contributee associations are added).
+ */
+final class ObjectAssociationTable {
+
+    private final Map<Contributed, List<ObjectAssociation>> associations = Maps.newEnumMap(Contributed.class);
+    private final Map<Contributed, List<OneToOneAssociation>> properties = Maps.newEnumMap(Contributed.class);
+    private final Map<Contributed, List<OneToManyAssociation>> collections = Maps.newEnumMap(Contributed.class);
+    private final Map<String, ObjectAssociation> associationById;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    ObjectAssociationTable(final List<ObjectAssociation> allAssociations) {
+        for (final Contributed contributed : Contributed.values()) {
+            final List<ObjectAssociation> associations = ImmutableList.copyOf(
+                    Iterables.filter(allAssociations, ContributeeMember.Predicates.<ObjectAssociation>regularElse(contributed)));
+            this.associations.put(contributed, associations);
+            final List properties = ImmutableList.copyOf(
+                    Iterables.filter(associations, Filters.asPredicate(ObjectAssociation.Filters.PROPERTIES)));
+            this.properties.put(contributed, properties);
+            final List collections = ImmutableList.copyOf(
+                    Iterables.filter(associations, Filters.asPredicate(ObjectAssociation.Filters.COLLECTIONS)));
+            this.collections.put(contributed, collections);
+        }
+
+        // as per a linear search, the first association with a given id wins
+        final Map<String, ObjectAssociation> associationById = Maps.newLinkedHashMap();
+        for (final ObjectAssociation association : associations.get(Contributed.INCLUDED)) {
+            if(!associationById.containsKey(association.getId())) {
+                associationById.put(association.getId(), association);
+            }
+        }
+        this.associationById = ImmutableMap.copyOf(associationById);
+    }
+
+    List<ObjectAssociation> getAssociations(final Contributed contributed) {
+        return associations.get(contributed);
+    }
+
+    List<OneToOneAssociation> getProperties(final Contributed contributed) {
+        return properties.get(contributed);
+    }
+
+    List<OneToManyAssociation> getCollections(final Contributed contributed) {
+        return collections.get(contributed);
+    }
+
+    /**
+     * Includes contributee associations; <tt>null</tt> if none.
+     */
+    ObjectAssociation getAssociation(final String id) {
+        return associationById.get(id);
+    }
+}
@@ -45,8 +45,10 @@
 import org.apache.isis.core.metamodel.facets.named.NamedFacet;
 import org.apache.isis.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
+import org.apache.isis.core.metamodel.interactions.InteractionAdvisors;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
+import org.apache.isis.core.metamodel.interactions.ValidatingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoader;
@@ -71,6 +73,11 @@ public static ObjectSpecification getSpecification(final SpecificationLoader spe
     private final CollectionTypeRegistry collectionTypeRegistry;
     private final DeploymentCategory deploymentCategory;
 
+    /**
+     * Lazily resolved by {@link #getInteractionAdvisors()} (so don't use directly!)
+     */
+    private volatile InteractionAdvisors interactionAdvisors;
+
     protected ObjectMemberAbstract(final FacetedMethod facetedMethod, final FeatureType featureType, final ObjectMemberContext objectMemberContext) {
         final String id = facetedMethod.getIdentifier().getMemberName();
         if (id == null) {
@@ -155,21 +162,53 @@ public List<Facet> getFacets(final Filter<Facet> filter) {
     @Override
     public void addFacet(final Facet facet) {
         getFacetedMethod().addFacet(facet);
+        invalidateInteractionAdvisors();
     }
 
     @Override
     public void addFacet(final MultiTypedFacet facet) {
         getFacetedMethod().addFacet(facet);
+        invalidateInteractionAdvisors();
     }
 
     @Override
     public void removeFacet(final Facet facet) {
         getFacetedMethod().removeFacet(facet);
+        invalidateInteractionAdvisors();
     }
 
     @Override
     public void removeFacet(final Class<? extends Facet> facetType) {
         getFacetedMethod().removeFacet(facetType);
+        invalidateInteractionAdvisors();
+    }
+
+    // /////////////////////////////////////////////////////////////
+    // Interaction advisors
+    // /////////////////////////////////////////////////////////////
+
+    /**
+     * The {@link HidingInteractionAdvisor}, {@link DisablingInteractionAdvisor} and
+     * {@link ValidatingInteractionAdvisor} facets of this member, resolved on first
+     * use (by which time the metamodel has been built) and then reused for every
+     * subsequent interaction.
+     */
+    protected InteractionAdvisors getInteractionAdvisors() {
+        InteractionAdvisors advisors = interactionAdvisors;
+        if (advisors == null) {
+            advisors = InteractionAdvisors.of(this);
+            interactionAdvisors = advisors;
+        }
+        return advisors;
+    }
+
+    /**
+     * To be called whenever the facets of this member are changed; subclasses that
+     * hold their own facets must call this from their own <tt>addFacet</tt> and
+     * <tt>removeFacet</tt> implementations.
+     */
+    protected void invalidateInteractionAdvisors() {
+        interactionAdvisors = null;
     }
 
     // /////////////////////////////////////////////////////////////
@@ -226,7 +265,7 @@ public Consent isVisible(final AuthenticationSession session, final ObjectAdapte
 
     private InteractionResult isVisibleResult(DeploymentCategory deploymentCategory, final AuthenticationSession session, final ObjectAdapter target, Where where) {
         final VisibilityContext<?> ic = createVisibleInteractionContext(session, InteractionInvocationMethod.BY_USER, target, where);
-        return InteractionUtils.isVisibleResult(this, ic);
+        return InteractionUtils.isVisibleResult(getInteractionAdvisors(), ic);
     }
 
     // /////////////////////////////////////////////////////////////
@@ -248,7 +287,7 @@ public Consent isUsable(final AuthenticationSession session, final ObjectAdapter
 
     private InteractionResult isUsableResult(final AuthenticationSession session, final ObjectAdapter target, Where where) {
         final UsabilityContext<?> ic = createUsableInteractionContext(session, InteractionInvocationMethod.BY_USER, target, where);
-        return InteractionUtils.isUsableResult(this, ic);
+        return InteractionUtils.isUsableResult(getInteractionAdvisors(), ic);
     }
 
     // //////////////////////////////////////////////////////////////////
@@ -22,6 +22,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Iterables;
@@ -103,14 +104,15 @@ public abstract class ObjectSpecificationAbstract extends FacetHolderImpl implem
 
     private final static Logger LOG = LoggerFactory.getLogger(ObjectSpecificationAbstract.class);
 
+    /**
+     * Copy-on-write, since subclasses of the same type may be introspected (and so
+     * added) concurrently.
+     */
     private static class SubclassList {
-        private final List<ObjectSpecification> classes = Lists.newArrayList();
+        private final CopyOnWriteArrayList<ObjectSpecification> classes = new CopyOnWriteArrayList<ObjectSpecification>();
 
         public void addSubclass(final ObjectSpecification subclass) {
-            if(classes.contains(subclass)) { 
-                return;
-            }
-            classes.add(subclass);
+            classes.addIfAbsent(subclass);
         }
 
         public boolean hasSubclasses() {
@@ -141,8 +143,23 @@ public List<ObjectSpecification> toList() {
     private final List<ObjectAssociation> associations = Lists.newArrayList();
     private final List<ObjectAction> objectActions = Lists.newArrayList();
     
-    private boolean contributeeAssociationsAdded;
-    private boolean contributeeActionsAdded;
+    /**
+     * Guards {@link #associations} and {@link #objectActions}, and the building of
+     * the tables derived from them; the tables themselves may be read without it.
+     */
+    private final Object membersLock = new Object();
+
+    private volatile boolean contributeeAssociationsAdded;
+    private volatile boolean contributeeActionsAdded;
+
+    /**
+     * Derived lazily from {@link #associations}, discarded whenever they are updated.
+     */
+    private volatile ObjectAssociationTable associationTable;
+    /**
+     * Derived lazily from {@link #objectActions}, discarded whenever they are updated.
+     */
+    private volatile ObjectActionTable actionTable;
     
     private final List<ObjectSpecification> interfaces = Lists.newArrayList();
     private final SubclassList subclasses = new SubclassList();
@@ -166,7 +183,7 @@ public List<ObjectSpecification> toList() {
     private TitleFacet titleFacet;
     private IconFacet iconFacet;
 
-    private IntrospectionState introspected = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspected = IntrospectionState.NOT_INTROSPECTED;
 
     // //////////////////////////////////////////////////////////////////////
     // Constructor
@@ -342,14 +359,20 @@ private void updateSubclasses(final ObjectSpecification subclass) {
 
     protected void sortAndUpdateAssociations(final List<ObjectAssociation> associations) {
         final List<ObjectAssociation> orderedAssociations = sortAssociations(associations);
-        this.associations.clear();
-        this.associations.addAll(orderedAssociations);
+        synchronized (membersLock) {
+            this.associations.clear();
+            this.associations.addAll(orderedAssociations);
+            this.associationTable = null;
+        }
     }
 
     protected void sortAndUpdateActions(final List<ObjectAction> objectActions) {
         final List<ObjectAction> orderedActions = sortActions(objectActions);
-        this.objectActions.clear();
-        this.objectActions.addAll(orderedActions);
+        synchronized (membersLock) {
+            this.objectActions.clear();
+            this.objectActions.addAll(orderedActions);
+            this.actionTable = null;
+        }
     }
 
     // //////////////////////////////////////////////////////////////////////
@@ -655,22 +678,46 @@ public final boolean isAbstract() {
     // Associations
     // //////////////////////////////////////////////////////////////////////
 
+    /**
+     * The returned list is immutable.
+     */
     @Override
     public List<ObjectAssociation> getAssociations(final Contributed contributee) {
+        return associationTable(contributee).getAssociations(contributee);
+    }
+
+    /**
+     * The contributee associations are merged in, and the table rebuilt, under the
+     * {@link #membersLock lock}, and the flag is only set once the new table has
+     * been published.
+     */
+    private ObjectAssociationTable associationTable(final Contributed contributee) {
         if(contributee.isIncluded() && !contributeeAssociationsAdded) {
-            List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
+            // created outside of the lock, since this reads the members of other specs
             final List<ObjectAssociation> contributeeAssociations = createContributeeAssociations();
-            associations.addAll(contributeeAssociations);
-            sortAndUpdateAssociations(associations);
-            contributeeAssociationsAdded = true;
+            synchronized (membersLock) {
+                if(!contributeeAssociationsAdded) {
+                    final List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
+                    associations.addAll(contributeeAssociations);
+                    sortAndUpdateAssociations(associations);
+                    this.associationTable = new ObjectAssociationTable(this.associations);
+                    contributeeAssociationsAdded = true;
+                }
+            }
+        }
+        final ObjectAssociationTable associationTable = this.associationTable;
+        if(associationTable != null) {
+            return associationTable;
+        }
+        synchronized (membersLock) {
+            if(this.associationTable == null) {
+                this.associationTable = new ObjectAssociationTable(this.associations);
+            }
+            return this.associationTable;
         }
-        final List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
-        return Lists.newArrayList(Iterables.filter(
-                associations, ContributeeMember.Predicates.regularElse(contributee)));
     }
 
 
-
     /**
      * The association with the given {@link ObjectAssociation#getId() id}.
      * 
@@ -679,18 +726,14 @@ public List<ObjectAssociation> getAssociations(final Contributed contributee) {
      * simply returns <tt>null</tt>.
      * 
      * <p>
-     * TODO put fields into hash.
-     * 
-     * <p>
      * TODO: could this be made final? (ie does the framework ever call this
      * method for an {@link ObjectSpecificationForFreeStandingList})
      */
     @Override
     public ObjectAssociation getAssociation(final String id) {
-        for (final ObjectAssociation objectAssociation : getAssociations(Contributed.INCLUDED)) {
-            if (objectAssociation.getId().equals(id)) {
-                return objectAssociation;
-            }
+        final ObjectAssociation objectAssociation = associationTable(Contributed.INCLUDED).getAssociation(id);
+        if (objectAssociation != null) {
+            return objectAssociation;
         }
         throw new ObjectSpecificationException("No association called '" + id + "' in '" + getSingularName() + "'");
     }
@@ -708,18 +751,20 @@ public List<ObjectAssociation> getAssociations(Contributed contributed, final Fi
                 Iterables.filter(allAssociations, Filters.asPredicate(filter)));
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    /**
+     * The returned list is immutable.
+     */
     @Override
     public List<OneToOneAssociation> getProperties(Contributed contributed) {
-        final List list = getAssociations(contributed, ObjectAssociation.Filters.PROPERTIES);
-        return list;
+        return associationTable(contributed).getProperties(contributed);
     }
 
+    /**
+     * The returned list is immutable.
+     */
     @Override
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     public List<OneToManyAssociation> getCollections(Contributed contributed) {
-        final List list = getAssociations(contributed, ObjectAssociation.Filters.COLLECTIONS);
-        return list;
+        return associationTable(contributed).getCollections(contributed);
     }
 
     // //////////////////////////////////////////////////////////////////////
@@ -731,31 +776,25 @@ public List<ObjectAction> getObjectActions(
             final List<ActionType> types,
             final Contributed contributed, 
             final Filter<ObjectAction> filter) {
-        if(contributed.isIncluded() && !contributeeActionsAdded) {
-            final List<ObjectAction> actions = Lists.newArrayList(this.objectActions);
-            actions.addAll(createContributeeActions());
-            sortAndUpdateActions(actions);
-            contributeeActionsAdded = true;
-        }
-        
+        final ObjectActionTable actionTable = actionTable(contributed);
         final List<ObjectAction> actions = Lists.newArrayList();
         for (final ActionType type : types) {
-            @SuppressWarnings("unchecked")
-            final List<ObjectAction> filterActions = 
-                    Lists.newArrayList(Iterables.filter(
-                            objectActions, 
-                            Filters.asPredicate(Filters.and(
-                                    ObjectAction.Filters.ofType(type), filter))));
-            actions.addAll(filterActions);
+            for (final ObjectAction action : actionTable.getActions(type, contributed)) {
+                if(filter.accept(action)) {
+                    actions.add(action);
+                }
+            }
         }
-        return Lists.newArrayList(Iterables.filter(
-                actions, ContributeeMember.Predicates.regularElse(contributed)));
+        return actions;
     }
     
+    /**
+     * The returned list is immutable.
+     */
     @Override
     public List<ObjectAction> getObjectActions(
             final Contributed contributed) {
-        return getObjectActions(ActionType.ALL, contributed, Filters.<ObjectAction>any());
+        return actionTable(contributed).getActions(contributed);
     }
 
     @Override
@@ -766,6 +805,49 @@ public List<ObjectAction> getObjectActions(
         return getObjectActions(Collections.singletonList(type), contributed, filter);
     }
 
+    /**
+     * The action (including contributee actions) with the specified 
+     * {@link org.apache.isis.applib.Identifier#toNameParmsIdentityString() name and parameters}, 
+     * or {@link org.apache.isis.applib.Identifier#toNameIdentityString() name}, 
+     * optionally restricted to a given type; <tt>null</tt> if there is none.
+     */
+    protected ObjectAction getObjectActionById(final ActionType typeIfAny, final String id) {
+        if (id == null) {
+            return null;
+        }
+        final ObjectActionTable actionTable = actionTable(Contributed.INCLUDED);
+        return typeIfAny != null ? actionTable.getAction(typeIfAny, id) : actionTable.getAction(id);
+    }
+
+    /**
+     * As for {@link #associationTable(Contributed)}.
+     */
+    private ObjectActionTable actionTable(final Contributed contributed) {
+        if(contributed.isIncluded() && !contributeeActionsAdded) {
+            // created outside of the lock, since this reads the members of other specs
+            final List<ObjectAction> contributeeActions = createContributeeActions();
+            synchronized (membersLock) {
+                if(!contributeeActionsAdded) {
+                    final List<ObjectAction> actions = Lists.newArrayList(this.objectActions);
+                    actions.addAll(contributeeActions);
+                    sortAndUpdateActions(actions);
+                    this.actionTable = new ObjectActionTable(this.objectActions);
+                    contributeeActionsAdded = true;
+                }
+            }
+        }
+        final ObjectActionTable actionTable = this.actionTable;
+        if(actionTable != null) {
+            return actionTable;
+        }
+        synchronized (membersLock) {
+            if(this.actionTable == null) {
+                this.actionTable = new ObjectActionTable(this.objectActions);
+            }
+            return this.actionTable;
+        }
+    }
+
     // //////////////////////////////////////////////////////////////////////
     // sorting
     // //////////////////////////////////////////////////////////////////////
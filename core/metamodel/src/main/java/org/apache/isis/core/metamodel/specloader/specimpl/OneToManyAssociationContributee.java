@@ -142,21 +142,25 @@ public List<Facet> getFacets(Filter<Facet> filter) {
     @Override
     public void addFacet(Facet facet) {
         facetHolder.addFacet(facet);
+        invalidateInteractionAdvisors();
     }
 
     @Override
     public void addFacet(MultiTypedFacet facet) {
         facetHolder.addFacet(facet);
+        invalidateInteractionAdvisors();
     }
     
     @Override
     public void removeFacet(Facet facet) {
         facetHolder.removeFacet(facet);
+        invalidateInteractionAdvisors();
     }
 
     @Override
     public void removeFacet(Class<? extends Facet> facetType) {
         facetHolder.removeFacet(facetType);
+        invalidateInteractionAdvisors();
     }
 
 }
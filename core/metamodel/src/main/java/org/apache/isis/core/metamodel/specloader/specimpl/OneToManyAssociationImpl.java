@@ -108,7 +108,7 @@ public Consent isValidToAdd(final ObjectAdapter ownerAdapter, final ObjectAdapte
 
     private InteractionResult isValidToAddResult(final ObjectAdapter ownerAdapter, final ObjectAdapter proposedToAddAdapter) {
         final ValidityContext<?> validityContext = createValidateAddInteractionContext(getAuthenticationSession(), InteractionInvocationMethod.BY_USER, ownerAdapter, proposedToAddAdapter);
-        return InteractionUtils.isValidResult(this, validityContext);
+        return InteractionUtils.isValidResult(getInteractionAdvisors(), validityContext);
     }
 
     // /////////////////////////////////////////////////////////////
@@ -131,7 +131,7 @@ public Consent isValidToRemove(final ObjectAdapter ownerAdapter, final ObjectAda
 
     private InteractionResult isValidToRemoveResult(final ObjectAdapter ownerAdapter, final ObjectAdapter proposedToRemoveAdapter) {
         final ValidityContext<?> validityContext = createValidateRemoveInteractionContext(getAuthenticationSession(), InteractionInvocationMethod.BY_USER, ownerAdapter, proposedToRemoveAdapter);
-        return InteractionUtils.isValidResult(this, validityContext);
+        return InteractionUtils.isValidResult(getInteractionAdvisors(), validityContext);
     }
 
     private boolean readWrite() {
@@ -107,7 +107,7 @@ public Consent isAssociationValid(final ObjectAdapter ownerAdapter, final Object
 
     private InteractionResult isAssociationValidResult(final ObjectAdapter ownerAdapter, final ObjectAdapter proposedToReferenceAdapter) {
         final ValidityContext<?> validityContext = createValidateInteractionContext(getAuthenticationSession(), InteractionInvocationMethod.BY_USER, ownerAdapter, proposedToReferenceAdapter);
-        return InteractionUtils.isValidResult(this, validityContext);
+        return InteractionUtils.isValidResult(getInteractionAdvisors(), validityContext);
     }
 
     // /////////////////////////////////////////////////////////////
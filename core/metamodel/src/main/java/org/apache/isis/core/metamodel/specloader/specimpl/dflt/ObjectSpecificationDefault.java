@@ -330,16 +330,12 @@ public ObjectAction getObjectAction(final ActionType type, final String id, fina
 
     @Override
     public ObjectAction getObjectAction(final ActionType type, final String id) {
-        final List<ObjectAction> actions = 
-                getObjectActions(type, Contributed.INCLUDED, Filters.<ObjectAction>any()); 
-        return firstAction(actions, id);
+        return getObjectActionById(type, id);
     }
 
     @Override
     public ObjectAction getObjectAction(final String id) {
-        final List<ObjectAction> actions = 
-                getObjectActions(ActionType.ALL, Contributed.INCLUDED, Filters.<ObjectAction>any()); 
-        return firstAction(actions, id);
+        return getObjectActionById(null, id);
     }
 
     private static ObjectAction firstAction(
@@ -364,25 +360,6 @@ private static ObjectAction firstAction(
         return null;
     }
 
-    private static ObjectAction firstAction(
-            final List<ObjectAction> candidateActions, 
-            final String id) {
-        if (id == null) {
-            return null;
-        }
-        for (int i = 0; i < candidateActions.size(); i++) {
-            final ObjectAction action = candidateActions.get(i);
-            if (id.equals(action.getIdentifier().toNameParmsIdentityString())) {
-                return action;
-            }
-            if (id.equals(action.getIdentifier().toNameIdentityString())) {
-                return action;
-            }
-            continue;
-        }
-        return null;
-    }
-
     // //////////////////////////////////////////////////////////////////////
     // createObject
     // //////////////////////////////////////////////////////////////////////
@@ -54,6 +54,7 @@
 import org.apache.isis.core.metamodel.facets.object.viewmodel.ViewModelFacet;
 import org.apache.isis.core.metamodel.facets.typeof.ElementSpecificationProviderFromTypeOfFacet;
 import org.apache.isis.core.metamodel.facets.typeof.TypeOfFacet;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokers;
 import org.apache.isis.core.metamodel.runtimecontext.RuntimeContext;
 import org.apache.isis.core.metamodel.runtimecontext.ServicesInjector;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -204,7 +205,7 @@ public ObjectAdapter invoke(
                     command.setStartedAt(Clock.getTimeAsJavaSqlTimestamp());
                 }
                 
-                final Object result = method.invoke(object, executionParameters);
+                final Object result = MethodInvokers.invokerFor(method).invoke(object, executionParameters);
 
                 if (LOG.isDebugEnabled()) {
                     LOG.debug(" action result " + result);
@@ -26,7 +26,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
@@ -44,7 +44,15 @@
 
 public class AuthenticationManagerStandard implements AuthenticationManager, DebuggableWithTitle {
 
-    private final Map<String, String> userByValidationCode = Maps.newHashMap();
+    /**
+     * Concurrent, so that {@link #authenticate(AuthenticationRequest)} need
+     * not be serialized (it may involve a round-trip to eg LDAP).
+     * 
+     * <p>
+     * Values are either the user name or, while an authentication is in
+     * progress, the {@link #RESERVED} placeholder.
+     */
+    private final ConcurrentMap<String, Object> userByValidationCode = Maps.newConcurrentMap();
 
     /**
      * Not final because may be set {@link #setAuthenticators(List)
@@ -108,8 +116,11 @@ public void shutdown() {
     // Session Management (including authenticate)
     // //////////////////////////////////////////////////////////
 
+    /**
+     * Not synchronized; {@link Authenticator}s are expected to be thread-safe.
+     */
     @Override
-    public synchronized final AuthenticationSession authenticate(final AuthenticationRequest request) {
+    public final AuthenticationSession authenticate(final AuthenticationRequest request) {
         if (request == null) {
             return null;
         }
@@ -119,28 +130,40 @@ public synchronized final AuthenticationSession authenticate(final Authenticatio
             throw new NoAuthenticatorException("No authenticator available for processing " + request.getClass().getName());
         }
         for (final Authenticator authenticator : compatibleAuthenticators) {
-            final AuthenticationSession authSession = authenticator.authenticate(request, getUnusedRandomCode());
-            if (authSession != null) {
-                userByValidationCode.put(authSession.getValidationCode(), authSession.getUserName());
-                return authSession;
+            final String code = reserveUnusedRandomCode();
+            try {
+                final AuthenticationSession authSession = authenticator.authenticate(request, code);
+                if (authSession != null) {
+                    userByValidationCode.put(authSession.getValidationCode(), authSession.getUserName());
+                    return authSession;
+                }
+            } finally {
+                // no-op if the code has since been taken by the new session
+                userByValidationCode.remove(code, RESERVED);
             }
         }
         return null;
     }
 
-    private String getUnusedRandomCode() {
+    /**
+     * Placeholder, so that a code cannot be handed out to two concurrent
+     * requests; not a {@link String}, so never equal to a real user name.
+     */
+    private static final Object RESERVED = new Object();
+
+    private String reserveUnusedRandomCode() {
         String code;
         do {
             code = randomCodeGenerator.generateRandomCode();
-        } while (userByValidationCode.containsKey(code));
+        } while (userByValidationCode.putIfAbsent(code, RESERVED) != null);
 
         return code;
     }
 
     @Override
     public final boolean isSessionValid(final AuthenticationSession session) {
-        final String userName = userByValidationCode.get(session.getValidationCode());
-        return session.hasUserNameOf(userName);
+        final Object userName = userByValidationCode.get(session.getValidationCode());
+        return userName instanceof String && session.hasUserNameOf((String) userName);
     }
 
     @Override
@@ -255,8 +278,10 @@ public void debugData(final DebugBuilder debug) {
         }
 
         debug.appendTitle("Users");
-        for (final String userName : userByValidationCode.values()) {
-            debug.appendln(userName);
+        for (final Object userName : userByValidationCode.values()) {
+            if (userName != RESERVED) {
+                debug.appendln((String) userName);
+            }
         }
     }
 
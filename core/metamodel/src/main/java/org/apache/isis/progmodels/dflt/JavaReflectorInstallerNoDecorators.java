@@ -38,6 +38,8 @@
 import org.apache.isis.core.metamodel.facetapi.MetaModelRefiner;
 import org.apache.isis.core.metamodel.facetdecorator.FacetDecorator;
 import org.apache.isis.core.metamodel.facets.FacetFactory;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokerFactory;
+import org.apache.isis.core.metamodel.methodutils.MethodInvokers;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
 import org.apache.isis.core.metamodel.specloader.FacetDecoratorInstaller;
@@ -85,6 +87,7 @@ public SpecificationLoaderSpi createReflector(final ClassSubstitutorFactory clas
         final ProgrammingModel programmingModel = createProgrammingModel(getConfiguration());
         final Set<FacetDecorator> facetDecorators = createFacetDecorators(getConfiguration());
         final MetaModelValidator mmv = createMetaModelValidator(getConfiguration());
+        MethodInvokers.setFactory(createMethodInvokerFactory(getConfiguration()));
         
         return JavaReflectorHelper.createObjectReflector(programmingModel, classSubstitutorFactory, metaModelRefiners, facetDecorators, mmv, getConfiguration());
     }
@@ -174,6 +177,22 @@ protected MetaModelValidator createMetaModelValidator(final IsisConfiguration co
         return InstanceUtil.createInstance(metaModelValidatorClassName, MetaModelValidator.class);
     }
 
+    /**
+     * Hook method to allow subclasses to specify a different implementation of
+     * {@link MethodInvokerFactory}.
+     * 
+     * <p>
+     * By default, looks up implementation from provided
+     * {@link IsisConfiguration} using
+     * {@link ReflectorConstants#METHOD_INVOKER_FACTORY_CLASS_NAME}. If not
+     * specified, then defaults to
+     * {@value ReflectorConstants#METHOD_INVOKER_FACTORY_CLASS_NAME_DEFAULT}.
+     */
+    protected MethodInvokerFactory createMethodInvokerFactory(final IsisConfiguration configuration) {
+        final String methodInvokerFactoryClassName = configuration.getString(ReflectorConstants.METHOD_INVOKER_FACTORY_CLASS_NAME, ReflectorConstants.METHOD_INVOKER_FACTORY_CLASS_NAME_DEFAULT);
+        return InstanceUtil.createInstance(methodInvokerFactoryClassName, MethodInvokerFactory.class);
+    }
+
 
 
     // /////////////////////////////////////////////////////
@@ -0,0 +1,145 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.interactions;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.events.VisibilityEvent;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.InteractionInvocationMethod;
+import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.FacetHolderImpl;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class InteractionUtilsTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ObjectAdapter mockTargetAdapter;
+
+    public static class Customer {
+    }
+
+    public interface HidesFacet1 extends Facet {
+    }
+
+    public interface HidesFacet2 extends Facet {
+    }
+
+    public interface HidesFacet3 extends Facet {
+    }
+
+    static class HidingFacet extends FacetAbstract implements HidingInteractionAdvisor {
+
+        private final String reason;
+        private int invocationCount;
+
+        HidingFacet(final Class<? extends Facet> facetType, final FacetHolder holder, final String reason) {
+            super(facetType, holder, Derivation.NOT_DERIVED);
+            this.reason = reason;
+        }
+
+        @Override
+        public String hides(final VisibilityContext<? extends VisibilityEvent> ic) {
+            invocationCount++;
+            return reason;
+        }
+    }
+
+    private FacetHolderImpl facetHolder;
+    private PropertyVisibilityContext visibilityContext;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(mockTargetAdapter).getObject();
+                will(returnValue(new Customer()));
+            }
+        });
+
+        facetHolder = new FacetHolderImpl();
+        visibilityContext = new PropertyVisibilityContext(DeploymentCategory.PRODUCTION, null, InteractionInvocationMethod.BY_USER, mockTargetAdapter, Identifier.propertyOrCollectionIdentifier(Customer.class, "firstName"), Where.ANYWHERE);
+    }
+
+    @Test
+    public void whenNoAdvisors() throws Exception {
+        final InteractionResult result = InteractionUtils.isVisibleResult(InteractionAdvisors.of(facetHolder), visibilityContext);
+        assertThat(result.isNotVetoing(), is(true));
+    }
+
+    @Test
+    public void whenNoneVeto_allAreConsulted() throws Exception {
+        final HidingFacet facet1 = new HidingFacet(HidesFacet1.class, facetHolder, null);
+        final HidingFacet facet2 = new HidingFacet(HidesFacet2.class, facetHolder, null);
+        facetHolder.addFacet(facet1);
+        facetHolder.addFacet(facet2);
+
+        final InteractionResult result = InteractionUtils.isVisibleResult(InteractionAdvisors.of(facetHolder), visibilityContext);
+
+        assertThat(result.isNotVetoing(), is(true));
+        assertThat(result.getReason(), is(nullValue()));
+        assertThat(facet1.invocationCount, is(1));
+        assertThat(facet2.invocationCount, is(1));
+    }
+
+    @Test
+    public void whenSeveralVeto_stopsAtFirst() throws Exception {
+        final HidingFacet facet1 = new HidingFacet(HidesFacet1.class, facetHolder, "hidden");
+        final HidingFacet facet2 = new HidingFacet(HidesFacet2.class, facetHolder, "hidden");
+        final HidingFacet facet3 = new HidingFacet(HidesFacet3.class, facetHolder, "hidden");
+        facetHolder.addFacet(facet1);
+        facetHolder.addFacet(facet2);
+        facetHolder.addFacet(facet3);
+
+        final InteractionResult result = InteractionUtils.isVisibleResult(facetHolder, visibilityContext);
+
+        assertThat(result.isVetoing(), is(true));
+        assertThat(result.getReason(), is("hidden"));
+        assertThat(facet1.invocationCount + facet2.invocationCount + facet3.invocationCount, is(1));
+    }
+
+    @Test
+    public void advisorsAreResolvedOnce() throws Exception {
+        final InteractionAdvisors advisors = InteractionAdvisors.of(facetHolder);
+        facetHolder.addFacet(new HidingFacet(HidesFacet1.class, facetHolder, "hidden"));
+
+        assertThat(InteractionUtils.isVisibleResult(advisors, visibilityContext).isNotVetoing(), is(true));
+        assertThat(InteractionUtils.isVisibleResult(InteractionAdvisors.of(facetHolder), visibilityContext).isVetoing(), is(true));
+    }
+
+}
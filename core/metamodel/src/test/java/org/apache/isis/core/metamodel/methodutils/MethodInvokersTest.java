@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import org.apache.isis.core.commons.lang.MethodExtensions;
+
+@RunWith(Parameterized.class)
+public class MethodInvokersTest {
+
+    public static class Customer {
+        private String name;
+        private int age;
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+        public int getAge() { return age; }
+        public void setAge(final int age) { this.age = age; }
+        public String rename(final String first, final String last, final int[] ignored) { return name = first + " " + last; }
+        public void fail() { throw new IllegalStateException("failed"); }
+        public static String title(final Customer customer) { return "Customer: " + customer.getName(); }
+    }
+
+    @Parameters
+    public static Collection<Object[]> factories() {
+        return Arrays.asList(new Object[][] { 
+                { new MethodInvokerFactoryReflective() }, 
+                { new MethodInvokerFactoryMethodHandles() } });
+    }
+
+    private final MethodInvokerFactory factory;
+    private Customer customer;
+
+    public MethodInvokersTest(final MethodInvokerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MethodInvokers.setFactory(factory);
+        customer = new Customer();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        MethodInvokers.setFactory(null);
+    }
+
+    @Test
+    public void invokerIsCached() throws Exception {
+        final Method method = Customer.class.getMethod("getName");
+        final MethodInvoker invoker = MethodInvokers.invokerFor(method);
+        assertThat(invoker.getMethod(), is(method));
+        assertThat(MethodInvokers.invokerFor(method), is(sameInstance(invoker)));
+    }
+
+    @Test
+    public void invokeGetterAndSetter() throws Exception {
+        MethodExtensions.invoke(Customer.class.getMethod("setName", String.class), customer, new Object[] { "Fred" });
+        assertThat((String) MethodExtensions.invoke(Customer.class.getMethod("getName"), customer), is("Fred"));
+    }
+
+    @Test
+    public void invokePrimitives() throws Exception {
+        MethodExtensions.invoke(Customer.class.getMethod("setAge", int.class), customer, new Object[] { 42 });
+        assertThat((Integer) MethodExtensions.invoke(Customer.class.getMethod("getAge"), customer), is(42));
+    }
+
+    @Test
+    public void invokeWithSeveralArguments() throws Exception {
+        final Object result = MethodExtensions.invoke(Customer.class.getMethod("rename", String.class, String.class, int[].class), customer, new Object[] { "Fred", "Smith", null });
+        assertThat((String) result, is("Fred Smith"));
+        assertThat(customer.getName(), is("Fred Smith"));
+    }
+
+    @Test
+    public void invokeVoidReturnsNull() throws Exception {
+        final Object result = MethodInvokers.invokerFor(Customer.class.getMethod("setName", String.class)).invoke(customer, new Object[] { "Fred" });
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    public void invokeStatic() throws Exception {
+        customer.setName("Fred");
+        assertThat((String) MethodExtensions.invokeStatic(Customer.class.getMethod("title", Customer.class), new Object[] { customer }), is("Customer: Fred"));
+    }
+
+    @Test
+    public void exceptionIsWrapped() throws Exception {
+        try {
+            MethodInvokers.invokerFor(Customer.class.getMethod("fail")).invoke(customer, new Object[0]);
+            fail();
+        } catch (final InvocationTargetException ex) {
+            assertThat(ex.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongNumberOfArguments() throws Exception {
+        MethodInvokers.invokerFor(Customer.class.getMethod("setName", String.class)).invoke(customer, new Object[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongArgumentType() throws Exception {
+        MethodInvokers.invokerFor(Customer.class.getMethod("setName", String.class)).invoke(customer, new Object[] { 42 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullForPrimitiveArgument() throws Exception {
+        MethodInvokers.invokerFor(Customer.class.getMethod("setAge", int.class)).invoke(customer, new Object[] { null });
+    }
+
+    @Test
+    public void primitiveArgumentIsWidened() throws Exception {
+        MethodInvokers.invokerFor(Customer.class.getMethod("setAge", int.class)).invoke(customer, new Object[] { (short) 42 });
+        assertThat(customer.getAge(), is(42));
+    }
+
+}
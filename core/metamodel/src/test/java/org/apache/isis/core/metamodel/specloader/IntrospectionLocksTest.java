@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class IntrospectionLocksTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_ONLY);
+
+    @Mock
+    private ObjectSpecification customerSpec;
+    @Mock
+    private ObjectSpecification orderSpec;
+
+    private IntrospectionLocks locks;
+
+    @Before
+    public void setUp() throws Exception {
+        locks = new IntrospectionLocks();
+    }
+
+    @Test
+    public void whenNotClaimed_doesNotWait() throws Exception {
+        locks.awaitIntrospected(customerSpec);
+    }
+
+    @Test
+    public void whenClaimedByCurrentThread_doesNotWait() throws Exception {
+        locks.claim(customerSpec);
+        locks.awaitIntrospected(customerSpec);
+    }
+
+    @Test
+    public void whenClaimedByOtherThread_waitsUntilReleased() throws Exception {
+        locks.claim(customerSpec);
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final AtomicBoolean releasedWhenAwaited = new AtomicBoolean();
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                locks.awaitIntrospected(customerSpec);
+                releasedWhenAwaited.set(released.get());
+            }
+        };
+        thread.start();
+        Thread.sleep(100);
+
+        released.set(true);
+        locks.release(customerSpec);
+        thread.join(5000);
+
+        assertThat(releasedWhenAwaited.get(), is(true));
+    }
+
+    @Test
+    public void whenOtherThreadIsWaitingOnCurrentThread_doesNotWait() throws Exception {
+        locks.claim(customerSpec);
+
+        final CountDownLatch orderClaimed = new CountDownLatch(1);
+        final CountDownLatch awaitedCustomer = new CountDownLatch(1);
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                locks.claim(orderSpec);
+                orderClaimed.countDown();
+                locks.awaitIntrospected(customerSpec);
+                awaitedCustomer.countDown();
+                locks.release(orderSpec);
+            }
+        };
+        thread.start();
+        orderClaimed.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+
+        // the other thread is waiting on customer (claimed by us), so we must not wait on order 
+        locks.awaitIntrospected(orderSpec);
+
+        locks.release(customerSpec);
+        assertThat(awaitedCustomer.await(5, TimeUnit.SECONDS), is(true));
+        thread.join(5000);
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.junit.Test;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.facetdecorator.FacetDecorator;
+import org.apache.isis.core.metamodel.runtimecontext.noruntime.RuntimeContextNoRuntime;
+import org.apache.isis.core.metamodel.services.container.DomainObjectContainerDefault;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutorAbstract;
+import org.apache.isis.core.metamodel.specloader.collectiontyperegistry.CollectionTypeRegistryDefault;
+import org.apache.isis.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract;
+import org.apache.isis.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract.IntrospectionState;
+import org.apache.isis.core.metamodel.specloader.traverser.SpecificationTraverserDefault;
+import org.apache.isis.core.progmodel.metamodelvalidator.dflt.MetaModelValidatorDefault;
+import org.apache.isis.progmodels.dflt.ProgrammingModelFacetsJava5;
+
+public class ObjectReflectorDefaultTest_introspection {
+
+    public static class Customer {
+        private String name;
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+        private List<Order> orders = Lists.newArrayList();
+        public List<Order> getOrders() { return orders; }
+        public void setOrders(final List<Order> orders) { this.orders = orders; }
+        public Order placeOrder(final Product product, final Integer quantity) { return null; }
+    }
+    public static class Order {
+        private Customer customer;
+        public Customer getCustomer() { return customer; }
+        public void setCustomer(final Customer customer) { this.customer = customer; }
+        private Product product;
+        public Product getProduct() { return product; }
+        public void setProduct(final Product product) { this.product = product; }
+    }
+    public static class Product {
+        private Supplier supplier;
+        public Supplier getSupplier() { return supplier; }
+        public void setSupplier(final Supplier supplier) { this.supplier = supplier; }
+    }
+    public static class Supplier {
+        private List<Product> products = Lists.newArrayList();
+        public List<Product> getProducts() { return products; }
+        public void setProducts(final List<Product> products) { this.products = products; }
+    }
+    public static class Customers {
+        public Customer findCustomer(final String name) { return null; }
+    }
+    public static class Products {
+        public Product findProduct(final String name) { return null; }
+        public List<Supplier> allSuppliers() { return null; }
+    }
+    public static abstract class Party {
+        private String name;
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+    }
+    public static class Person extends Party {}
+    public static class Organisation extends Party {}
+    public static class Partnership extends Party {}
+    public static class Trust extends Party {}
+    public static class Charity extends Party {}
+    public static class Government extends Party {}
+    public static class Parties {
+        public Person findPerson(final String name) { return null; }
+        public Organisation findOrganisation(final String name) { return null; }
+        public Partnership findPartnership(final String name) { return null; }
+        public Trust findTrust(final String name) { return null; }
+        public Charity findCharity(final String name) { return null; }
+        public Government findGovernment(final String name) { return null; }
+    }
+
+    @Test
+    public void parallel_introspectsSameTypesAsSerial() throws Exception {
+        final ObjectReflectorDefault serial = newReflector(new IsisConfigurationDefault());
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        configuration.add(ReflectorConstants.INTROSPECTION_THREADS, "4");
+        final ObjectReflectorDefault parallel = newReflector(configuration);
+
+        assertThat(classNamesOf(parallel), is(classNamesOf(serial)));
+        assertAllIntrospected(parallel);
+
+        final ObjectSpecification customerSpec = parallel.loadSpecification(Customer.class);
+        final ObjectSpecification orderSpec = parallel.loadSpecification(Order.class);
+        assertThat(orderSpec.getAssociation("customer").getSpecification(), is(sameInstance(customerSpec)));
+        assertThat(customerSpec.getAssociation("orders").getSpecification(), is(sameInstance(orderSpec)));
+    }
+
+    @Test
+    public void parallel_registersEachSubclassOnce() throws Exception {
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        configuration.add(ReflectorConstants.INTROSPECTION_THREADS, "4");
+        final ObjectReflectorDefault parallel = newReflector(configuration);
+
+        final Set<String> subclassNames = Sets.newTreeSet();
+        final List<ObjectSpecification> subclasses = parallel.loadSpecification(Party.class).subclasses();
+        for (final ObjectSpecification subclass : subclasses) {
+            subclassNames.add(subclass.getCorrespondingClass().getName());
+        }
+        assertThat(subclasses.size(), is(6));
+        assertThat(subclassNames.size(), is(6));
+    }
+
+    private static ObjectReflectorDefault newReflector(final IsisConfigurationDefault configuration) {
+        final ObjectReflectorDefault reflector = 
+                new ObjectReflectorDefault(
+                        configuration, 
+                        new ClassSubstitutorAbstract() {}, 
+                        new CollectionTypeRegistryDefault(), 
+                        new SpecificationTraverserDefault(), 
+                        new ProgrammingModelFacetsJava5(), 
+                        new HashSet<FacetDecorator>(),
+                        new MetaModelValidatorDefault());
+        reflector.setRuntimeContext(new RuntimeContextNoRuntime());
+        reflector.setContainer(new DomainObjectContainerDefault());
+        reflector.setServices(Collections.<Object>unmodifiableList(Lists.<Object>newArrayList(new Customers(), new Products(), new Parties())));
+        reflector.init();
+        return reflector;
+    }
+
+    private static Set<String> classNamesOf(final ObjectReflectorDefault reflector) {
+        final Set<String> classNames = Sets.newTreeSet();
+        for (final ObjectSpecification spec : reflector.allSpecifications()) {
+            classNames.add(spec.getCorrespondingClass().getName());
+        }
+        return classNames;
+    }
+
+    private static void assertAllIntrospected(final ObjectReflectorDefault reflector) {
+        for (final ObjectSpecification spec : reflector.allSpecifications()) {
+            assertThat(spec.getFullIdentifier(), ((ObjectSpecificationAbstract) spec).getIntrospectionState(), is(IntrospectionState.INTROSPECTED));
+        }
+    }
+
+}
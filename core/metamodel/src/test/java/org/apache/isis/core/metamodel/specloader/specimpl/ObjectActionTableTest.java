@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.core.metamodel.spec.ActionType;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class ObjectActionTableTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ObjectAction placeOrder;
+    @Mock
+    private ObjectAction placeOrderWithQuantity;
+    @Mock
+    private ObjectAction debugDump;
+
+    private ObjectActionTable table;
+
+    @Before
+    public void setUp() throws Exception {
+        allowing(placeOrder, ActionType.USER, Identifier.actionIdentifier("Customer", "placeOrder"));
+        allowing(placeOrderWithQuantity, ActionType.USER, Identifier.actionIdentifier("Customer", "placeOrder", Integer.class));
+        allowing(debugDump, ActionType.DEBUG, Identifier.actionIdentifier("Customer", "dump"));
+
+        table = new ObjectActionTable(Arrays.asList(placeOrder, placeOrderWithQuantity, debugDump));
+    }
+
+    private void allowing(final ObjectAction action, final ActionType type, final Identifier identifier) {
+        context.checking(new Expectations() {
+            {
+                allowing(action).getType();
+                will(returnValue(type));
+                allowing(action).getIdentifier();
+                will(returnValue(identifier));
+            }
+        });
+    }
+
+    @Test
+    public void actionsOrderedByType() throws Exception {
+        assertThat(table.getActions(Contributed.INCLUDED), is(Arrays.asList(debugDump, placeOrder, placeOrderWithQuantity)));
+        assertThat(table.getActions(ActionType.USER, Contributed.EXCLUDED), is(Arrays.asList(placeOrder, placeOrderWithQuantity)));
+    }
+
+    @Test
+    public void byNameFirstMatchWins() throws Exception {
+        assertThat(table.getAction("placeOrder"), is(placeOrder));
+    }
+
+    @Test
+    public void byNameAndParameters() throws Exception {
+        assertThat(table.getAction("placeOrder(java.lang.Integer)"), is(placeOrderWithQuantity));
+    }
+
+    @Test
+    public void byTypeAndName() throws Exception {
+        assertThat(table.getAction(ActionType.DEBUG, "dump"), is(debugDump));
+        assertThat(table.getAction(ActionType.USER, "dump"), is(nullValue()));
+    }
+
+}
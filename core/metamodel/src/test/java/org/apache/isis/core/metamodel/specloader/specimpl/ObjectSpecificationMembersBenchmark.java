@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.facetdecorator.FacetDecorator;
+import org.apache.isis.core.metamodel.runtimecontext.noruntime.RuntimeContextNoRuntime;
+import org.apache.isis.core.metamodel.services.container.DomainObjectContainerDefault;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.metamodel.specloader.ObjectReflectorDefault;
+import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutorAbstract;
+import org.apache.isis.core.metamodel.specloader.collectiontyperegistry.CollectionTypeRegistryDefault;
+import org.apache.isis.core.metamodel.specloader.traverser.SpecificationTraverserDefault;
+import org.apache.isis.core.progmodel.metamodelvalidator.dflt.MetaModelValidatorDefault;
+import org.apache.isis.progmodels.dflt.ProgrammingModelFacetsJava5;
+
+/**
+ * Microbenchmark of the member lookups on {@link ObjectSpecificationAbstract}, 
+ * which are called for every member of every object rendered by the viewers.
+ * 
+ * <p>
+ * The <tt>xxx_copyFilterScan</tt> benchmarks reproduce the previous 
+ * implementation (copy the members, filter them, then search linearly), 
+ * for comparison.
+ * 
+ * <p>
+ * Run using the {@link #main(String[]) main} method, eg from the IDE (not run as part of the build).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ObjectSpecificationMembersBenchmark {
+
+    public static class Customer {
+        private String firstName;
+        public String getFirstName() { return firstName; }
+        public void setFirstName(final String firstName) { this.firstName = firstName; }
+        private String lastName;
+        public String getLastName() { return lastName; }
+        public void setLastName(final String lastName) { this.lastName = lastName; }
+        private String email;
+        public String getEmail() { return email; }
+        public void setEmail(final String email) { this.email = email; }
+        private String phone;
+        public String getPhone() { return phone; }
+        public void setPhone(final String phone) { this.phone = phone; }
+        private String street;
+        public String getStreet() { return street; }
+        public void setStreet(final String street) { this.street = street; }
+        private String city;
+        public String getCity() { return city; }
+        public void setCity(final String city) { this.city = city; }
+        private String postcode;
+        public String getPostcode() { return postcode; }
+        public void setPostcode(final String postcode) { this.postcode = postcode; }
+        private String country;
+        public String getCountry() { return country; }
+        public void setCountry(final String country) { this.country = country; }
+        private Integer loyaltyPoints;
+        public Integer getLoyaltyPoints() { return loyaltyPoints; }
+        public void setLoyaltyPoints(final Integer loyaltyPoints) { this.loyaltyPoints = loyaltyPoints; }
+        private Boolean active;
+        public Boolean getActive() { return active; }
+        public void setActive(final Boolean active) { this.active = active; }
+        private List<Customer> referrals = Lists.newArrayList();
+        public List<Customer> getReferrals() { return referrals; }
+        public void setReferrals(final List<Customer> referrals) { this.referrals = referrals; }
+
+        public void activate() { }
+        public void deactivate() { }
+        public Customer refer(final Customer customer) { return this; }
+        public void addLoyaltyPoints(final Integer points) { }
+    }
+
+    private ObjectSpecification specification;
+
+    @Setup
+    public void setUp() {
+        final ObjectReflectorDefault reflector = 
+                new ObjectReflectorDefault(
+                        new IsisConfigurationDefault(), 
+                        new ClassSubstitutorAbstract() {}, 
+                        new CollectionTypeRegistryDefault(), 
+                        new SpecificationTraverserDefault(), 
+                        new ProgrammingModelFacetsJava5(), 
+                        new HashSet<FacetDecorator>(),
+                        new MetaModelValidatorDefault());
+        reflector.setRuntimeContext(new RuntimeContextNoRuntime());
+        reflector.setContainer(new DomainObjectContainerDefault());
+        reflector.setServices(Collections.emptyList());
+        reflector.init();
+
+        specification = reflector.loadSpecification(Customer.class);
+    }
+
+    @Benchmark
+    public List<ObjectAssociation> getAssociations() {
+        return specification.getAssociations(Contributed.INCLUDED);
+    }
+
+    @Benchmark
+    public List<ObjectAssociation> getAssociations_copyFilterScan() {
+        final List<ObjectAssociation> associations = Lists.newArrayList(specification.getAssociations(Contributed.INCLUDED));
+        return Lists.newArrayList(Iterables.filter(
+                associations, ContributeeMember.Predicates.<ObjectAssociation>regularElse(Contributed.INCLUDED)));
+    }
+
+    @Benchmark
+    public List<OneToOneAssociation> getProperties() {
+        return specification.getProperties(Contributed.EXCLUDED);
+    }
+
+    @Benchmark
+    public ObjectAssociation getAssociation() {
+        return specification.getAssociation("active");
+    }
+
+    @Benchmark
+    public ObjectAssociation getAssociation_copyFilterScan() {
+        for (final ObjectAssociation association : getAssociations_copyFilterScan()) {
+            if (association.getId().equals("active")) {
+                return association;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ObjectAction getObjectAction() {
+        return specification.getObjectAction("addLoyaltyPoints");
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ObjectSpecificationMembersBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -31,6 +31,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.specloader.collectiontyperegistry.CollectionTypeRegistry;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
 
@@ -159,6 +160,14 @@ public void invalidateCacheFor(Object domainObject) {
     @Override
     public void invalidateCache(Class<?> domainClass) {
     }
+    @Override
+    public long getInvalidationCount() {
+        return 0;
+    }
+    @Override
+    public ObjectAction lookupObjectActionByIdentityString(ObjectSpecification objectSpec, String actionIdentityString) {
+        throw new NotYetImplementedException();
+    }
 
     @Override
     public boolean isInitialized() {
@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.progmodels.dflt;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.specloader.ObjectReflectorDefault;
+
+public class ObjectReflectorDefaultTest_lookupObjectAction extends ObjectReflectorDefaultTestAbstract {
+
+    public static class TestDomainObject {
+
+        public void doSomething(final String argument) {
+        }
+    }
+
+    private ObjectReflectorDefault reflector;
+
+    @Override
+    protected ObjectSpecification loadSpecification(final ObjectReflectorDefault reflector) {
+        this.reflector = reflector;
+        return reflector.loadSpecification(TestDomainObject.class);
+    }
+
+    private ObjectAction doSomethingAction() {
+        for (final ObjectAction objectAction : specification.getObjectActions(Contributed.INCLUDED)) {
+            if(objectAction.getId().equals("doSomething")) {
+                return objectAction;
+            }
+        }
+        throw new AssertionError("doSomething not found");
+    }
+
+    @Test
+    public void whenExists() throws Exception {
+        final ObjectAction objectAction = doSomethingAction();
+        final String identityString = objectAction.getIdentifier().toClassAndNameIdentityString();
+
+        assertThat(reflector.lookupObjectActionByIdentityString(specification, identityString), is(sameInstance(objectAction)));
+    }
+
+    @Test
+    public void whenDoesNotExist() throws Exception {
+        assertThat(reflector.lookupObjectActionByIdentityString(specification, TestDomainObject.class.getName() + "#doSomethingElse()"), is(nullValue()));
+    }
+
+    @Test
+    public void afterInvalidation() throws Exception {
+        final ObjectAction objectAction = doSomethingAction();
+        final String identityString = objectAction.getIdentifier().toClassAndNameIdentityString();
+        reflector.lookupObjectActionByIdentityString(specification, identityString);
+
+        reflector.invalidateCache(TestDomainObject.class);
+
+        final ObjectSpecification reloaded = reflector.loadSpecification(TestDomainObject.class);
+        final ObjectAction reloadedAction = reflector.lookupObjectActionByIdentityString(reloaded, identityString);
+        assertThat(reloadedAction.getIdentifier().toClassAndNameIdentityString(), is(identityString));
+    }
+
+}
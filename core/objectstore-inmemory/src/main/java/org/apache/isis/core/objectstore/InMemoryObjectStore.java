@@ -58,8 +58,10 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.DestroyObjectCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
+import org.apache.isis.core.runtime.persistence.query.ObjectAdapterCursorForList;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryBuiltIn;
 import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSessionFactory;
@@ -251,6 +253,13 @@ public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) throws ObjectNotFo
         return adapter;
     }
 
+    /**
+     * Instances are already held in memory, so nothing to prefetch.
+     */
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+    }
+
     @Override
     public void resolveImmediately(final ObjectAdapter adapter) throws ObjectPersistenceException {
 
@@ -295,6 +304,15 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery persiste
         return resolved(instances);
     }
 
+    /**
+     * The pojos all live in the {@link ObjectStorePersistedObjects} anyway, so there is no
+     * memory to be saved by adapting them lazily.
+     */
+    @Override
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery persistenceQuery, final int batchSize) {
+        return new ObjectAdapterCursorForList(loadInstancesAndAdapt(persistenceQuery));
+    }
+
     @Override
     public boolean hasInstances(final ObjectSpecification spec) {
         if (instancesFor(spec).hasInstances()) {
@@ -38,6 +38,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.objectstore.InMemoryObjectStore;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryBuiltIn;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByCriteria;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.AdapterManagerSpi;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
@@ -154,6 +155,10 @@ public ObjectAdapter getObjectAndMapIfRequired(final Oid oid) {
      * {@link InMemoryObjectStore}.
      */
     public void findInstancesAndAdd(final PersistenceQueryBuiltIn persistenceQuery, final List<ObjectAdapter> foundInstances) {
+        if (persistenceQuery instanceof PersistenceQueryFindByCriteria) {
+            findInstancesAndAdd((PersistenceQueryFindByCriteria) persistenceQuery, foundInstances);
+            return;
+        }
         for (final ObjectAdapter element : elements()) {
             if (persistenceQuery.matches(element)) {
                 foundInstances.add(element);
@@ -161,6 +166,18 @@ public void findInstancesAndAdd(final PersistenceQueryBuiltIn persistenceQuery,
         }
     }
 
+    /**
+     * The criterion is evaluated against the pojos held in the store, so only
+     * those instances that match need be adapted.
+     */
+    private void findInstancesAndAdd(final PersistenceQueryFindByCriteria persistenceQuery, final List<ObjectAdapter> foundInstances) {
+        for (final Map.Entry<Oid, Object> entry : getObjectInstances().entrySet()) {
+            if (persistenceQuery.matchesPojo(entry.getValue())) {
+                foundInstances.add(getObjectAndMapIfRequired(entry.getKey()));
+            }
+        }
+    }
+
     public int numberOfInstances() {
         return getObjectInstances().size();
     }
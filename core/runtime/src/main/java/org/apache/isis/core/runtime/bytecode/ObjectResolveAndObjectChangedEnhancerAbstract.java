@@ -24,20 +24,66 @@
 import static org.hamcrest.CoreMatchers.notNullValue;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils;
+import org.apache.isis.core.metamodel.facets.ImperativeFacetUtils.ImperativeFacetFlags;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectChanger;
 import org.apache.isis.core.runtime.persistence.objectfactory.ObjectResolver;
 
 public abstract class ObjectResolveAndObjectChangedEnhancerAbstract {
 
+    /**
+     * What to do when an enhanced method is intercepted, worked out once per
+     * method by {@link ObjectResolveAndObjectChangedEnhancerAbstract#dispatchFor(Method)}.
+     */
+    protected static final class MethodDispatch {
+
+        private final String memberName;
+        private final boolean impliesResolve;
+        private final boolean impliesObjectChanged;
+        private final long invalidationCount;
+
+        public MethodDispatch(final String memberName, final ImperativeFacetFlags flags) {
+            this(memberName, flags, -1);
+        }
+
+        private MethodDispatch(final String memberName, final ImperativeFacetFlags flags, final long invalidationCount) {
+            this.memberName = memberName;
+            this.impliesResolve = flags != null && flags.impliesResolve();
+            this.impliesObjectChanged = flags != null && flags.impliesObjectChanged();
+            this.invalidationCount = invalidationCount;
+        }
+
+        /**
+         * The name of the {@link ObjectMember member} that the method belongs
+         * to; only available if {@link #impliesResolve()}.
+         */
+        public String getMemberName() {
+            return memberName;
+        }
+
+        public boolean impliesResolve() {
+            return impliesResolve;
+        }
+
+        public boolean impliesObjectChanged() {
+            return impliesObjectChanged;
+        }
+    }
+
     protected final ObjectResolver objectResolver;
     protected final ObjectChanger objectChanger;
     protected final SpecificationLoaderSpi specificationLoader;
 
+    private final ConcurrentMap<Method, MethodDispatch> dispatchByMethod = new ConcurrentHashMap<Method, MethodDispatch>();
+
     public ObjectResolveAndObjectChangedEnhancerAbstract(final ObjectResolver objectResolver, final ObjectChanger objectChanger, final SpecificationLoaderSpi specificationLoader) {
         ensureThatArg(objectResolver, is(notNullValue()));
         ensureThatArg(objectChanger, is(notNullValue()));
@@ -54,6 +100,38 @@ public ObjectResolveAndObjectChangedEnhancerAbstract(final ObjectResolver object
      */
     protected abstract void createCallback();
 
+    /**
+     * The {@link MethodDispatch} for the (intercepted) method, holding the
+     * resolve and object changed flags of its {@link ImperativeFacet}s.
+     * 
+     * <p>
+     * These are looked up (from the owning class' specification) the first
+     * time the method is intercepted, and cached thereafter.  The cached
+     * dispatch is discarded, and looked up again, if the specification
+     * loader's cache has since been
+     * {@link SpecificationLoaderSpi#getInvalidationCount() invalidated}.
+     */
+    protected MethodDispatch dispatchFor(final Method method) {
+        final long invalidationCount = specificationLoader.getInvalidationCount();
+        final MethodDispatch dispatch = dispatchByMethod.get(method);
+        if (dispatch != null && dispatch.invalidationCount == invalidationCount) {
+            return dispatch;
+        }
+        final MethodDispatch newDispatch = createDispatch(method, invalidationCount);
+        dispatchByMethod.put(method, newDispatch);
+        return newDispatch;
+    }
+
+    private MethodDispatch createDispatch(final Method method, final long invalidationCount) {
+        if (method.getDeclaringClass().equals(Object.class)) {
+            return new MethodDispatch(null, null, invalidationCount);
+        }
+        final ObjectSpecificationDefault targetObjSpec = getJavaSpecificationOfOwningClass(method);
+        final ObjectMember member = targetObjSpec.getMember(method);
+        final ImperativeFacetFlags flags = ImperativeFacetUtils.getImperativeFacetFlags(member, method);
+        return new MethodDispatch(member != null ? member.getName() : null, flags, invalidationCount);
+    }
+
     protected ObjectSpecificationDefault getJavaSpecificationOfOwningClass(final Method method) {
         return getJavaSpecification(method.getDeclaringClass());
     }
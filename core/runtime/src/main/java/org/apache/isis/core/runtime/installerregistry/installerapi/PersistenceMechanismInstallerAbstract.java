@@ -235,7 +235,7 @@ public void refineMetaModelValidator(MetaModelValidatorComposite baseMetaModelVa
      * By default, returns {@link PojoAdapterFactory};
      */
     public ObjectAdapterFactory createAdapterFactory(final IsisConfiguration configuration) {
-        return new PojoAdapterFactory();
+        return new PojoAdapterFactory(configuration);
     }
     
     /**
@@ -24,7 +24,10 @@
 import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.services.container.DomainObjectContainerDefault;
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutor;
+import org.apache.isis.core.runtime.persistence.adapter.PojoAdapter;
 import org.apache.isis.core.runtime.system.persistence.ObjectFactory;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSessionTemplate;
 
 public final class PersistenceConstants {
 
@@ -46,6 +49,33 @@ public final class PersistenceConstants {
     public static final String DOMAIN_OBJECT_CONTAINER_CLASS_NAME = ConfigurationConstants.ROOT + "persistor.domain-object-container";
     public static final String DOMAIN_OBJECT_CONTAINER_NAME_DEFAULT = DomainObjectContainerDefault.class.getName();
 
+    /**
+     * Key used to determine whether the oids of services are cached across
+     * {@link PersistenceSession}s (rather than being looked up from the object
+     * store each time a session is opened).
+     * 
+     * @see PersistenceSessionTemplate
+     */
+    public static final String SESSION_TEMPLATE = ConfigurationConstants.ROOT + "persistor.session-template";
+    public static final boolean SESSION_TEMPLATE_DEFAULT = false;
+
+    /**
+     * Key used to determine whether adapters cache their title within the
+     * transaction in which it was calculated (until any object is changed in
+     * that transaction).
+     * 
+     * @see PojoAdapter#titleString()
+     */
+    public static final String TITLE_CACHE = ConfigurationConstants.ROOT + "persistor.title-cache";
+    public static final boolean TITLE_CACHE_DEFAULT = true;
+
+    /**
+     * Key used to list (comma-separated, by fully qualified class name) the types
+     * whose titles should never be cached, eg because they depend upon the time
+     * or the current user.
+     */
+    public static final String TITLE_CACHE_EXCLUDE = ConfigurationConstants.ROOT + "persistor.title-cache.exclude";
+
     private PersistenceConstants() {
     }
 
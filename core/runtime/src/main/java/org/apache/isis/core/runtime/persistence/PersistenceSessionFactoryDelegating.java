@@ -45,6 +45,7 @@
 import org.apache.isis.core.runtime.system.persistence.ObjectFactory;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSessionFactory;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSessionTemplate;
 
 /**
  * Implementation that just delegates to a supplied
@@ -73,6 +74,7 @@ public class PersistenceSessionFactoryDelegating implements PersistenceSessionFa
     private IdentifierGenerator identifierGenerator;
     private ServicesInjectorSpi servicesInjector;
     private RuntimeContext runtimeContext;
+    private PersistenceSessionTemplate sessionTemplate;
 
     public PersistenceSessionFactoryDelegating(
             final DeploymentType deploymentType, 
@@ -132,6 +134,8 @@ public final void init() {
         runtimeContext = persistenceSessionFactoryDelegate.createRuntimeContext(getConfiguration());
         ensureThatState(runtimeContext, is(not(nullValue())));
 
+        sessionTemplate = new PersistenceSessionTemplate(getConfiguration().getBoolean(PersistenceConstants.SESSION_TEMPLATE, PersistenceConstants.SESSION_TEMPLATE_DEFAULT));
+
         
         // wire up components
 
@@ -189,6 +193,10 @@ public ServicesInjectorSpi getServicesInjector() {
         return servicesInjector;
     }
 
+    public PersistenceSessionTemplate getSessionTemplate() {
+        return sessionTemplate;
+    }
+
     // //////////////////////////////////////////////////////
     // MetaModelAdjuster impl
     // //////////////////////////////////////////////////////
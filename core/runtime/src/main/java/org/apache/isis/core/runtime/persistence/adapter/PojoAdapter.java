@@ -22,6 +22,11 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 
+import java.util.UUID;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,8 +53,10 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.Specification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoader;
+import org.apache.isis.core.runtime.persistence.PersistenceConstants;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.transaction.IsisTransaction;
 
 public class PojoAdapter extends InstanceAbstract implements ObjectAdapter {
 
@@ -67,6 +74,11 @@ public class PojoAdapter extends InstanceAbstract implements ObjectAdapter {
 
     private String defaultTitle;
 
+    private final Predicate<ObjectSpecification> titleCacheable;
+    private String cachedTitle;
+    private long cachedTitleChangeCount;
+    private UUID changedInTransactionId;
+
     private ElementSpecificationProvider elementSpecificationProvider;
 
     private AuthenticationSession authenticationSession;
@@ -77,7 +89,15 @@ public class PojoAdapter extends InstanceAbstract implements ObjectAdapter {
     // ///////////////////////////////////////////////////////////////////
 
     public PojoAdapter(final Object pojo, final Oid oid, SpecificationLoader specificationLoader, AdapterManager adapterManager, Localization localization, AuthenticationSession authenticationSession) {
+        this(pojo, oid, specificationLoader, adapterManager, localization, authenticationSession, Predicates.<ObjectSpecification>alwaysFalse());
+    }
+
+    /**
+     * @param titleCacheable - whether the {@link #titleString() title} of objects of a given specification may be cached.
+     */
+    public PojoAdapter(final Object pojo, final Oid oid, SpecificationLoader specificationLoader, AdapterManager adapterManager, Localization localization, AuthenticationSession authenticationSession, final Predicate<ObjectSpecification> titleCacheable) {
         this.specificationLoader = specificationLoader;
+        this.titleCacheable = titleCacheable;
         this.objectAdapterLookup = adapterManager;
         this.localization = localization;
         this.authenticationSession = authenticationSession;
@@ -127,6 +147,7 @@ public Object getObject() {
     @Override
     public void replacePojo(final Object pojo) {
         this.pojo = pojo;
+        invalidateTitle();
     }
 
 
@@ -171,6 +192,7 @@ public void changeState(final ResolveState newState) {
             LOG.trace(oidString + "changing resolved state to " + newState.name());
         }
         resolveState = newState;
+        invalidateTitle();
     }
 
     private boolean elementsLoaded() {
@@ -381,6 +403,15 @@ private boolean shouldSetVersion(final Version otherVersion) {
      * mechanism. If either of the above provides null as the title then this
      * method will return a title relating to the name of the object type, e.g.
      * "A Customer", "A Product".
+     * 
+     * <p>
+     * Unless {@link PersistenceConstants#TITLE_CACHE disabled} for the type, the
+     * title of a persistent object is cached until any object is changed in
+     * the current transaction (as tracked by its
+     * {@link IsisTransaction#getChangeCount() change count}), since a title may
+     * be derived from other objects.  Once the object's own
+     * {@link #fireChangedEvent() changed event} has fired, its title is
+     * recalculated each time for the rest of the transaction.
      */
     @Override
     public String titleString() {
@@ -392,9 +423,32 @@ public String titleString(ObjectAdapter contextAdapterIfAny) {
         if (getSpecification().isParentedOrFreeCollection()) {
             final CollectionFacet facet = getSpecification().getFacet(CollectionFacet.class);
             return collectionTitleString(facet);
-        } else {
+        } 
+        if (contextAdapterIfAny != null || !titleCacheable.apply(getSpecification())) {
             return objectTitleString(contextAdapterIfAny);
         }
+        return cachedObjectTitleString();
+    }
+
+    private String cachedObjectTitleString() {
+        final UUID transactionId = getCurrentTransactionId();
+        if (transactionId == null || transactionId.equals(changedInTransactionId)) {
+            return objectTitleString(null);
+        }
+        final long changeCount = getCurrentTransactionChangeCount();
+        if (cachedTitle != null && changeCount == cachedTitleChangeCount) {
+            return cachedTitle;
+        }
+        final String title = objectTitleString(null);
+        if (representsPersistent()) {
+            cachedTitle = title;
+            cachedTitleChangeCount = changeCount;
+        }
+        return title;
+    }
+
+    private void invalidateTitle() {
+        cachedTitle = null;
     }
 
     private String objectTitleString(ObjectAdapter contextAdapterIfAny) {
@@ -527,14 +581,19 @@ public Instance getInstance(final Specification specification) {
 
     /**
      * Guaranteed to be called whenever this object is known to have changed
-     * (specifically, by the <tt>ObjectStorePersistor</tt>).
+     * (specifically, by the <tt>ObjectStorePersistor</tt>, and when
+     * {@link IsisTransaction#enlistUpdating(ObjectAdapter) enlisted} in a
+     * transaction).
      * 
      * <p>
-     * This implementation does nothing, but subclasses (for example
+     * This implementation stops caching the {@link #titleString() title} for
+     * the remainder of the current transaction; subclasses (for example
      * <tt>PojoAdapterX</tt>) might provide listeners.
      */
     @Override
     public void fireChangedEvent() {
+        invalidateTitle();
+        changedInTransactionId = getCurrentTransactionId();
     }
 
 
@@ -554,6 +613,31 @@ protected PersistenceSession getPersistenceSession() {
         return IsisContext.getPersistenceSession();
     }
 
+    /**
+     * The id of the current transaction, or <tt>null</tt> if none is in progress.
+     */
+    protected UUID getCurrentTransactionId() {
+        final IsisTransaction transaction = getCurrentTransaction();
+        return transaction != null ? transaction.getTransactionId() : null;
+    }
+
+    /**
+     * The {@link IsisTransaction#getChangeCount() change count} of the current
+     * transaction; only called if one is in progress.
+     */
+    protected long getCurrentTransactionChangeCount() {
+        final IsisTransaction transaction = getCurrentTransaction();
+        return transaction != null ? transaction.getChangeCount() : -1;
+    }
+
+    private static IsisTransaction getCurrentTransaction() {
+        if (!IsisContext.exists() || !IsisContext.inSession()) {
+            return null;
+        }
+        final IsisTransaction transaction = IsisContext.getCurrentTransaction();
+        return transaction != null && !transaction.getState().isComplete() ? transaction : null;
+    }
+
     protected AuthenticationSession getAuthenticationSession() {
         return authenticationSession;
     }
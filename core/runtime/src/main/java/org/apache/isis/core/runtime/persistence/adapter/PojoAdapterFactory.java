@@ -19,19 +19,64 @@
 
 package org.apache.isis.core.runtime.persistence.adapter;
 
+import java.util.Collections;
+import java.util.Set;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableSet;
+
 import org.apache.isis.applib.profiles.Localization;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapterFactory;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager;
 import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.runtime.persistence.PersistenceConstants;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 
 public class PojoAdapterFactory implements ObjectAdapterFactory {
 
+    private final Predicate<ObjectSpecification> titleCacheable;
+
+    public PojoAdapterFactory() {
+        this(PersistenceConstants.TITLE_CACHE_DEFAULT, Collections.<String>emptySet());
+    }
+
+    /**
+     * Caches titles (or not) as per {@link PersistenceConstants#TITLE_CACHE} and
+     * {@link PersistenceConstants#TITLE_CACHE_EXCLUDE}.
+     */
+    public PojoAdapterFactory(final IsisConfiguration configuration) {
+        this(configuration.getBoolean(PersistenceConstants.TITLE_CACHE, PersistenceConstants.TITLE_CACHE_DEFAULT), 
+             ImmutableSet.copyOf(configuration.getList(PersistenceConstants.TITLE_CACHE_EXCLUDE)));
+    }
+
+    /**
+     * @param titleCacheExclusions - the fully qualified class names of types whose titles should not be cached.
+     */
+    public PojoAdapterFactory(final boolean cacheTitles, final Set<String> titleCacheExclusions) {
+        this.titleCacheable = cacheTitles ? notAnyOf(titleCacheExclusions) : Predicates.<ObjectSpecification>alwaysFalse();
+    }
+
+    private static Predicate<ObjectSpecification> notAnyOf(final Set<String> fullIdentifiers) {
+        if(fullIdentifiers.isEmpty()) {
+            return Predicates.alwaysTrue();
+        }
+        final Set<String> exclusions = ImmutableSet.copyOf(fullIdentifiers);
+        return new Predicate<ObjectSpecification>() {
+            @Override
+            public boolean apply(final ObjectSpecification input) {
+                return !exclusions.contains(input.getFullIdentifier());
+            }
+        };
+    }
+
     @Override
     public PojoAdapter createAdapter(final Object pojo, final Oid oid, AdapterManager adapterManager) {
-        return new PojoAdapter(pojo, oid, getSpecificationLoader(), adapterManager, getLocalization(), getAuthenticationSession());
+        return new PojoAdapter(pojo, oid, getSpecificationLoader(), adapterManager, getLocalization(), getAuthenticationSession(), titleCacheable);
     }
 
     
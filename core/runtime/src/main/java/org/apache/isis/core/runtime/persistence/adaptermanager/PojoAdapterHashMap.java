@@ -20,9 +20,8 @@
 package org.apache.isis.core.runtime.persistence.adaptermanager;
 
 import java.util.Iterator;
-import java.util.Map;
 
-import com.google.common.collect.Maps;
+import com.google.common.collect.Iterators;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,32 +34,19 @@
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 
 /**
- * TODO: an alternative might be to use {@link IdentityMap}.
+ * Maps pojos (by identity) to their adapters.
+ * 
+ * <p>
+ * The adapters of services are held separately from those of all other
+ * objects, so that {@link #reset()} can discard the latter wholesale.
  */
 public class PojoAdapterHashMap implements DebuggableWithTitle, Iterable<ObjectAdapter>, SessionScopedComponent, Resettable {
 
-    private static class IdentityHashKey {
-        private final Object pojo;
-
-        public IdentityHashKey(final Object pojo) {
-            this.pojo = pojo;
-        }
-
-        @Override
-        public int hashCode() {
-            return System.identityHashCode(pojo);
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            return obj == this || (obj instanceof IdentityHashKey && ((IdentityHashKey) obj).pojo == pojo);
-        }
-    }
-
     private static final Logger LOG = LoggerFactory.getLogger(PojoAdapterHashMap.class);
     public static final int DEFAULT_POJO_ADAPTER_MAP_SIZE = OidAdapterHashMap.DEFAULT_OID_ADAPTER_MAP_SIZE;
 
-    protected final Map<Object, ObjectAdapter> adapterByPojoMap;
+    private final PojoAdapterIdentityMap adapterByPojoMap;
+    private final PojoAdapterIdentityMap serviceAdapterByPojoMap;
 
     // ///////////////////////////////////////////////////////////////////////////
     // Constructors, finalize
@@ -71,7 +57,8 @@ public PojoAdapterHashMap() {
     }
 
     public PojoAdapterHashMap(final int capacity) {
-        adapterByPojoMap = Maps.newHashMapWithExpectedSize(capacity);
+        adapterByPojoMap = new PojoAdapterIdentityMap(capacity);
+        serviceAdapterByPojoMap = new PojoAdapterIdentityMap(0);
     }
 
     @Override
@@ -93,22 +80,20 @@ public void open() {
     public void close() {
         LOG.debug("close");
         adapterByPojoMap.clear();
+        serviceAdapterByPojoMap.clear();
     }
 
     // ///////////////////////////////////////////////////////////////////////////
     // reset
     // ///////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Discards the adapters of all but services.
+     */
     @Override
     public void reset() {
         LOG.debug("reset");
-        for (final Iterator<Map.Entry<Object, ObjectAdapter>> iterator = adapterByPojoMap.entrySet().iterator(); iterator.hasNext();) {
-            final Map.Entry<Object, ObjectAdapter> entry = iterator.next();
-            final ObjectAdapter adapter = entry.getValue();
-            if (!adapter.getSpecification().isService()) {
-                iterator.remove();
-            }
-        }
+        adapterByPojoMap.clear();
     }
 
     // ///////////////////////////////////////////////////////////////////////////
@@ -116,7 +101,11 @@ public void reset() {
     // ///////////////////////////////////////////////////////////////////////////
 
     public void add(final Object pojo, final ObjectAdapter adapter) {
-        adapterByPojoMap.put(key(pojo), adapter);
+        if (adapter.getSpecification().isService()) {
+            serviceAdapterByPojoMap.put(pojo, adapter);
+        } else {
+            adapterByPojoMap.put(pojo, adapter);
+        }
         if(LOG.isDebugEnabled()) {
             LOG.debug("add adapter: #" + Long.toHexString(pojo.hashCode()) + " -> #" + Long.toHexString(adapter.hashCode()));
         }
@@ -132,7 +121,10 @@ public void remove(final ObjectAdapter object) {
         if(LOG.isDebugEnabled()) {
             LOG.debug("remove adapter: " + object);
         }
-        adapterByPojoMap.remove(key(object.getObject()));
+        final Object pojo = object.getObject();
+        if (adapterByPojoMap.remove(pojo) == null) {
+            serviceAdapterByPojoMap.remove(pojo);
+        }
     }
 
     // ///////////////////////////////////////////////////////////////////////////
@@ -140,11 +132,12 @@ public void remove(final ObjectAdapter object) {
     // ///////////////////////////////////////////////////////////////////////////
 
     public boolean containsPojo(final Object pojo) {
-        return adapterByPojoMap.containsKey(key(pojo));
+        return adapterByPojoMap.containsKey(pojo) || serviceAdapterByPojoMap.containsKey(pojo);
     }
 
     public ObjectAdapter getAdapter(final Object pojo) {
-        return adapterByPojoMap.get(key(pojo));
+        final ObjectAdapter adapter = adapterByPojoMap.get(pojo);
+        return adapter != null ? adapter : serviceAdapterByPojoMap.get(pojo);
     }
 
     // ///////////////////////////////////////////////////////////////////////////
@@ -153,11 +146,7 @@ public ObjectAdapter getAdapter(final Object pojo) {
 
     @Override
     public Iterator<ObjectAdapter> iterator() {
-        return adapterByPojoMap.values().iterator();
-    }
-
-    private Object key(final Object pojo) {
-        return new IdentityHashKey(pojo);
+        return Iterators.concat(serviceAdapterByPojoMap.iterator(), adapterByPojoMap.iterator());
     }
 
     // ///////////////////////////////////////////////////////////////////////////
@@ -167,14 +156,24 @@ private Object key(final Object pojo) {
     @Override
     public void debugData(final DebugBuilder debug) {
         int count = 0;
-        for (final Object pojo : adapterByPojoMap.keySet()) {
-            final ObjectAdapter object = adapterByPojoMap.get(pojo);
+        count = debugData(debug, serviceAdapterByPojoMap, count);
+        debugData(debug, adapterByPojoMap, count);
+    }
+
+    private static int debugData(final DebugBuilder debug, final PojoAdapterIdentityMap map, int count) {
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            final Object pojo = map.pojoAt(slot);
+            if (pojo == null) {
+                continue;
+            }
+            final ObjectAdapter object = map.adapterAt(slot);
             debug.append(count++ + 1, 5);
             debug.append(" '");
             debug.append(pojo.toString(), 50);
             debug.append("'    ");
             debug.appendln(object.toString());
         }
+        return count;
     }
 
     @Override
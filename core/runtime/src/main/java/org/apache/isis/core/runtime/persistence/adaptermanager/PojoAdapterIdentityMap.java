@@ -0,0 +1,266 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.persistence.adaptermanager;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+
+/**
+ * An identity map from pojos to their {@link ObjectAdapter}s, used by
+ * {@link PojoAdapterHashMap}.
+ * 
+ * <p>
+ * Uses open addressing (linear probing) keyed on
+ * {@link System#identityHashCode(Object)}, with each pojo held next to its
+ * adapter in a single table (as does {@link java.util.IdentityHashMap}), so
+ * that neither lookups nor updates allocate.
+ * 
+ * <p>
+ * Removed entries leave a marker in their slot (so that the remaining entries
+ * need not be rehashed), reclaimed when the table is next rebuilt. Not
+ * thread-safe.
+ */
+final class PojoAdapterIdentityMap implements Iterable<ObjectAdapter> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final Object REMOVED = new Object();
+
+    private final int initialCapacity;
+
+    /**
+     * Pojo at even indices, its adapter at the following (odd) index.
+     */
+    private Object[] table;
+    private int size;
+    private int removed;
+    private int modCount;
+
+    /**
+     * @param expectedSize - the number of entries that can be held without resizing.
+     */
+    PojoAdapterIdentityMap(final int expectedSize) {
+        this.initialCapacity = capacityFor(expectedSize);
+        table = new Object[2 * initialCapacity];
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        // keep the load factor at or below 1/2
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < 2 * expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * The (even) index within the table of the pojo's home slot.
+     */
+    private static int indexFor(final Object pojo, final int length) {
+        final int h = System.identityHashCode(pojo);
+        return ((h ^ (h >>> 16)) << 1) & (length - 1);
+    }
+
+    private static int nextIndex(final int i, final int length) {
+        return (i + 2) & (length - 1);
+    }
+
+    // ///////////////////////////////////////////////////////////////////////////
+    // get, put, remove
+    // ///////////////////////////////////////////////////////////////////////////
+
+    ObjectAdapter get(final Object pojo) {
+        final Object[] table = this.table;
+        final int length = table.length;
+        for (int i = indexFor(pojo, length);; i = nextIndex(i, length)) {
+            final Object candidate = table[i];
+            if (candidate == pojo) {
+                return (ObjectAdapter) table[i + 1];
+            }
+            if (candidate == null) {
+                return null;
+            }
+        }
+    }
+
+    boolean containsKey(final Object pojo) {
+        return get(pojo) != null;
+    }
+
+    /**
+     * @return the adapter previously mapped to the pojo, if any.
+     */
+    ObjectAdapter put(final Object pojo, final ObjectAdapter adapter) {
+        final Object[] table = this.table;
+        final int length = table.length;
+        int free = -1;
+        int i = indexFor(pojo, length);
+        for (; table[i] != null; i = nextIndex(i, length)) {
+            if (table[i] == pojo) {
+                final ObjectAdapter previous = (ObjectAdapter) table[i + 1];
+                table[i + 1] = adapter;
+                return previous;
+            }
+            if (free == -1 && table[i] == REMOVED) {
+                free = i;
+            }
+        }
+        if (free != -1) {
+            i = free;
+            removed--;
+        }
+        table[i] = pojo;
+        table[i + 1] = adapter;
+        modCount++;
+        size++;
+        if ((size + removed) * 4 > length) {
+            // grow if genuinely full, otherwise just reclaim the removed slots
+            rebuild(size * 8 > length ? length * 2 : length);
+        }
+        return null;
+    }
+
+    /**
+     * @return the adapter that was mapped to the pojo, if any.
+     */
+    ObjectAdapter remove(final Object pojo) {
+        final Object[] table = this.table;
+        final int length = table.length;
+        int i = indexFor(pojo, length);
+        for (; table[i] != pojo; i = nextIndex(i, length)) {
+            if (table[i] == null) {
+                return null;
+            }
+        }
+        final ObjectAdapter adapter = (ObjectAdapter) table[i + 1];
+        table[i] = REMOVED;
+        table[i + 1] = null;
+        modCount++;
+        size--;
+        removed++;
+        return adapter;
+    }
+
+    private void rebuild(final int newLength) {
+        final Object[] oldTable = table;
+        final Object[] newTable = new Object[newLength];
+        for (int j = 0; j < oldTable.length; j += 2) {
+            final Object pojo = oldTable[j];
+            if (pojo == null || pojo == REMOVED) {
+                continue;
+            }
+            int i = indexFor(pojo, newLength);
+            while (newTable[i] != null) {
+                i = nextIndex(i, newLength);
+            }
+            newTable[i] = pojo;
+            newTable[i + 1] = oldTable[j + 1];
+        }
+        table = newTable;
+        removed = 0;
+    }
+
+    // ///////////////////////////////////////////////////////////////////////////
+    // size, clear
+    // ///////////////////////////////////////////////////////////////////////////
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Discards all entries, reverting to the initial capacity (rather than
+     * clearing the current, possibly much larger, table).
+     */
+    void clear() {
+        table = new Object[2 * initialCapacity];
+        size = 0;
+        removed = 0;
+        modCount++;
+    }
+
+    // ///////////////////////////////////////////////////////////////////////////
+    // iteration
+    // ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The pojo in the specified slot (<tt>null</tt> if empty); for debugging.
+     */
+    Object pojoAt(final int slot) {
+        final Object pojo = table[2 * slot];
+        return pojo != REMOVED ? pojo : null;
+    }
+
+    ObjectAdapter adapterAt(final int slot) {
+        return (ObjectAdapter) table[2 * slot + 1];
+    }
+
+    /**
+     * The number of slots.
+     */
+    int capacity() {
+        return table.length / 2;
+    }
+
+    /**
+     * Iterates over the adapters; does not support {@link Iterator#remove()}.
+     */
+    @Override
+    public Iterator<ObjectAdapter> iterator() {
+        return new Iterator<ObjectAdapter>() {
+            private final Object[] iteratedTable = table;
+            private final int expectedModCount = modCount;
+            private int next = advance(0);
+
+            private int advance(int i) {
+                while (i < iteratedTable.length && (iteratedTable[i] == null || iteratedTable[i] == REMOVED)) {
+                    i += 2;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < iteratedTable.length;
+            }
+
+            @Override
+            public ObjectAdapter next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final ObjectAdapter adapter = (ObjectAdapter) iteratedTable[next + 1];
+                next = advance(next + 2);
+                return adapter;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+}
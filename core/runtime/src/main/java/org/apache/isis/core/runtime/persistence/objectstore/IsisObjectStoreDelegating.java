@@ -31,6 +31,7 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.DestroyObjectCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 
 /**
@@ -138,6 +139,11 @@ public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) {
         return underlying.loadInstanceAndAdapt(oid);
     }
 
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+        underlying.prefetchInstances(oids);
+    }
+
     @Override
     public void resolveField(final ObjectAdapter object, final ObjectAssociation field) {
         underlying.resolveField(object, field);
@@ -157,6 +163,11 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery persiste
         return underlying.loadInstancesAndAdapt(persistenceQuery);
     }
 
+    @Override
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery persistenceQuery, final int batchSize) {
+        return underlying.loadInstancesAndAdaptStreamed(persistenceQuery, batchSize);
+    }
+
     @Override
     public boolean hasInstances(final ObjectSpecification specification) {
         return underlying.hasInstances(specification);
@@ -38,6 +38,7 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PersistenceCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
 import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 
 public class IsisObjectStoreLogger extends Slf4jLogger implements ObjectStoreSpi {
@@ -99,6 +100,12 @@ public List<ObjectAdapter> loadInstancesAndAdapt(final PersistenceQuery criteria
         return underlying.loadInstancesAndAdapt(criteria);
     }
 
+    @Override
+    public ObjectAdapterCursor loadInstancesAndAdaptStreamed(final PersistenceQuery criteria, final int batchSize) {
+        log("stream instances matching " + criteria + ", batch size " + batchSize);
+        return underlying.loadInstancesAndAdaptStreamed(criteria, batchSize);
+    }
+
 
     @Override
     public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) throws ObjectNotFoundException, ObjectPersistenceException {
@@ -107,6 +114,12 @@ public ObjectAdapter loadInstanceAndAdapt(final TypedOid oid) throws ObjectNotFo
         return adapter;
     }
 
+    @Override
+    public void prefetchInstances(final List<RootOid> oids) {
+        log("prefetch " + oids.size() + " objects");
+        underlying.prefetchInstances(oids);
+    }
+
     @Override
     public RootOid getOidForService(ObjectSpecification serviceSpec) {
         final RootOid serviceOid = underlying.getOidForService(serviceSpec);
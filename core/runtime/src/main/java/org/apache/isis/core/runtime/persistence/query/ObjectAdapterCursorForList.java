@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.persistence.query;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.runtime.system.persistence.ObjectAdapterCursor;
+
+/**
+ * Trivial implementation of {@link ObjectAdapterCursor} for object stores 
+ * that load all of the results up-front.
+ * 
+ * <p>
+ * Since the adapters are materialized up-front, none are ever
+ * {@link #release(ObjectAdapter) released}.
+ */
+public class ObjectAdapterCursorForList implements ObjectAdapterCursor {
+
+    private Iterator<ObjectAdapter> iterator;
+
+    public ObjectAdapterCursorForList(final List<ObjectAdapter> adapters) {
+        this.iterator = adapters.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator != null && iterator.hasNext();
+    }
+
+    @Override
+    public ObjectAdapter next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean release(final ObjectAdapter adapter) {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        iterator = null;
+    }
+
+}
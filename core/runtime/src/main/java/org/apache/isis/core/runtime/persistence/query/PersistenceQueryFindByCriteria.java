@@ -0,0 +1,71 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.persistence.query;
+
+import org.apache.isis.applib.query.QueryFindByCriteria;
+import org.apache.isis.applib.query.criteria.Criterion;
+import org.apache.isis.core.commons.util.ToString;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Corresponds to {@link QueryFindByCriteria}.
+ */
+public class PersistenceQueryFindByCriteria extends PersistenceQueryBuiltInAbstract {
+    private final Criterion criterion;
+
+    public PersistenceQueryFindByCriteria(final ObjectSpecification specification, final Criterion criterion, final long ... range) {
+        super(specification, range);
+        this.criterion = criterion;
+    }
+
+    public Criterion getCriterion() {
+        return criterion;
+    }
+
+    @Override
+    public boolean matches(final ObjectAdapter object) {
+        return matchesPojo(object.getObject());
+    }
+
+    /**
+     * As {@link #matches(ObjectAdapter)}, but evaluated directly against the 
+     * pojo, so that object stores need not adapt instances that do not match.
+     */
+    public boolean matchesPojo(final Object pojo) {
+        return matchesRange(matchesCriterion(pojo));
+    }
+
+    /**
+     * Whether the pojo satisfies the {@link #getCriterion() criterion}, ignoring
+     * any range.
+     */
+    public boolean matchesCriterion(final Object pojo) {
+        return criterion.apply(pojo);
+    }
+
+    @Override
+    public String toString() {
+        final ToString str = ToString.createAnonymous(this);
+        str.append("spec", getSpecification().getShortIdentifier());
+        str.append("criterion", criterion);
+        return str.toString();
+    }
+
+}
@@ -44,6 +44,18 @@ public PersistenceQueryFindByPattern(final ObjectSpecification specification, fi
 
     @Override
     public boolean matches(final ObjectAdapter object) {
+        return matchesRange(matchesPattern(object));
+    }
+
+    /**
+     * Whether the object matches the {@link #getPattern() pattern}, ignoring
+     * any range.
+     * 
+     * <p>
+     * Unlike {@link #matches(ObjectAdapter)}, this method is stateless and so
+     * may be used by object stores that apply the range themselves.
+     */
+    public boolean matchesPattern(final ObjectAdapter object) {
         final ObjectSpecification requiredSpec = pattern.getSpecification();
         final ObjectSpecification objectSpec = object.getSpecification();
         return objectSpec.equals(requiredSpec) && matchesPattern(pattern, object);
@@ -105,7 +117,7 @@ private boolean matchesPattern(final ObjectAdapter pattern, final ObjectAdapter
             }
         }
 
-        return matchesRange(true);
+        return true;
     }
 
 }
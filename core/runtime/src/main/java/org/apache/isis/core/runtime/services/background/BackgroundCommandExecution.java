@@ -17,9 +17,16 @@
 package org.apache.isis.core.runtime.services.background;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.isis.applib.clock.Clock;
 import org.apache.isis.applib.services.background.ActionInvocationMemento;
@@ -32,11 +39,11 @@
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.adapter.oid.RootOidDefault;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
-import org.apache.isis.core.metamodel.spec.feature.Contributed;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.progmodel.facets.actions.invoke.CommandUtil;
 import org.apache.isis.core.runtime.services.memento.MementoServiceDefault;
 import org.apache.isis.core.runtime.sessiontemplate.AbstractIsisSessionTemplate;
+import org.apache.isis.core.runtime.system.context.IsisContext;
 
 /**
  * Intended to be used as a base class for executing queued up {@link Command background action}s.
@@ -47,6 +54,8 @@
  */
 public abstract class BackgroundCommandExecution extends AbstractIsisSessionTemplate {
 
+    private final static Logger LOG = LoggerFactory.getLogger(BackgroundCommandExecution.class);
+
     private final MementoServiceDefault mementoService;
 
     public BackgroundCommandExecution() {
@@ -59,11 +68,48 @@ public BackgroundCommandExecution() {
     
     protected void doExecute(Object context) {
         final List<? extends Command> commands = findBackgroundCommandsToExecute(); 
+        final Map<Command, ActionInvocationMemento> mementos = parseAndPrefetch(commands);
         for (final Command command : commands) {
-            execute(command);
+            execute(command, mementos.get(command));
         }
     }
 
+    /**
+     * Parses the memento of each command, and then asks the persistence session to prefetch (in bulk, if
+     * the object store supports it) all the targets and arguments that they reference.
+     * 
+     * <p>
+     * Any memento that cannot be parsed is ignored here; the failure is recorded against the command
+     * when it is executed.
+     */
+    private Map<Command, ActionInvocationMemento> parseAndPrefetch(final List<? extends Command> commands) {
+        final Map<Command, ActionInvocationMemento> mementos = Maps.newIdentityHashMap();
+        final Set<RootOid> oids = Sets.newLinkedHashSet();
+        for (final Command command : commands) {
+            try {
+                final ActionInvocationMemento aim = new ActionInvocationMemento(mementoService, command.getMemento());
+                mementos.put(command, aim);
+
+                oids.add(RootOidDefault.create(aim.getTarget()));
+                final int numArgs = aim.getNumArgs();
+                for (int i = 0; i < numArgs; i++) {
+                    if(aim.getArgType(i) == Bookmark.class) {
+                        final Bookmark argBookmark = aim.getArg(i, Bookmark.class);
+                        if(argBookmark != null) {
+                            oids.add(RootOidDefault.create(argBookmark));
+                        }
+                    }
+                }
+            } catch (final Exception ex) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("could not parse memento of " + command, ex);
+                }
+            }
+        }
+        getPersistenceSession().prefetchInstances(Lists.newArrayList(oids));
+        return mementos;
+    }
+
     /**
      * Mandatory hook method
      */
@@ -72,15 +118,16 @@ protected void doExecute(Object context) {
     // //////////////////////////////////////
 
     
-    private void execute(final Command command) {
+    private void execute(final Command command, final ActionInvocationMemento parsedMemento) {
         try {
             commandContext.setCommand(command);
 
             command.setStartedAt(Clock.getTimeAsJavaSqlTimestamp());
             command.setExecutor(Executor.BACKGROUND);
             
-            final String memento = command.getMemento();
-            final ActionInvocationMemento aim = new ActionInvocationMemento(mementoService, memento);
+            final ActionInvocationMemento aim = parsedMemento != null
+                    ? parsedMemento
+                    : new ActionInvocationMemento(mementoService, command.getMemento());
             
             final String actionId = aim.getActionId();
    
@@ -110,13 +157,7 @@ private void execute(final Command command) {
     }
 
     private ObjectAction findAction(final ObjectSpecification specification, final String actionId) {
-        final List<ObjectAction> objectActions = specification.getObjectActions(Contributed.INCLUDED);
-        for (final ObjectAction objectAction : objectActions) {
-            if(objectAction.getIdentifier().toClassAndNameIdentityString().equals(actionId)) {
-                return objectAction;
-            }
-        }
-        return null;
+        return IsisContext.getSpecificationLoader().lookupObjectActionByIdentityString(specification, actionId);
     }
 
     private ObjectAdapter[] argAdaptersFor(final ActionInvocationMemento aim) throws ClassNotFoundException {
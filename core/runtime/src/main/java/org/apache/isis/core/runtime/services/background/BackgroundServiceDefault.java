@@ -70,11 +70,23 @@ public BackgroundServiceDefault() {
     
     // //////////////////////////////////////
 
+    /**
+     * The {@link MementoServiceDefault.Format format} of the mementos of scheduled actions; one of
+     * <tt>xml</tt>, <tt>binary</tt> or <tt>binary_deflated</tt>.
+     * 
+     * <p>
+     * Mementos in any format are executed, so the format can be changed while commands are still pending.
+     */
+    public final static String MEMENTO_FORMAT_KEY = "isis.services.background.mementoFormat";
+    public final static String MEMENTO_FORMAT_DEFAULT = "xml";
     
     @Programmatic
     @PostConstruct
     public void init(Map<String,String> props) {
         ensureDependenciesInjected();
+        
+        final String format = props.get(MEMENTO_FORMAT_KEY);
+        mementoService.withFormat(MementoServiceDefault.Format.parse(format != null ? format : MEMENTO_FORMAT_DEFAULT));
     }
     
     private void ensureDependenciesInjected() {
@@ -0,0 +1,348 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.background;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.clock.Clock;
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.command.Command.Executor;
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.runtime.sessiontemplate.AbstractIsisSessionTemplate;
+import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.transaction.TransactionalClosureWithReturnAbstract;
+
+/**
+ * Executes queued up {@link Command background command}s using a pool of worker threads, each command in its
+ * own session and transaction.
+ * 
+ * <p>
+ * The commands to execute are polled for (using the {@link #findBackgroundCommandsToExecute() hook method})
+ * within the session set up by {@link #execute(AuthenticationSession, Object)}; this session remains open until
+ * all of the workers have finished.
+ * 
+ * <p>
+ * Each command is first <i>claimed</i>, by setting its {@link Command#getStartedAt() startedAt} in a short
+ * transaction of its own; if another executor (possibly in another JVM) has already claimed it, then the
+ * claim fails (implementations are expected to use optimistic locking on the command) and the command is skipped.
+ * The claimed command is then executed by a {@link BackgroundCommandExecution} for that command alone; any
+ * exception thrown by the action itself is recorded against the command, but if the transaction as a whole fails
+ * (for example, on commit) then the execution is retried, backing off exponentially between attempts.  If all
+ * attempts fail, then the failure is recorded against the command.
+ * 
+ * <p>
+ * Requires a thread-local {@link IsisContext}, as is the case when running in a webapp.
+ */
+public abstract class ParallelBackgroundCommandExecution extends AbstractIsisSessionTemplate {
+
+    private final static Logger LOG = LoggerFactory.getLogger(ParallelBackgroundCommandExecution.class);
+
+    public final static String THREADS_KEY = "isis.services.background.parallel.threads";
+    public final static int THREADS_DEFAULT = 4;
+
+    public final static String MAX_ATTEMPTS_KEY = "isis.services.background.parallel.maxAttempts";
+    public final static int MAX_ATTEMPTS_DEFAULT = 3;
+
+    /**
+     * The delay before the first retry; doubled for each subsequent retry.
+     */
+    public final static String BACKOFF_MILLIS_KEY = "isis.services.background.parallel.backoffMillis";
+    public final static int BACKOFF_MILLIS_DEFAULT = 500;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong claimedCount = new AtomicLong();
+    private final AtomicLong lostClaimCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong totalQueueLatencyMillis = new AtomicLong();
+    private final AtomicLong totalExecutionMillis = new AtomicLong();
+
+    // //////////////////////////////////////
+
+    @Override
+    protected void doExecute(final Object context) {
+        final List<UUID> transactionIds = Lists.newArrayList();
+        for (final Command command : findBackgroundCommandsToExecute()) {
+            transactionIds.add(command.getTransactionId());
+        }
+        queueDepth.set(transactionIds.size());
+        if(transactionIds.isEmpty()) {
+            return;
+        }
+
+        final AuthenticationSession authSession = getAuthenticationSession();
+        final IsisConfiguration configuration = getConfiguration();
+        final int numThreads = Math.min(configuration.getInteger(THREADS_KEY, THREADS_DEFAULT), transactionIds.size());
+        final int maxAttempts = configuration.getInteger(MAX_ATTEMPTS_KEY, MAX_ATTEMPTS_DEFAULT);
+        final long backoffMillis = configuration.getInteger(BACKOFF_MILLIS_KEY, BACKOFF_MILLIS_DEFAULT);
+
+        final List<Callable<Void>> tasks = Lists.newArrayList();
+        for (final UUID transactionId : transactionIds) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    try {
+                        if(claim(authSession, transactionId)) {
+                            executeWithRetry(authSession, transactionId, maxAttempts, backoffMillis);
+                        }
+                    } finally {
+                        queueDepth.decrementAndGet();
+                    }
+                    return null;
+                }
+            });
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            executorService.invokeAll(tasks);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info("executed " + transactionIds.size() + " background commands using " + numThreads + " threads; " + metricsAsString());
+        }
+    }
+
+    /**
+     * Mandatory hook method
+     */
+    protected abstract List<? extends Command> findBackgroundCommandsToExecute();
+
+    /**
+     * Mandatory hook method, to look up a command previously returned by {@link #findBackgroundCommandsToExecute()}.
+     * 
+     * @return <tt>null</tt> if no longer exists.
+     */
+    protected abstract Command findBackgroundCommand(UUID transactionId);
+
+    // //////////////////////////////////////
+
+    private boolean claim(final AuthenticationSession authSession, final UUID transactionId) {
+        try {
+            final boolean claimed = inSession(authSession, new TransactionalClosureWithReturnAbstract<Boolean>() {
+                @Override
+                public Boolean execute() {
+                    final Command command = findBackgroundCommand(transactionId);
+                    if(command == null || command.getStartedAt() != null) {
+                        return false;
+                    }
+                    command.setStartedAt(Clock.getTimeAsJavaSqlTimestamp());
+                    command.setExecutor(Executor.BACKGROUND);
+                    return true;
+                }
+            });
+            if(claimed) {
+                claimedCount.incrementAndGet();
+            } else {
+                lostClaimCount.incrementAndGet();
+            }
+            return claimed;
+        } catch (final RuntimeException ex) {
+            // most likely an optimistic locking failure, ie claimed concurrently by another executor
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("could not claim background command " + transactionId, ex);
+            }
+            lostClaimCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void executeWithRetry(final AuthenticationSession authSession, final UUID transactionId, final int maxAttempts, final long backoffMillis) {
+        long backoff = backoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                executeClaimed(authSession, transactionId);
+                completedCount.incrementAndGet();
+                return;
+            } catch (final RuntimeException ex) {
+                if(attempt >= maxAttempts) {
+                    LOG.error("background command " + transactionId + " failed after " + attempt + " attempt(s)", ex);
+                    recordFailure(authSession, transactionId, ex);
+                    return;
+                }
+                LOG.warn("background command " + transactionId + " failed on attempt " + attempt + ", retrying in " + backoff + "ms: " + ex.getMessage());
+                retryCount.incrementAndGet();
+                try {
+                    Thread.sleep(backoff);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    recordFailure(authSession, transactionId, ex);
+                    return;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    /**
+     * Executes a claimed command, in a session and transaction of its own, using a {@link BackgroundCommandExecution}
+     * for that command alone.
+     * 
+     * @throws RuntimeException if the transaction fails (eg on commit); the execution is then retried.
+     */
+    protected void executeClaimed(final AuthenticationSession authSession, final UUID transactionId) {
+        new BackgroundCommandExecution() {
+            private Command command;
+
+            @Override
+            protected List<? extends Command> findBackgroundCommandsToExecute() {
+                command = findBackgroundCommand(transactionId);
+                return command != null ? Collections.singletonList(command) : Collections.<Command>emptyList();
+            }
+
+            @Override
+            protected void doExecute(final Object context) {
+                super.doExecute(context);
+                if(command != null) {
+                    recordLatencies(command);
+                }
+            }
+        }.execute(authSession, null);
+    }
+
+    private void recordFailure(final AuthenticationSession authSession, final UUID transactionId, final Exception failure) {
+        failedCount.incrementAndGet();
+        try {
+            inSession(authSession, new TransactionalClosureWithReturnAbstract<Void>() {
+                @Override
+                public Void execute() {
+                    final Command command = findBackgroundCommand(transactionId);
+                    if(command != null) {
+                        command.setException(Throwables.getStackTraceAsString(failure));
+                        command.setCompletedAt(Clock.getTimeAsJavaSqlTimestamp());
+                    }
+                    return null;
+                }
+            });
+        } catch (final RuntimeException ex) {
+            LOG.error("could not record failure of background command " + transactionId, ex);
+        }
+    }
+
+    private void recordLatencies(final Command command) {
+        final Timestamp timestamp = command.getTimestamp();
+        final Timestamp startedAt = command.getStartedAt();
+        final Timestamp completedAt = command.getCompletedAt();
+        if(timestamp != null && startedAt != null) {
+            totalQueueLatencyMillis.addAndGet(startedAt.getTime() - timestamp.getTime());
+        }
+        if(startedAt != null && completedAt != null) {
+            totalExecutionMillis.addAndGet(completedAt.getTime() - startedAt.getTime());
+        }
+    }
+
+    /**
+     * Opens a session (on the current thread) and runs the closure in a transaction.
+     */
+    protected <T> T inSession(final AuthenticationSession authSession, final TransactionalClosureWithReturnAbstract<T> closure) {
+        try {
+            IsisContext.openSession(authSession);
+            return getTransactionManager(getPersistenceSession()).executeWithinTransaction(closure);
+        } finally {
+            IsisContext.closeSession();
+        }
+    }
+
+    // //////////////////////////////////////
+    // metrics
+    // //////////////////////////////////////
+
+    /**
+     * The number of commands found by the most recent poll that have not yet been claimed and executed (or skipped).
+     */
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getClaimedCount() {
+        return claimedCount.get();
+    }
+
+    /**
+     * The number of commands that were not executed because already claimed by another executor.
+     */
+    public long getLostClaimCount() {
+        return lostClaimCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Mean time between a command being created and it being started.
+     */
+    public long getAverageQueueLatencyMillis() {
+        final long completed = completedCount.get();
+        return completed != 0 ? totalQueueLatencyMillis.get() / completed : 0;
+    }
+
+    /**
+     * Mean time taken to execute a command.
+     */
+    public long getAverageExecutionMillis() {
+        final long completed = completedCount.get();
+        return completed != 0 ? totalExecutionMillis.get() / completed : 0;
+    }
+
+    private String metricsAsString() {
+        return "claimed=" + getClaimedCount() + ", lostClaims=" + getLostClaimCount() + ", completed=" + getCompletedCount() + ", failed=" + getFailedCount() + ", retries=" + getRetryCount()
+                + ", avgQueueLatencyMs=" + getAverageQueueLatencyMillis() + ", avgExecutionMs=" + getAverageExecutionMillis();
+    }
+
+    // //////////////////////////////////////
+    // Dependencies (from context)
+    // //////////////////////////////////////
+
+    protected AuthenticationSession getAuthenticationSession() {
+        return IsisContext.getAuthenticationSession();
+    }
+
+    protected IsisConfiguration getConfiguration() {
+        return IsisContext.getConfiguration();
+    }
+
+}
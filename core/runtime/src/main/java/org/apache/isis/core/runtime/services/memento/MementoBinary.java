@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.memento;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+
+import org.apache.isis.applib.services.memento.MementoService.Memento;
+import org.apache.isis.core.commons.encoding.DataInputStreamExtended;
+import org.apache.isis.core.commons.encoding.DataOutputStreamExtended;
+import org.apache.isis.core.commons.encoding.FieldType;
+import org.apache.isis.core.commons.exceptions.IsisException;
+import org.apache.isis.core.runtime.services.memento.Dom4jUtil.Parseable;
+
+/**
+ * A {@link Memento} held as a map of strings, serialized to a compact length-prefixed binary form (using
+ * {@link FieldType}), optionally deflated, and then base-64 (URL-safe) encoded.
+ * 
+ * <p>
+ * The string form starts with a {@link #PREFIX_BINARY prefix} that can be neither the start of an XML
+ * document nor of a base-64 encoded string, so that {@link MementoServiceDefault#parse(String)} can tell
+ * binary mementos apart from those in the (original) XML format.
+ */
+class MementoBinary implements Memento {
+
+    static final String PREFIX_BINARY = "~b";
+    static final String PREFIX_BINARY_DEFLATED = "~z";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    static boolean isBinary(final String str) {
+        return str.startsWith(PREFIX_BINARY) || str.startsWith(PREFIX_BINARY_DEFLATED);
+    }
+
+    static MementoBinary parse(final String str) {
+        final boolean deflated = str.startsWith(PREFIX_BINARY_DEFLATED);
+        final byte[] bytes = BaseEncoding.base64Url().decode(str.substring(PREFIX_BINARY.length()));
+        try {
+            final MementoBinary memento = new MementoBinary(deflated);
+            memento.read(new ByteArrayInputStream(deflated ? inflate(bytes) : bytes));
+            return memento;
+        } catch (final IOException ex) {
+            throw new IsisException(ex);
+        }
+    }
+
+    private final boolean deflate;
+    // null values are held as null
+    private final Map<String, String> values = Maps.newLinkedHashMap();
+
+    MementoBinary(final boolean deflate) {
+        this.deflate = deflate;
+    }
+
+    @Override
+    public Memento set(final String name, final Object value) {
+        values.put(name, value != null ? value.toString() : null);
+        return this;
+    }
+
+    @Override
+    public <T> T get(final String name, final Class<T> cls) {
+        Parseable.assertSupported(cls);
+        final String str = values.get(name);
+        if(str == null) {
+            return null;
+        }
+        return Parseable.parse(str, cls);
+    }
+
+    @Override
+    public String asString() {
+        try {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            if(deflate) {
+                final DeflaterOutputStream dos = new DeflaterOutputStream(baos);
+                write(dos);
+                dos.finish();
+            } else {
+                write(baos);
+            }
+            final String prefix = deflate ? PREFIX_BINARY_DEFLATED : PREFIX_BINARY;
+            return prefix + BaseEncoding.base64Url().encode(baos.toByteArray());
+        } catch (final IOException ex) {
+            throw new IsisException(ex);
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Sets.newLinkedHashSet(values.keySet());
+    }
+
+    // //////////////////////////////////////
+
+    private void write(final OutputStream outputStream) throws IOException {
+        final DataOutputStreamExtended output = new DataOutputStreamExtended(outputStream);
+        FieldType.INTEGER.write(output, values.size());
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            FieldType.STRING.write(output, entry.getKey());
+            // as bytes rather than UTF, which is limited to 64k
+            final String value = entry.getValue();
+            FieldType.BYTE_ARRAY.write(output, value != null ? value.getBytes(UTF_8) : null);
+        }
+        output.getDataOutputStream().flush();
+    }
+
+    private void read(final InputStream inputStream) throws IOException {
+        final DataInputStreamExtended input = new DataInputStreamExtended(inputStream);
+        final int size = FieldType.INTEGER.read(input);
+        for (int i = 0; i < size; i++) {
+            final String name = FieldType.STRING.read(input);
+            final byte[] bytes = FieldType.BYTE_ARRAY.read(input);
+            values.put(name, bytes != null ? new String(bytes, UTF_8) : null);
+        }
+    }
+
+    private static byte[] inflate(final byte[] bytes) throws IOException {
+        // inflated up-front, because FieldType reads byte arrays with a single read()
+        final InflaterInputStream iis = new InflaterInputStream(new ByteArrayInputStream(bytes));
+        try {
+            return ByteStreams.toByteArray(iis);
+        } finally {
+            iis.close();
+        }
+    }
+
+}
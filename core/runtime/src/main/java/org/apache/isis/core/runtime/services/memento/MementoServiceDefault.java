@@ -90,10 +90,48 @@ public Set<String> keySet() {
 
     // //////////////////////////////////////
 
+    /**
+     * The format of mementos {@link #create() created} by this service.
+     * 
+     * <p>
+     * Mementos in any format can be {@link #parse(String) parsed}, irrespective of the format configured.
+     */
+    public static enum Format {
+        /**
+         * An XML document, base-64 encoded unless {@link MementoServiceDefault#withNoEncoding() no encoding}
+         * has been requested.
+         */
+        XML,
+        /**
+         * A compact length-prefixed binary form; always base-64 encoded.
+         */
+        BINARY,
+        /**
+         * As for {@link #BINARY}, but deflated prior to encoding; suited to mementos with large values.
+         */
+        BINARY_DEFLATED;
+
+        /**
+         * Parses the (case-insensitive) name of the format, defaulting to {@link #XML} if null or not recognized.
+         */
+        public static Format parse(final String str) {
+            if(str != null) {
+                for (final Format format : values()) {
+                    if(format.name().equalsIgnoreCase(str.trim())) {
+                        return format;
+                    }
+                }
+            }
+            return XML;
+        }
+    }
+
     private boolean noEncoding;
+    private Format format;
     
     public MementoServiceDefault() {
         this.noEncoding = false;
+        this.format = Format.XML;
     }
 
     /**
@@ -104,17 +142,36 @@ public MementoServiceDefault withNoEncoding() {
         this.noEncoding = true;
         return this;
     }
+
+    /**
+     * Not public API.
+     */
+    @Programmatic
+    public MementoServiceDefault withFormat(final Format format) {
+        this.format = format;
+        return this;
+    }
     
     // //////////////////////////////////////
 
     @Override
     public Memento create() {
-        return new MementoDefault(noEncoding);
+        switch (format) {
+        case BINARY:
+            return new MementoBinary(false);
+        case BINARY_DEFLATED:
+            return new MementoBinary(true);
+        default:
+            return new MementoDefault(noEncoding);
+        }
     }
 
     
     @Override
     public Memento parse(String str) {
+        if(MementoBinary.isBinary(str)) {
+            return MementoBinary.parse(str);
+        }
         String xmlStr;
         if (noEncoding) {
             xmlStr = str;
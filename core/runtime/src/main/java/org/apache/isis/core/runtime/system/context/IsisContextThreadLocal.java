@@ -19,8 +19,9 @@
 
 package org.apache.isis.core.runtime.system.context;
 
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 import org.slf4j.Logger;
@@ -34,6 +35,18 @@
 /**
  * Multi-user implementation of {@link IsisContext} that stores a set of components for
  * each thread in use.
+ * 
+ * <p>
+ * The {@link IsisSession} for the current thread is held in a
+ * {@link ThreadLocal}; all open sessions are also registered (by
+ * {@link IsisSession#getId() id}) in a concurrent map, so that they can be
+ * looked up, listed and shut down without locking.
+ * 
+ * <p>
+ * A session need not stay on the thread that opened it: it can be
+ * {@link #detachSessionInstance() detached} from one thread and
+ * {@link #attachSessionInstance(IsisSession) attached} to another (for
+ * example, when work is handed off to an executor).
  */
 public class IsisContextThreadLocal extends IsisContext {
 
@@ -43,7 +56,18 @@ public static IsisContext createInstance(final IsisSessionFactory sessionFactory
         return new IsisContextThreadLocal(sessionFactory);
     }
 
-    private final Map<Thread, IsisSession> sessionsByThread = Maps.newHashMap();
+    private static class Registration {
+        private final IsisSession session;
+        private volatile Thread thread;
+
+        private Registration(final IsisSession session, final Thread thread) {
+            this.session = session;
+            this.thread = thread;
+        }
+    }
+
+    private final ThreadLocal<IsisSession> currentSession = new ThreadLocal<IsisSession>();
+    private final ConcurrentMap<String, Registration> registrationsBySessionId = Maps.newConcurrentMap();
 
     
     // //////////////////////////////////////////////
@@ -69,19 +93,20 @@ public void closeAllSessionsInstance() {
     }
 
     protected void shutdownAllThreads() {
-        synchronized (sessionsByThread) {
-            int i = 0;
-            for (final Thread thread : sessionsByThread.keySet()) {
-                LOG.info("Shutting down thread: " + i++);
-                final IsisSession data = sessionsByThread.get(thread);
-                data.closeAll();
-            }
+        int i = 0;
+        for (final Registration registration : Lists.newArrayList(registrationsBySessionId.values())) {
+            LOG.info("Shutting down thread: " + i++);
+            registration.session.closeAll();
         }
     }
 
     @Override
     protected void doClose() {
-        sessionsByThread.remove(Thread.currentThread());
+        final IsisSession session = currentSession.get();
+        currentSession.remove();
+        if (session != null) {
+            registrationsBySessionId.remove(session.getId());
+        }
     }
 
     // /////////////////////////////////////////////////////////
@@ -90,13 +115,7 @@ protected void doClose() {
 
     @Override
     public String[] allSessionIds() {
-        final String[] ids = new String[sessionsByThread.size()];
-        int i = 0;
-        for (final Thread thread : sessionsByThread.keySet()) {
-            final IsisSession data = sessionsByThread.get(thread);
-            ids[i++] = data.getId();
-        }
-        return ids;
+        return registrationsBySessionId.keySet().toArray(new String[0]);
     }
 
     // /////////////////////////////////////////////////////////
@@ -112,21 +131,16 @@ public String debugTitle() {
     public void debugData(final DebugBuilder debug) {
         super.debugData(debug);
         debug.appendTitle("Threads based Contexts");
-        for (final Thread thread : sessionsByThread.keySet()) {
-            final IsisSession data = sessionsByThread.get(thread);
-            debug.appendln(thread.toString(), data);
+        for (final Registration registration : registrationsBySessionId.values()) {
+            final Thread thread = registration.thread;
+            debug.appendln(thread != null ? thread.toString() : "[detached]", registration.session);
         }
     }
 
     @Override
     protected IsisSession getSessionInstance(final String executionContextId) {
-        for (final Thread thread : sessionsByThread.keySet()) {
-            final IsisSession data = sessionsByThread.get(thread);
-            if (data.getId().equals(executionContextId)) {
-                return data;
-            }
-        }
-        return null;
+        final Registration registration = registrationsBySessionId.get(executionContextId);
+        return registration != null ? registration.session : null;
     }
 
     // /////////////////////////////////////////////////////////
@@ -136,39 +150,99 @@ protected IsisSession getSessionInstance(final String executionContextId) {
     /**
      * Is only intended to be called through
      * {@link IsisContext#openSession(AuthenticationSession)}.
-     * 
-     * <p>
-     * Implementation note: an alternative design would have just been to bind
-     * onto a thread local.
      */
     @Override
     public IsisSession openSessionInstance(final AuthenticationSession authenticationSession) {
         final Thread thread = Thread.currentThread();
-        synchronized (sessionsByThread) {
-            applySessionClosePolicy();
-            final IsisSession session = getSessionFactoryInstance().openSession(authenticationSession);
-            LOG.debug("  opening session " + session + " (count " + sessionsByThread.size() + ") for " + authenticationSession.getUserName());
-            saveSession(thread, session);
-            session.open();
-            return session;
+        applySessionClosePolicy();
+        final IsisSession session = getSessionFactoryInstance().openSession(authenticationSession);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("  opening session " + session + " (count " + registrationsBySessionId.size() + ") for " + authenticationSession.getUserName());
         }
+        saveSession(thread, session);
+        session.open();
+        return session;
     }
 
     protected IsisSession createAndOpenSession(final Thread thread, final AuthenticationSession authenticationSession) {
         final IsisSession session = getSessionFactoryInstance().openSession(authenticationSession);
         session.open();
-        LOG.info("  opening session " + session + " (count " + sessionsByThread.size() + ") for " + authenticationSession.getUserName());
+        LOG.info("  opening session " + session + " (count " + registrationsBySessionId.size() + ") for " + authenticationSession.getUserName());
         return session;
     }
 
     private IsisSession saveSession(final Thread thread, final IsisSession session) {
-        synchronized (sessionsByThread) {
-            sessionsByThread.put(thread, session);
+        currentSession.set(session);
+        registrationsBySessionId.put(session.getId(), new Registration(session, thread));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("  saving session " + session + "; now have " + registrationsBySessionId.size() + " sessions");
+        }
+        return session;
+    }
+
+    // /////////////////////////////////////////////////////////
+    // attach, detach
+    // /////////////////////////////////////////////////////////
+
+    /**
+     * Unbinds the {@link IsisSession} (if any) from the current thread, without
+     * closing it, so that it can be
+     * {@link #attachSessionInstance(IsisSession) attached} to some other
+     * thread.
+     * 
+     * <p>
+     * The session remains registered, so can still be
+     * {@link #getSessionInstance(String) looked up} by its id.
+     * 
+     * @return the detached session, or <tt>null</tt> if there was none.
+     */
+    public IsisSession detachSessionInstance() {
+        final IsisSession session = currentSession.get();
+        if (session == null) {
+            return null;
+        }
+        currentSession.remove();
+        final Registration registration = registrationsBySessionId.get(session.getId());
+        if (registration != null) {
+            synchronized (registration) {
+                registration.thread = null;
+            }
         }
-        LOG.debug("  saving session " + session + "; now have " + sessionsByThread.size() + " sessions");
         return session;
     }
 
+    /**
+     * Binds a previously {@link #detachSessionInstance() detached}
+     * {@link IsisSession} to the current thread.
+     * 
+     * @throws IllegalStateException
+     *             if the current thread already has a (different) session, if
+     *             the session is still attached to some other thread, or if
+     *             the session is not registered with this context (eg because
+     *             it has since been closed).
+     */
+    public void attachSessionInstance(final IsisSession session) {
+        final IsisSession existing = currentSession.get();
+        if (existing == session) {
+            return;
+        }
+        if (existing != null) {
+            throw new IllegalStateException("Thread already has a session: " + existing);
+        }
+        final Registration registration = registrationsBySessionId.get(session.getId());
+        if (registration == null || registration.session != session) {
+            throw new IllegalStateException("Session not registered with this context: " + session);
+        }
+        final Thread currentThread = Thread.currentThread();
+        synchronized (registration) {
+            if (registration.thread != null && registration.thread != currentThread) {
+                throw new IllegalStateException("Session is attached to another thread (" + registration.thread.getName() + "): " + session);
+            }
+            registration.thread = currentThread;
+        }
+        currentSession.set(session);
+    }
+
     // /////////////////////////////////////////////////////////
     // getCurrent() (Hook)
     // /////////////////////////////////////////////////////////
@@ -180,9 +254,7 @@ private IsisSession saveSession(final Thread thread, final IsisSession session)
      */
     @Override
     public IsisSession getSessionInstance() {
-        final Thread thread = Thread.currentThread();
-        final IsisSession session = sessionsByThread.get(thread);
-        return session;
+        return currentSession.get();
     }
 
 }
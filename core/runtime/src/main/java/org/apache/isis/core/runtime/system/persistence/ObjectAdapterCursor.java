@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Iterator;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+
+/**
+ * Iterates over the results of a {@link PersistenceQuery}, adapting each
+ * pojo only as it is reached (rather than materializing the entire result
+ * set up-front).
+ * 
+ * <p>
+ * Obtained from {@link ObjectStore#loadInstancesAndAdaptStreamed(PersistenceQuery, int)};
+ * must be consumed within the transaction in which it was obtained, and 
+ * should always be {@link #close() closed}.
+ * 
+ * <p>
+ * {@link #remove()} is not supported.
+ */
+public interface ObjectAdapterCursor extends Iterator<ObjectAdapter> {
+
+    /**
+     * Releases any resources held by the object store for an adapter that has
+     * already been processed, for example by evicting its pojo from the
+     * underlying persistence mechanism's cache.
+     * 
+     * @return whether the adapter was released, and so may now also be 
+     * removed from the {@link AdapterManagerSpi adapter manager}.  Adapters
+     * that have been modified will not be released.
+     */
+    boolean release(ObjectAdapter adapter);
+
+    /**
+     * Releases the underlying resources (eg result set); no further adapters 
+     * will be returned.
+     */
+    void close();
+}
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.runtime.persistence.adaptermanager.RootAndCollectionAdapters;
+
+/**
+ * Decorates an {@link ObjectAdapterCursor} such that, each time a new batch is
+ * started, the adapters of the previous batch are {@link ObjectAdapterCursor#release(ObjectAdapter) released}
+ * by the object store and removed from the {@link AdapterManagerSpi adapter manager}
+ * (along with any of their collection adapters).
+ * 
+ * <p>
+ * This allows arbitrarily large result sets to be iterated over in (more or less)
+ * constant memory, with the caveat that adapters from earlier batches must not
+ * be held onto.
+ */
+class ObjectAdapterCursorEvicting implements ObjectAdapterCursor {
+
+    private final ObjectAdapterCursor underlying;
+    private final int batchSize;
+    private final AdapterManagerSpi adapterManager;
+
+    private final List<ObjectAdapter> processed;
+
+    ObjectAdapterCursorEvicting(final ObjectAdapterCursor underlying, final int batchSize, final AdapterManagerSpi adapterManager) {
+        this.underlying = underlying;
+        this.batchSize = batchSize;
+        this.adapterManager = adapterManager;
+        this.processed = Lists.newArrayListWithCapacity(batchSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return underlying.hasNext();
+    }
+
+    @Override
+    public ObjectAdapter next() {
+        if (processed.size() >= batchSize) {
+            evictProcessed();
+        }
+        final ObjectAdapter adapter = underlying.next();
+        processed.add(adapter);
+        return adapter;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean release(final ObjectAdapter adapter) {
+        return underlying.release(adapter);
+    }
+
+    /**
+     * Also evicts the final batch.
+     */
+    @Override
+    public void close() {
+        try {
+            evictProcessed();
+        } finally {
+            underlying.close();
+        }
+    }
+
+    private void evictProcessed() {
+        for (final ObjectAdapter adapter : processed) {
+            if (!underlying.release(adapter)) {
+                continue;
+            }
+            final RootAndCollectionAdapters rootAndCollectionAdapters = new RootAndCollectionAdapters(adapter, adapterManager);
+            for (final ObjectAdapter collectionAdapter : rootAndCollectionAdapters) {
+                adapterManager.removeAdapter(collectionAdapter);
+            }
+            adapterManager.removeAdapter(adapter);
+        }
+        processed.clear();
+    }
+
+}
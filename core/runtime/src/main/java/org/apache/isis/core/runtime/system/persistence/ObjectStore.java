@@ -121,6 +121,17 @@ public interface ObjectStore extends DebuggableWithTitle, SessionScopedComponent
 
     List<ObjectAdapter> loadInstancesAndAdapt(PersistenceQuery persistenceQuery);
 
+    /**
+     * As {@link #loadInstancesAndAdapt(PersistenceQuery)}, but returning a
+     * cursor that fetches and adapts the instances in batches of (approximately)
+     * the specified size, as they are iterated over.
+     * 
+     * <p>
+     * Object stores that hold their instances in memory anyway can simply
+     * return an {@link org.apache.isis.core.runtime.persistence.query.ObjectAdapterCursorForList}.
+     */
+    ObjectAdapterCursor loadInstancesAndAdaptStreamed(PersistenceQuery persistenceQuery, int batchSize);
+
     boolean hasInstances(ObjectSpecification specification);
 
     // ///////////////////////////////////////////////////////
@@ -169,6 +180,19 @@ public interface ObjectStore extends DebuggableWithTitle, SessionScopedComponent
      */
     ObjectAdapter loadInstanceAndAdapt(TypedOid oid);
 
+    /**
+     * Hint that the objects identified by the specified {@link RootOid}s are
+     * about to be {@link #loadInstanceAndAdapt(TypedOid) loaded}, allowing
+     * the object store to retrieve them in bulk (eg in a single round-trip).
+     * 
+     * <p>
+     * Object stores that cannot take advantage of this should do nothing;
+     * similarly any oid that cannot be found should be ignored (the
+     * subsequent {@link #loadInstanceAndAdapt(TypedOid)} will throw the
+     * {@link ObjectNotFoundException}).
+     */
+    void prefetchInstances(List<RootOid> oids);
+
 
     // ///////////////////////////////////////////////////////
     // resolveField, resolveImmediately
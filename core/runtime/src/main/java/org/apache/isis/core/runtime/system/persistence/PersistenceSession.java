@@ -20,6 +20,7 @@
 
 import static org.apache.isis.core.commons.ensure.Ensure.ensureThatArg;
 import static org.apache.isis.core.commons.ensure.Ensure.ensureThatState;
+import static org.apache.isis.core.commons.matchers.IsisMatchers.greaterThan;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -29,6 +30,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -41,6 +43,7 @@
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryDefault;
 import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.applib.query.QueryFindByCriteria;
 import org.apache.isis.applib.services.command.Command;
 import org.apache.isis.applib.services.command.CommandContext;
 import org.apache.isis.applib.services.command.CommandDefault;
@@ -88,6 +91,7 @@
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.DestroyObjectCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.SaveObjectCommand;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindAllInstances;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByCriteria;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByPattern;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindByTitle;
 import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindUsingApplibQueryDefault;
@@ -208,6 +212,8 @@ public void open() {
             LOG.debug("opening " + this);
         }
 
+        final long startNanos = System.nanoTime();
+
         // injected via setters
         ensureThatState(transactionManager, is(not(nullValue())), "TransactionManager missing");
 
@@ -233,6 +239,20 @@ public void open() {
         initServices();
 
         setState(State.OPEN);
+
+        recordTiming(getSessionTemplate().getOpenTimings(), "opened", startNanos);
+    }
+
+    private PersistenceSessionTemplate getSessionTemplate() {
+        return persistenceSessionFactory.getSessionTemplate();
+    }
+
+    private void recordTiming(final PersistenceSessionTemplate.Timings timings, final String what, final long startNanos) {
+        final long nanos = System.nanoTime() - startNanos;
+        timings.record(nanos);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(what + " " + this + " in " + TimeUnit.NANOSECONDS.toMicros(nanos) + "us");
+        }
     }
 
     
@@ -252,8 +272,22 @@ private void initServices() {
     /**
      * Creates (or recreates following a {@link #testReset()})
      * {@link ObjectAdapter adapters} for the {@link #serviceList}.
+     * 
+     * <p>
+     * If the {@link PersistenceSessionTemplate session template} has the
+     * service oids cached, then the adapters are simply mapped from those;
+     * otherwise they are obtained (within a transaction) from the object store,
+     * and offered to the template for subsequent sessions.
      */
     private void createServiceAdapters(final List<Object> registeredServices) {
+        final PersistenceSessionTemplate sessionTemplate = getSessionTemplate();
+        final List<PersistenceSessionTemplate.ServiceOid> cachedServiceOids = sessionTemplate.getServiceOids(registeredServices);
+        if (cachedServiceOids != null) {
+            mapServiceAdapters(cachedServiceOids);
+            return;
+        }
+
+        final List<PersistenceSessionTemplate.ServiceOid> serviceOids = Lists.newArrayList();
         getTransactionManager().startTransaction();
         for (final Object service : registeredServices) {
             final ObjectSpecification serviceSpecification = getSpecificationLoader().loadSpecification(service.getClass());
@@ -271,12 +305,36 @@ private void createServiceAdapters(final List<Object> registeredServices) {
             }
 
             serviceAdapter.markAsResolvedIfPossible();
+            final RootOid persistentOid = (RootOid) serviceAdapter.getOid();
             if (existingOid == null) {
-                final RootOid persistentOid = (RootOid) serviceAdapter.getOid();
                 registerService(persistentOid);
             }
+            serviceOids.add(new PersistenceSessionTemplate.ServiceOid(service, serviceSpecification, persistentOid));
         }
         getTransactionManager().endTransaction();
+
+        sessionTemplate.cacheServiceOids(serviceOids);
+    }
+
+    /**
+     * Maps the service adapters from oids cached by the
+     * {@link PersistenceSessionTemplate}, registering them with the object
+     * store only if it does not already know of them (eg if the object store is
+     * itself session-scoped).
+     */
+    private void mapServiceAdapters(final List<PersistenceSessionTemplate.ServiceOid> serviceOids) {
+        for (final PersistenceSessionTemplate.ServiceOid serviceOid : serviceOids) {
+            final ObjectSpecification serviceSpecification = serviceOid.getServiceSpecification();
+            final RootOid rootOid = serviceOid.getRootOid();
+
+            final ObjectAdapter serviceAdapter = mapRecreatedPojo(rootOid, serviceOid.getServicePojo());
+            serviceAdapter.markAsResolvedIfPossible();
+
+            if (objectStore.getOidForService(serviceSpecification) == null) {
+                registerService(rootOid);
+            }
+            servicesByObjectType.put(serviceSpecification.getSpecId(), rootOid);
+        }
     }
 
     private void initOtherApplibServicesIfConfigured(final List<Object> registeredServices) {
@@ -369,6 +427,8 @@ public void close() {
             LOG.debug("closing " + this);
         }
 
+        final long startNanos = System.nanoTime();
+
         closeServices();
 
         try {
@@ -390,6 +450,8 @@ public void close() {
         }
 
         setState(State.CLOSED);
+
+        recordTiming(getSessionTemplate().getCloseTimings(), "closed", startNanos);
     }
 
     private void closeServices() {
@@ -535,6 +597,10 @@ protected final PersistenceQuery createPersistenceQueryFor(final Query<?> query,
             final String title = queryByTitle.getTitle();
             return new PersistenceQueryFindByTitle(noSpec, title, queryByTitle.getStart(), queryByTitle.getCount());
         }
+        if (query instanceof QueryFindByCriteria) {
+            final QueryFindByCriteria<?> queryByCriteria = (QueryFindByCriteria<?>) query;
+            return new PersistenceQueryFindByCriteria(noSpec, queryByCriteria.getCriterion(), queryByCriteria.getStart(), queryByCriteria.getCount());
+        }
         if (query instanceof QueryFindByPattern) {
             final QueryFindByPattern<?> queryByPattern = (QueryFindByPattern<?>) query;
             final Object pattern = queryByPattern.getPattern();
@@ -591,6 +657,48 @@ public void onSuccess() {
         });
     }
 
+    // ///////////////////////////////////////////////////////////////////////////
+    // findInstancesStreamed
+    // ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * As {@link #findInstances(Query, QueryCardinality)}, but returning a 
+     * {@link ObjectAdapterCursor cursor} that fetches and adapts the instances
+     * in batches as it is iterated over, rather than materializing them all.
+     * 
+     * <p>
+     * Must be called within a transaction, and the cursor consumed and 
+     * {@link ObjectAdapterCursor#close() closed} before that transaction completes.
+     * 
+     * @param batchSize - the number of instances to fetch from the object store at a time.
+     * @param evictProcessed - whether, as each new batch is started, the adapters 
+     *        of the previous batch should be released by the object store and removed 
+     *        from the {@link AdapterManager}, so that memory use does not grow with 
+     *        the size of the result set.  Only unmodified adapters are evicted.
+     */
+    @Override
+    public <T> ObjectAdapterCursor findInstancesStreamed(final Query<T> query, final int batchSize, final boolean evictProcessed) {
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        if (persistenceQuery == null) {
+            throw new IllegalArgumentException("Unknown query type: " + query.getDescription());
+        }
+        return findInstancesStreamed(persistenceQuery, batchSize, evictProcessed);
+    }
+
+    /**
+     * @see #findInstancesStreamed(Query, int, boolean)
+     */
+    @Override
+    public ObjectAdapterCursor findInstancesStreamed(final PersistenceQuery persistenceQuery, final int batchSize, final boolean evictProcessed) {
+        ensureThatArg(batchSize, is(greaterThan(0)), "batch size must be positive");
+        ensureThatState(IsisContext.inTransaction(), is(true), "can only stream instances within a transaction");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findInstancesStreamed matching " + persistenceQuery + ", batch size " + batchSize);
+        }
+        final ObjectAdapterCursor cursor = objectStore.loadInstancesAndAdaptStreamed(persistenceQuery, batchSize);
+        return evictProcessed ? new ObjectAdapterCursorEvicting(cursor, batchSize, adapterManager) : cursor;
+    }
+
     // ///////////////////////////////////////////////////////////////////////////
     // Manual dirtying support
     // ///////////////////////////////////////////////////////////////////////////
@@ -800,6 +908,29 @@ public ObjectAdapter loadObject(final TypedOid oid) {
         return loadMappedObjectFromObjectStore(oid);
     }
 
+    /**
+     * Allows the {@link ObjectStore} to {@link ObjectStore#prefetchInstances(List) prefetch}
+     * (in bulk) those persistent objects that are about to be loaded and that
+     * are not already mapped.
+     */
+    public void prefetchInstances(final List<RootOid> oids) {
+        final List<RootOid> unmapped = Lists.newArrayList();
+        for (final RootOid oid : oids) {
+            if (oid.isPersistent() && !oid.isViewModel() && getAdapterManager().getAdapterFor(oid) == null) {
+                unmapped.add(oid);
+            }
+        }
+        if (unmapped.isEmpty()) {
+            return;
+        }
+        getTransactionManager().executeWithinTransaction(new TransactionalClosureAbstract() {
+            @Override
+            public void execute() {
+                objectStore.prefetchInstances(unmapped);
+            }
+        });
+    }
+
     private ObjectAdapter loadMappedObjectFromObjectStore(final TypedOid oid) {
         ObjectAdapter adapter = getTransactionManager().executeWithinTransaction(new TransactionalClosureWithReturnAbstract<ObjectAdapter>() {
             @Override
@@ -1183,6 +1314,10 @@ public void debugData(final DebugBuilder debug) {
         }
         debug.appendln();
 
+        debug.appendTitle("Session Template");
+        getSessionTemplate().debugData(debug);
+        debug.appendln();
+
         debug.appendTitle("Persistor");
         getTransactionManager().debugData(debug);
         debug.appendln("Persist Algorithm", persistAlgorithm);
@@ -1223,6 +1358,7 @@ protected boolean isImmutable(final ObjectAdapter adapter) {
     public void testReset() {
         objectStore.reset();
         adapterManager.reset();
+        getSessionTemplate().resetServiceOids();
     }
 
     // ///////////////////////////////////////////////////////////////////////////
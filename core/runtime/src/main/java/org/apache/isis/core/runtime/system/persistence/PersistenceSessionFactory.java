@@ -48,6 +48,7 @@ public interface PersistenceSessionFactory extends ClassSubstitutorFactory, Meta
     PojoRecreator getPojoRecreator();
     IdentifierGenerator getIdentifierGenerator();
     ServicesInjectorSpi getServicesInjector();
+    PersistenceSessionTemplate getSessionTemplate();
 
     
     // //////////////////////////////////////////////////////
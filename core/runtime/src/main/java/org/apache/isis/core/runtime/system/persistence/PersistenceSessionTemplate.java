@@ -0,0 +1,198 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Lists;
+
+import org.apache.isis.core.commons.debug.DebugBuilder;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Application-scoped state shared by every {@link PersistenceSession} created
+ * by a single {@link PersistenceSessionFactory}.
+ * 
+ * <p>
+ * If {@link #isEnabled() enabled}, the first session to
+ * {@link PersistenceSession#open() open} records the {@link RootOid} of each
+ * registered service; subsequent sessions then just map their service adapters
+ * from these cached oids, rather than starting a transaction and querying the
+ * object store for each service in turn.
+ * 
+ * <p>
+ * The adapters themselves are never shared: they hold references to
+ * session-scoped components (eg the adapter manager and the authentication
+ * session), so are always recreated within each session.
+ * 
+ * <p>
+ * Also keeps track of how long sessions take to open and to close.
+ */
+public class PersistenceSessionTemplate {
+
+    public static class ServiceOid {
+        private final Object servicePojo;
+        private final ObjectSpecification serviceSpecification;
+        private final RootOid rootOid;
+
+        public ServiceOid(final Object servicePojo, final ObjectSpecification serviceSpecification, final RootOid rootOid) {
+            this.servicePojo = servicePojo;
+            this.serviceSpecification = serviceSpecification;
+            this.rootOid = rootOid;
+        }
+
+        public Object getServicePojo() {
+            return servicePojo;
+        }
+
+        public ObjectSpecification getServiceSpecification() {
+            return serviceSpecification;
+        }
+
+        public RootOid getRootOid() {
+            return rootOid;
+        }
+    }
+
+    private final boolean enabled;
+
+    private volatile List<ServiceOid> serviceOids;
+
+    private final Timings openTimings = new Timings();
+    private final Timings closeTimings = new Timings();
+
+    public PersistenceSessionTemplate(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether service oids are cached across sessions.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // //////////////////////////////////////////////////////
+    // service oids
+    // //////////////////////////////////////////////////////
+
+    /**
+     * The cached oids, or <tt>null</tt> if not {@link #isEnabled() enabled},
+     * if not yet {@link #cacheServiceOids(List) cached}, or if the
+     * registered services no longer correspond to those cached.
+     */
+    public List<ServiceOid> getServiceOids(final List<Object> registeredServices) {
+        final List<ServiceOid> cached = serviceOids;
+        if (cached == null || cached.size() != registeredServices.size()) {
+            return null;
+        }
+        for (int i = 0; i < cached.size(); i++) {
+            if (cached.get(i).getServicePojo() != registeredServices.get(i)) {
+                return null;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Ignored unless {@link #isEnabled() enabled}.
+     */
+    public void cacheServiceOids(final List<ServiceOid> serviceOids) {
+        if (!enabled) {
+            return;
+        }
+        this.serviceOids = Collections.unmodifiableList(Lists.newArrayList(serviceOids));
+    }
+
+    /**
+     * Discards any cached oids, so that the next session to open will
+     * recreate them from the object store.
+     */
+    public void resetServiceOids() {
+        this.serviceOids = null;
+    }
+
+    // //////////////////////////////////////////////////////
+    // timings
+    // //////////////////////////////////////////////////////
+
+    public Timings getOpenTimings() {
+        return openTimings;
+    }
+
+    public Timings getCloseTimings() {
+        return closeTimings;
+    }
+
+    public static class Timings {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        public void record(final long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            long max;
+            while ((max = maxNanos.get()) < nanos) {
+                if (maxNanos.compareAndSet(max, nanos)) {
+                    break;
+                }
+            }
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getMeanNanos() {
+            final long n = count.get();
+            return n == 0 ? 0 : totalNanos.get() / n;
+        }
+
+        @Override
+        public String toString() {
+            return count.get() + " (mean " + TimeUnit.NANOSECONDS.toMicros(getMeanNanos()) + "us, max " + TimeUnit.NANOSECONDS.toMicros(getMaxNanos()) + "us)";
+        }
+    }
+
+    // //////////////////////////////////////////////////////
+    // debug
+    // //////////////////////////////////////////////////////
+
+    public void debugData(final DebugBuilder debug) {
+        debug.appendln("session template enabled?", enabled);
+        debug.appendln("service oids cached?", serviceOids != null);
+        debug.appendln("sessions opened", openTimings);
+        debug.appendln("sessions closed", closeTimings);
+    }
+
+}
@@ -98,6 +98,23 @@ public interface Persistor {
      */
     public abstract ObjectAdapter findInstances(PersistenceQuery persistenceQuery);
 
+    /**
+     * As {@link #findInstances(Query, QueryCardinality)}, but returning a
+     * {@link ObjectAdapterCursor cursor} that fetches and adapts instances in
+     * batches as it is iterated over.
+     * 
+     * <p>
+     * If <tt>evictProcessed</tt> is set, then the (unmodified) adapters of 
+     * each batch are evicted once the next batch is started, so that large 
+     * result sets can be processed in constant memory.
+     */
+    public abstract <T> ObjectAdapterCursor findInstancesStreamed(Query<T> query, int batchSize, boolean evictProcessed);
+
+    /**
+     * @see #findInstancesStreamed(Query, int, boolean)
+     */
+    public abstract ObjectAdapterCursor findInstancesStreamed(PersistenceQuery persistenceQuery, int batchSize, boolean evictProcessed);
+
     /**
      * Loads the object identified by the specified {@link TypedOid} from the
      * persisted set of objects.
@@ -26,6 +26,7 @@
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.eventbus.EventBus;
 
@@ -62,7 +63,7 @@ public class IsisSessionDefault implements IsisSession {
     private static final Logger LOG = LoggerFactory.getLogger(IsisSessionDefault.class);
 
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd/MM HH:mm:ss,SSS");
-    private static int nextId = 1;
+    private static final AtomicInteger nextId = new AtomicInteger(1);
 
     private final IsisSessionFactory executionContextFactory;
 
@@ -95,7 +96,7 @@ public IsisSessionDefault(final IsisSessionFactory sessionFactory, final Authent
 
         setSessionOpenTime(System.currentTimeMillis());
 
-        this.id = nextId++;
+        this.id = nextId.getAndIncrement();
         
     }
 
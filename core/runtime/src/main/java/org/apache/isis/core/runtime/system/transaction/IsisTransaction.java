@@ -32,6 +32,7 @@
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
@@ -219,6 +220,12 @@ public TransactionState getRuntimeContextState() {
      * Will be that of the {@link #command} if not <tt>null</tt>, otherwise will be randomly created.
      */
     private final UUID transactionId;
+
+    /**
+     * Shared by all transactions, so that a {@link #getChangeCount() change count} is never reused.
+     */
+    private static final AtomicLong changeCountSequence = new AtomicLong();
+    private volatile long changeCount = changeCountSequence.incrementAndGet();
         
     private State state;
     private IsisException abortCause;
@@ -272,6 +279,24 @@ public IsisTransaction(
     public final UUID getTransactionId() {
         return transactionId;
     }
+
+    /**
+     * Changes each time that an object is {@link #enlistUpdating(ObjectAdapter) enlisted} or a
+     * {@link #addCommand(PersistenceCommand) command} is added, and is never the same for two
+     * transactions.
+     * 
+     * <p>
+     * Allows anything derived from the state of the domain objects (eg the cached
+     * {@link ObjectAdapter#titleString() title} of an adapter, which may depend on objects other
+     * than its own) to detect that it may be stale.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    private void incrementChangeCount() {
+        changeCount = changeCountSequence.incrementAndGet();
+    }
     
     
     // ////////////////////////////////////////////////////////////////
@@ -299,6 +324,7 @@ public void addCommand(final PersistenceCommand command) {
         if (command == null) {
             return;
         }
+        incrementChangeCount();
 
         final ObjectAdapter onObject = command.onAdapter();
 
@@ -1012,6 +1038,8 @@ public void enlistDeleting(ObjectAdapter adapter) {
 
     private void enlist(ObjectAdapter adapter, ChangeKind changeKind) {
         changeKindByEnlistedAdapter.put(adapter, changeKind);
+        incrementChangeCount();
+        adapter.fireChangedEvent();
     }
     
     
@@ -21,9 +21,11 @@
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import org.jmock.Expectations;
 import org.jmock.Mockery;
+import org.jmock.Sequence;
 import org.jmock.integration.junit4.JMock;
 import org.jmock.integration.junit4.JUnit4Mockery;
 import org.junit.Before;
@@ -90,4 +92,39 @@ public void newlyCreatedAuthenticationSessionShouldBeValid() throws Exception {
         assertThat(authenticationManager.isSessionValid(session), is(true));
     }
 
+    @Test
+    public void codeIsReleasedWhenAuthenticatorThrows() throws Exception {
+        final Authenticator mockFailingAuthenticator = mockery.mock(Authenticator.class, "failingAuthenticator");
+        final AuthenticationManagerStandard authenticationManager = new AuthenticationManagerStandard(mockConfiguration);
+        authenticationManager.addAuthenticator(mockFailingAuthenticator);
+        authenticationManager.setRandomCodeGenerator(mockRandomCodeGenerator);
+
+        final Sequence sequence = mockery.sequence("authenticate");
+        mockery.checking(new Expectations() {
+            {
+                allowing(mockFailingAuthenticator).canAuthenticate(with(IsisMatchers.anySubclassOf(AuthenticationRequest.class)));
+                will(returnValue(true));
+
+                oneOf(mockFailingAuthenticator).authenticate(with(any(AuthenticationRequest.class)), with(any(String.class)));
+                inSequence(sequence);
+                will(throwException(new IllegalStateException("directory unavailable")));
+
+                oneOf(mockFailingAuthenticator).authenticate(with(any(AuthenticationRequest.class)), with(any(String.class)));
+                inSequence(sequence);
+                will(returnValue(mockAuthSession));
+            }
+        });
+
+        final AuthenticationRequestPassword request = new AuthenticationRequestPassword("foo", "bar");
+        try {
+            authenticationManager.authenticate(request);
+            fail();
+        } catch (final IllegalStateException expected) {
+        }
+
+        // the (only) code generated would never be released otherwise
+        final AuthenticationSession session = authenticationManager.authenticate(request);
+        assertThat(authenticationManager.isSessionValid(session), is(true));
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.bytecode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
+import org.apache.isis.core.runtime.bytecode.ObjectResolveAndObjectChangedEnhancerAbstract.MethodDispatch;
+import org.apache.isis.core.runtime.persistence.objectfactory.ObjectChanger;
+import org.apache.isis.core.runtime.persistence.objectfactory.ObjectResolver;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class ObjectResolveAndObjectChangedEnhancerAbstractTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ObjectResolver mockObjectResolver;
+    @Mock
+    private ObjectChanger mockObjectChanger;
+    @Mock
+    private SpecificationLoaderSpi mockSpecificationLoader;
+    @Mock
+    private ObjectSpecificationDefault mockObjectSpecification;
+
+    public static class Customer {
+        public String getName() {
+            return null;
+        }
+    }
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private int specificationLookups;
+
+    private ObjectResolveAndObjectChangedEnhancerAbstract enhancer;
+    private Method method;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(mockSpecificationLoader).getInvalidationCount();
+                will(new CustomAction("invalidation count") {
+                    @Override
+                    public Object invoke(final Invocation invocation) throws Throwable {
+                        return invalidationCount.get();
+                    }
+                });
+                allowing(mockObjectSpecification).getMember(with(any(Method.class)));
+                will(returnValue(null));
+            }
+        });
+
+        enhancer = new ObjectResolveAndObjectChangedEnhancerAbstract(mockObjectResolver, mockObjectChanger, mockSpecificationLoader) {
+            @Override
+            protected void createCallback() {
+            }
+
+            @Override
+            protected ObjectSpecificationDefault getJavaSpecificationOfOwningClass(final Method method) {
+                specificationLookups++;
+                return mockObjectSpecification;
+            }
+        };
+        method = Customer.class.getMethod("getName");
+    }
+
+    @Test
+    public void dispatchIsCached() throws Exception {
+        final MethodDispatch dispatch = enhancer.dispatchFor(method);
+        final MethodDispatch dispatch2 = enhancer.dispatchFor(method);
+
+        assertThat(dispatch2, is(sameInstance(dispatch)));
+        assertThat(specificationLookups, is(1));
+    }
+
+    @Test
+    public void dispatchIsLookedUpAgain_onceMetamodelInvalidated() throws Exception {
+        final MethodDispatch dispatch = enhancer.dispatchFor(method);
+        invalidationCount.incrementAndGet();
+        final MethodDispatch dispatch2 = enhancer.dispatchFor(method);
+        final MethodDispatch dispatch3 = enhancer.dispatchFor(method);
+
+        assertThat(dispatch2, is(not(sameInstance(dispatch))));
+        assertThat(dispatch3, is(sameInstance(dispatch2)));
+        assertThat(specificationLookups, is(2));
+    }
+
+}
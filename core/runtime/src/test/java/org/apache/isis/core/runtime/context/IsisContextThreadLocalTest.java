@@ -0,0 +1,252 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.context;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.DomainObjectContainer;
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.adapter.oid.OidMarshaller;
+import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
+import org.apache.isis.core.runtime.authentication.AuthenticationManager;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
+import org.apache.isis.core.runtime.authorization.AuthorizationManager;
+import org.apache.isis.core.runtime.imageloader.TemplateImageLoader;
+import org.apache.isis.core.runtime.system.DeploymentType;
+import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.context.IsisContextThreadLocal;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSessionFactory;
+import org.apache.isis.core.runtime.system.session.IsisSession;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactoryDefault;
+import org.apache.isis.core.runtime.userprofile.UserProfileLoader;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class IsisContextThreadLocalTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private PersistenceSession mockPersistenceSession;
+    @Mock
+    private SpecificationLoaderSpi mockSpecificationLoader;
+    @Mock
+    private TemplateImageLoader mockTemplateImageLoader;
+    @Mock
+    private PersistenceSessionFactory mockPersistenceSessionFactory;
+    @Mock
+    private UserProfileLoader mockUserProfileLoader;
+    @Mock
+    private AuthenticationManager mockAuthenticationManager;
+    @Mock
+    private AuthorizationManager mockAuthorizationManager;
+    @Mock
+    private DomainObjectContainer mockContainer;
+
+    private AuthenticationSession authSession;
+    private IsisContextThreadLocal isisContext;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        IsisContext.testReset();
+
+        context.checking(new Expectations() {
+            {
+                allowing(mockPersistenceSessionFactory).createPersistenceSession();
+                will(returnValue(mockPersistenceSession));
+
+                ignoring(mockPersistenceSession);
+                ignoring(mockSpecificationLoader);
+                ignoring(mockPersistenceSessionFactory);
+                ignoring(mockUserProfileLoader);
+                ignoring(mockAuthenticationManager);
+                ignoring(mockAuthorizationManager);
+                ignoring(mockTemplateImageLoader);
+                ignoring(mockContainer);
+            }
+        });
+
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        final IsisSessionFactoryDefault sessionFactory = new IsisSessionFactoryDefault(DeploymentType.EXPLORATION, configuration, mockSpecificationLoader, mockTemplateImageLoader, mockAuthenticationManager, mockAuthorizationManager, mockUserProfileLoader, mockPersistenceSessionFactory, mockContainer, Collections.emptyList(), new OidMarshaller());
+        authSession = new SimpleSession("tester", Collections.<String>emptyList());
+
+        isisContext = (IsisContextThreadLocal) IsisContextThreadLocal.createInstance(sessionFactory);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        if (IsisContext.inSession()) {
+            IsisContext.closeSession();
+        }
+        IsisContext.testReset();
+    }
+
+    @Test
+    public void openSession_isBoundToCurrentThreadAndRegisteredById() throws Exception {
+        final IsisSession session = IsisContext.openSession(authSession);
+
+        assertThat(IsisContext.getSession(), is(sameInstance(session)));
+        assertThat(IsisContext.getSession(session.getId()), is(sameInstance(session)));
+        assertThat(Arrays.asList(isisContext.allSessionIds()), is(Collections.singletonList(session.getId())));
+    }
+
+    @Test
+    public void openSession_isNotVisibleFromOtherThreads() throws Exception {
+        IsisContext.openSession(authSession);
+
+        final IsisSession sessionOnOtherThread = executor.submit(new Callable<IsisSession>() {
+            @Override
+            public IsisSession call() throws Exception {
+                return isisContext.getSessionInstance();
+            }
+        }).get();
+
+        assertThat(sessionOnOtherThread, is(nullValue()));
+    }
+
+    @Test
+    public void closeSession_unregisters() throws Exception {
+        final IsisSession session = IsisContext.openSession(authSession);
+
+        IsisContext.closeSession();
+
+        assertThat(IsisContext.inSession(), is(false));
+        assertThat(IsisContext.getSession(session.getId()), is(nullValue()));
+        assertThat(isisContext.allSessionIds().length, is(0));
+    }
+
+    @Test
+    public void detachThenAttach_onAnotherThread() throws Exception {
+        final IsisSession session = IsisContext.openSession(authSession);
+
+        assertThat(isisContext.detachSessionInstance(), is(sameInstance(session)));
+        assertThat(IsisContext.inSession(), is(false));
+        assertThat(IsisContext.getSession(session.getId()), is(sameInstance(session)));
+
+        final IsisSession closedOnOtherThread = executor.submit(new Callable<IsisSession>() {
+            @Override
+            public IsisSession call() throws Exception {
+                isisContext.attachSessionInstance(session);
+                final IsisSession current = isisContext.getSessionInstance();
+                isisContext.closeSessionInstance();
+                return current;
+            }
+        }).get();
+
+        assertThat(closedOnOtherThread, is(sameInstance(session)));
+        assertThat(IsisContext.getSession(session.getId()), is(nullValue()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void attach_whenAlreadyInSession() throws Exception {
+        final IsisSession session = IsisContext.openSession(authSession);
+        isisContext.detachSessionInstance();
+        IsisContext.openSession(authSession);
+
+        isisContext.attachSessionInstance(session);
+    }
+
+    @Test
+    public void attach_whenStillAttachedToAnotherThread() throws Exception {
+        final IsisSession session = IsisContext.openSession(authSession);
+
+        final Throwable thrownOnOtherThread = executor.submit(new Callable<Throwable>() {
+            @Override
+            public Throwable call() throws Exception {
+                try {
+                    isisContext.attachSessionInstance(session);
+                    return null;
+                } catch (final IllegalStateException ex) {
+                    return ex;
+                }
+            }
+        }).get();
+
+        assertThat(thrownOnOtherThread instanceof IllegalStateException, is(true));
+        assertThat(IsisContext.getSession(), is(sameInstance(session)));
+    }
+
+    @Test
+    public void concurrentOpenAndClose() throws Exception {
+        final int numThreads = 4;
+        final int sessionsPerThread = 50;
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Future<List<String>>> futures = Lists.newArrayList();
+        for (int t = 0; t < numThreads; t++) {
+            futures.add(executor.submit(new Callable<List<String>>() {
+                @Override
+                public List<String> call() throws Exception {
+                    start.await();
+                    final List<String> ids = Lists.newArrayList();
+                    for (int i = 0; i < sessionsPerThread; i++) {
+                        final IsisSession session = isisContext.openSessionInstance(authSession);
+                        assertThat(isisContext.getSessionInstance(), is(sameInstance(session)));
+                        assertThat(IsisContext.getSession(session.getId()), is(sameInstance(session)));
+                        ids.add(session.getId());
+                        isisContext.closeSessionInstance();
+                    }
+                    return ids;
+                }
+            }));
+        }
+        start.countDown();
+
+        final List<String> allIds = Lists.newArrayList();
+        for (final Future<List<String>> future : futures) {
+            allIds.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+
+        assertThat(allIds.size(), is(numThreads * sessionsPerThread));
+        assertThat(Sets.newHashSet(allIds).size(), is(allIds.size()));
+        assertThat(isisContext.allSessionIds().length, is(0));
+        assertThat(IsisContext.inSession(), is(false));
+    }
+
+}
@@ -23,8 +23,12 @@
 import static org.junit.Assert.assertSame;
 
 import java.util.Date;
+import java.util.UUID;
+
+import com.google.common.base.Predicates;
 
 import org.jmock.Expectations;
+import org.jmock.api.Action;
 import org.jmock.auto.Mock;
 import org.junit.Before;
 import org.junit.Rule;
@@ -39,6 +43,7 @@
 import org.apache.isis.core.metamodel.adapter.version.ConcurrencyException;
 import org.apache.isis.core.metamodel.adapter.version.Version;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.SpecificationLoaderSpi;
 import org.apache.isis.core.runtime.persistence.adapter.PojoAdapter;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.PojoAdapterBuilder;
@@ -65,6 +70,11 @@ public class PojoAdapterTest {
     private AdapterManager mockObjectAdapterLookup;
     @Mock
     private Localization mockLocalization;
+    @Mock
+    private ObjectSpecification mockSpecification;
+
+    private UUID transactionId;
+    private long changeCount;
     
     @Before
     public void setUp() throws Exception {
@@ -148,4 +158,102 @@ public void checkLock_whenVersionsDifferent() throws Exception {
         adapter.checkLock(mockVersion2);
     }
 
+    @Test
+    public void titleString_cachedWithinTransaction() throws Exception {
+        final PojoAdapter adapter = newTitleCachingAdapter();
+        transactionId = UUID.randomUUID();
+
+        expectTitles("Fred", "Joe");
+
+        assertEquals("Fred", adapter.titleString());
+        assertEquals("Fred", adapter.titleString());
+
+        transactionId = UUID.randomUUID();
+        changeCount++;
+        assertEquals("Joe", adapter.titleString());
+    }
+
+    @Test
+    public void titleString_recalculatedOnceAnyObjectChangedWithinTransaction() throws Exception {
+        final PojoAdapter adapter = newTitleCachingAdapter();
+        transactionId = UUID.randomUUID();
+
+        expectTitles("Fred", "Joe");
+
+        assertEquals("Fred", adapter.titleString());
+
+        // eg another object, from which this object's title is derived, is enlisted
+        changeCount++;
+        assertEquals("Joe", adapter.titleString());
+        assertEquals("Joe", adapter.titleString());
+    }
+
+    @Test
+    public void titleString_notCachedOnceChangedWithinTransaction() throws Exception {
+        final PojoAdapter adapter = newTitleCachingAdapter();
+        transactionId = UUID.randomUUID();
+
+        expectTitles("Fred", "Joe", "Bill");
+
+        assertEquals("Fred", adapter.titleString());
+        adapter.fireChangedEvent();
+        assertEquals("Joe", adapter.titleString());
+        assertEquals("Bill", adapter.titleString());
+    }
+
+    @Test
+    public void titleString_notCachedOutsideTransaction() throws Exception {
+        final PojoAdapter adapter = newTitleCachingAdapter();
+        transactionId = null;
+
+        expectTitles("Fred", "Joe");
+
+        assertEquals("Fred", adapter.titleString());
+        assertEquals("Joe", adapter.titleString());
+    }
+
+    private PojoAdapter newTitleCachingAdapter() {
+        final PojoAdapter adapter = new PojoAdapter(domainObject, RootOidDefault.create(ObjectSpecId.of("CUS"), "1"), mockSpecificationLoader, mockObjectAdapterLookup, mockLocalization, mockAuthenticationSession, Predicates.<ObjectSpecification>alwaysTrue()) {
+            @Override
+            protected UUID getCurrentTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            protected long getCurrentTransactionChangeCount() {
+                return changeCount;
+            }
+        };
+        adapter.changeState(ResolveState.GHOST);
+        adapter.changeState(ResolveState.RESOLVING);
+        adapter.changeState(ResolveState.RESOLVED);
+        return adapter;
+    }
+
+    private void expectTitles(final String... titles) {
+        context.checking(new Expectations() {
+            {
+                allowing(mockSpecificationLoader).loadSpecification(RuntimeTestPojo.class);
+                will(returnValue(mockSpecification));
+
+                allowing(mockSpecification).getSingularName();
+                will(returnValue("Customer"));
+
+                allowing(mockSpecification).isParentedOrFreeCollection();
+                will(returnValue(false));
+
+                exactly(titles.length).of(mockSpecification).getTitle(with(aNull(ObjectAdapter.class)), with(any(ObjectAdapter.class)), with(mockLocalization));
+                will(onConsecutiveCalls(returnValues(titles)));
+            }
+
+            private Action[] returnValues(final String... titles) {
+                final Action[] actions = new Action[titles.length];
+                for (int i = 0; i < titles.length; i++) {
+                    actions[i] = returnValue(titles[i]);
+                }
+                return actions;
+            }
+        });
+    }
+
 }
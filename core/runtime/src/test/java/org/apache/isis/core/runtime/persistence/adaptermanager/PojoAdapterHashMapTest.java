@@ -0,0 +1,145 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.persistence.adaptermanager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class PojoAdapterHashMapTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ObjectSpecification serviceSpec;
+    @Mock
+    private ObjectSpecification customerSpec;
+
+    @Mock
+    private ObjectAdapter serviceAdapter;
+    @Mock
+    private ObjectAdapter customerAdapter;
+
+    private final Object servicePojo = new Object();
+    private final Object customerPojo = new Object();
+
+    private PojoAdapterHashMap map;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {
+            {
+                allowing(serviceSpec).isService();
+                will(returnValue(true));
+                allowing(customerSpec).isService();
+                will(returnValue(false));
+
+                allowing(serviceAdapter).getSpecification();
+                will(returnValue(serviceSpec));
+                allowing(serviceAdapter).getObject();
+                will(returnValue(servicePojo));
+
+                allowing(customerAdapter).getSpecification();
+                will(returnValue(customerSpec));
+                allowing(customerAdapter).getObject();
+                will(returnValue(customerPojo));
+
+                ignoring(serviceAdapter).isResolved();
+                ignoring(customerAdapter).isResolved();
+            }
+        });
+
+        map = new PojoAdapterHashMap();
+        map.add(servicePojo, serviceAdapter);
+        map.add(customerPojo, customerAdapter);
+    }
+
+    @Test
+    public void getAdapter() throws Exception {
+        assertThat(map.getAdapter(servicePojo), is(sameInstance(serviceAdapter)));
+        assertThat(map.getAdapter(customerPojo), is(sameInstance(customerAdapter)));
+        assertThat(map.getAdapter(new Object()), is(nullValue()));
+
+        assertThat(map.containsPojo(servicePojo), is(true));
+        assertThat(map.containsPojo(customerPojo), is(true));
+    }
+
+    @Test
+    public void removeService() throws Exception {
+        map.remove(serviceAdapter);
+
+        assertThat(map.getAdapter(servicePojo), is(nullValue()));
+        assertThat(map.containsPojo(servicePojo), is(false));
+        assertThat(map.getAdapter(customerPojo), is(sameInstance(customerAdapter)));
+    }
+
+    @Test
+    public void removeNonService() throws Exception {
+        map.remove(customerAdapter);
+
+        assertThat(map.getAdapter(customerPojo), is(nullValue()));
+        assertThat(map.containsPojo(customerPojo), is(false));
+        assertThat(map.getAdapter(servicePojo), is(sameInstance(serviceAdapter)));
+    }
+
+    @Test
+    public void resetKeepsOnlyServices() throws Exception {
+        map.reset();
+
+        assertThat(map.getAdapter(servicePojo), is(sameInstance(serviceAdapter)));
+        assertThat(map.getAdapter(customerPojo), is(nullValue()));
+        assertThat(adaptersIn(map), is((List<ObjectAdapter>) Lists.newArrayList(serviceAdapter)));
+    }
+
+    @Test
+    public void closeDiscardsServicesToo() throws Exception {
+        map.close();
+
+        assertThat(map.getAdapter(servicePojo), is(nullValue()));
+        assertThat(map.getAdapter(customerPojo), is(nullValue()));
+        assertThat(map.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void iteratesOverServicesAndNonServices() throws Exception {
+        assertThat(adaptersIn(map), is((List<ObjectAdapter>) Lists.newArrayList(serviceAdapter, customerAdapter)));
+    }
+
+    private static List<ObjectAdapter> adaptersIn(final PojoAdapterHashMap map) {
+        return Lists.newArrayList(map);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.persistence.adaptermanager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class PojoAdapterIdentityMapTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private PojoAdapterIdentityMap map;
+    private int adapterCount;
+
+    @Before
+    public void setUp() throws Exception {
+        map = new PojoAdapterIdentityMap(0);
+    }
+
+    @Test
+    public void putAndGet() throws Exception {
+        final Object pojo = new Object();
+        final ObjectAdapter adapter = newAdapter();
+
+        assertThat(map.put(pojo, adapter), is(nullValue()));
+
+        assertThat(map.get(pojo), is(sameInstance(adapter)));
+        assertThat(map.containsKey(pojo), is(true));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void keyedOnIdentityRatherThanEquality() throws Exception {
+        final String pojo = new String("abc");
+        map.put(pojo, newAdapter());
+
+        assertThat(map.get(new String("abc")), is(nullValue()));
+    }
+
+    @Test
+    public void putReplacesExisting() throws Exception {
+        final Object pojo = new Object();
+        final ObjectAdapter adapter1 = newAdapter();
+        final ObjectAdapter adapter2 = newAdapter();
+        map.put(pojo, adapter1);
+
+        assertThat(map.put(pojo, adapter2), is(sameInstance(adapter1)));
+
+        assertThat(map.get(pojo), is(sameInstance(adapter2)));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void remove() throws Exception {
+        final Object pojo = new Object();
+        final ObjectAdapter adapter = newAdapter();
+        map.put(pojo, adapter);
+
+        assertThat(map.remove(pojo), is(sameInstance(adapter)));
+
+        assertThat(map.get(pojo), is(nullValue()));
+        assertThat(map.remove(pojo), is(nullValue()));
+        assertThat(map.size(), is(0));
+    }
+
+    @Test
+    public void growsAndShrinksConsistentlyWithIdentityHashMap() throws Exception {
+        final Map<Object, ObjectAdapter> expected = new IdentityHashMap<Object, ObjectAdapter>();
+        final List<Object> pojos = Lists.newArrayList();
+        final Random random = new Random(1L);
+
+        // enough entries to resize several times, and to reuse and reclaim the slots of removed entries
+        for (int i = 0; i < 2000; i++) {
+            final Object pojo = new Object();
+            final ObjectAdapter adapter = newAdapter();
+            pojos.add(pojo);
+            expected.put(pojo, adapter);
+            map.put(pojo, adapter);
+            if (random.nextInt(3) == 0) {
+                final Object removed = pojos.remove(random.nextInt(pojos.size()));
+                assertThat(map.remove(removed), is(sameInstance(expected.remove(removed))));
+            }
+        }
+
+        assertThat(map.size(), is(expected.size()));
+        for (final Map.Entry<Object, ObjectAdapter> entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey()), is(sameInstance(entry.getValue())));
+        }
+        final Set<ObjectAdapter> iterated = Sets.newIdentityHashSet();
+        for (final ObjectAdapter adapter : map) {
+            iterated.add(adapter);
+        }
+        assertThat(iterated.size(), is(expected.size()));
+    }
+
+    @Test
+    public void clear() throws Exception {
+        final Object pojo = new Object();
+        for (int i = 0; i < 100; i++) {
+            map.put(new Object(), newAdapter());
+        }
+        map.put(pojo, newAdapter());
+
+        map.clear();
+
+        assertThat(map.size(), is(0));
+        assertThat(map.get(pojo), is(nullValue()));
+        assertThat(map.iterator().hasNext(), is(false));
+        assertThat(map.capacity(), is(new PojoAdapterIdentityMap(0).capacity()));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorIsFailFast() throws Exception {
+        map.put(new Object(), newAdapter());
+        map.put(new Object(), newAdapter());
+        final Iterator<ObjectAdapter> iterator = map.iterator();
+        iterator.next();
+
+        map.put(new Object(), newAdapter());
+
+        iterator.next();
+    }
+
+    private ObjectAdapter newAdapter() {
+        return context.mock(ObjectAdapter.class, "adapter" + ++adapterCount);
+    }
+}
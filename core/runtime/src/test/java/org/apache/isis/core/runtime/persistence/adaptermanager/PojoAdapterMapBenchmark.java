@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.persistence.adaptermanager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Maps;
+
+import org.jmock.Mockery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+
+/**
+ * Microbenchmark of the pojo-to-adapter lookups of {@link PojoAdapterHashMap}, 
+ * which are performed for every pojo adapted by the {@link AdapterManagerDefault}.
+ * 
+ * <p>
+ * The <tt>xxx_hashMap</tt> benchmarks reproduce the previous implementation 
+ * (a {@link java.util.HashMap} keyed on a wrapper of each pojo using its identity hash code), 
+ * for comparison.
+ * 
+ * <p>
+ * Run using the {@link #main(String[]) main} method, eg from the IDE (not run as part of the build).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PojoAdapterMapBenchmark {
+
+    private static class IdentityHashKey {
+        private final Object pojo;
+
+        public IdentityHashKey(final Object pojo) {
+            this.pojo = pojo;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(pojo);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj == this || (obj instanceof IdentityHashKey && ((IdentityHashKey) obj).pojo == pojo);
+        }
+    }
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private Object[] pojos;
+    private ObjectAdapter adapter;
+    private int next;
+
+    private PojoAdapterIdentityMap identityMap;
+    private Map<Object, ObjectAdapter> hashMap;
+
+    @Setup
+    public void setUp() {
+        adapter = new Mockery().mock(ObjectAdapter.class);
+        pojos = new Object[size];
+        identityMap = new PojoAdapterIdentityMap(PojoAdapterHashMap.DEFAULT_POJO_ADAPTER_MAP_SIZE);
+        hashMap = Maps.newHashMapWithExpectedSize(PojoAdapterHashMap.DEFAULT_POJO_ADAPTER_MAP_SIZE);
+        for (int i = 0; i < size; i++) {
+            pojos[i] = new Object();
+            identityMap.put(pojos[i], adapter);
+            hashMap.put(new IdentityHashKey(pojos[i]), adapter);
+        }
+    }
+
+    private Object nextPojo() {
+        if (++next == size) {
+            next = 0;
+        }
+        return pojos[next];
+    }
+
+    @Benchmark
+    public ObjectAdapter get_identityMap() {
+        return identityMap.get(nextPojo());
+    }
+
+    @Benchmark
+    public ObjectAdapter get_hashMap() {
+        return hashMap.get(new IdentityHashKey(nextPojo()));
+    }
+
+    @Benchmark
+    public ObjectAdapter removeAndAdd_identityMap() {
+        final Object pojo = nextPojo();
+        identityMap.remove(pojo);
+        return identityMap.put(pojo, adapter);
+    }
+
+    @Benchmark
+    public ObjectAdapter removeAndAdd_hashMap() {
+        final Object pojo = nextPojo();
+        hashMap.remove(new IdentityHashKey(pojo));
+        return hashMap.put(new IdentityHashKey(pojo), adapter);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PojoAdapterMapBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.background;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.command.CommandDefault;
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.commons.matchers.IsisMatchers;
+import org.apache.isis.core.runtime.system.transaction.TransactionalClosureWithReturnAbstract;
+
+public class ParallelBackgroundCommandExecutionTest {
+
+    /**
+     * In-memory stand-in for the persisted commands; each "transaction" holds its lock, so that (as with
+     * optimistic locking) only one of two concurrent claims of a command can succeed.
+     */
+    static class CommandStore {
+        private final Map<UUID, CommandDefault> commands = Maps.newLinkedHashMap();
+        private final ConcurrentMap<UUID, AtomicInteger> executions = Maps.newConcurrentMap();
+
+        CommandStore(final int numCommands) {
+            for (int i = 0; i < numCommands; i++) {
+                final CommandDefault command = new CommandDefault();
+                command.setTransactionId(UUID.randomUUID());
+                commands.put(command.getTransactionId(), command);
+                executions.put(command.getTransactionId(), new AtomicInteger());
+            }
+        }
+
+        synchronized List<Command> findNotYetStarted() {
+            final List<Command> notYetStarted = Lists.newArrayList();
+            for (final CommandDefault command : commands.values()) {
+                if(command.getStartedAt() == null) {
+                    notYetStarted.add(command);
+                }
+            }
+            return notYetStarted;
+        }
+
+        synchronized Command find(final UUID transactionId) {
+            return commands.get(transactionId);
+        }
+
+        synchronized <T> T inTransaction(final TransactionalClosureWithReturnAbstract<T> closure) {
+            return closure.execute();
+        }
+
+        int executionsOf(final UUID transactionId) {
+            return executions.get(transactionId).get();
+        }
+    }
+
+    static class ParallelBackgroundCommandExecutionForTesting extends ParallelBackgroundCommandExecution {
+
+        private final CommandStore store;
+        private final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        private CyclicBarrier pollBarrier;
+
+        ParallelBackgroundCommandExecutionForTesting(final CommandStore store, final int threads) {
+            this.store = store;
+            configuration.add(THREADS_KEY, "" + threads);
+            configuration.add(BACKOFF_MILLIS_KEY, "50");
+        }
+
+        @Override
+        protected List<? extends Command> findBackgroundCommandsToExecute() {
+            final List<Command> commands = store.findNotYetStarted();
+            if(pollBarrier != null) {
+                await(pollBarrier);
+            }
+            return commands;
+        }
+
+        @Override
+        protected Command findBackgroundCommand(final UUID transactionId) {
+            return store.find(transactionId);
+        }
+
+        @Override
+        protected <T> T inSession(final AuthenticationSession authSession, final TransactionalClosureWithReturnAbstract<T> closure) {
+            return store.inTransaction(closure);
+        }
+
+        /**
+         * Records the execution; overridden to simulate the action or the transaction.
+         */
+        @Override
+        protected void executeClaimed(final AuthenticationSession authSession, final UUID transactionId) {
+            store.executions.get(transactionId).incrementAndGet();
+        }
+
+        @Override
+        protected AuthenticationSession getAuthenticationSession() {
+            return null;
+        }
+
+        @Override
+        protected IsisConfiguration getConfiguration() {
+            return configuration;
+        }
+    }
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void commandIsClaimedOnlyOnce_byConcurrentExecutors() throws Exception {
+        final CommandStore store = new CommandStore(20);
+        final CyclicBarrier pollBarrier = new CyclicBarrier(2);
+        final List<ParallelBackgroundCommandExecutionForTesting> executions = Lists.newArrayList();
+        final List<Future<Void>> futures = Lists.newArrayList();
+        for (int i = 0; i < 2; i++) {
+            final ParallelBackgroundCommandExecutionForTesting execution = new ParallelBackgroundCommandExecutionForTesting(store, 4);
+            // so that both executors see all of the commands as not yet started
+            execution.pollBarrier = pollBarrier;
+            executions.add(execution);
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    execution.doExecute(null);
+                    return null;
+                }
+            }));
+        }
+        for (final Future<Void> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        for (final Command command : store.commands.values()) {
+            assertThat(store.executionsOf(command.getTransactionId()), is(1));
+            assertThat(command.getStartedAt(), is(not(nullValue())));
+        }
+        assertThat(executions.get(0).getClaimedCount() + executions.get(1).getClaimedCount(), is(20L));
+        assertThat(executions.get(0).getLostClaimCount() + executions.get(1).getLostClaimCount(), is(20L));
+        assertThat(executions.get(0).getQueueDepth() + executions.get(1).getQueueDepth(), is(0L));
+    }
+
+    @Test
+    public void failedCommandIsRetried_withBackoff() throws Exception {
+        final CommandStore store = new CommandStore(1);
+        final List<Long> attemptedAt = Lists.newArrayList();
+        final ParallelBackgroundCommandExecutionForTesting execution = new ParallelBackgroundCommandExecutionForTesting(store, 4) {
+            @Override
+            protected void executeClaimed(final AuthenticationSession authSession, final UUID transactionId) {
+                attemptedAt.add(System.nanoTime());
+                if(attemptedAt.size() < 3) {
+                    throw new RuntimeException("commit failed");
+                }
+                super.executeClaimed(authSession, transactionId);
+            }
+        };
+
+        execution.doExecute(null);
+
+        final Command command = store.commands.values().iterator().next();
+        assertThat(store.executionsOf(command.getTransactionId()), is(1));
+        assertThat(command.getException(), is(nullValue()));
+        assertThat(execution.getRetryCount(), is(2L));
+        assertThat(execution.getCompletedCount(), is(1L));
+        assertThat(execution.getFailedCount(), is(0L));
+
+        // backoff of 50ms, then doubled
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attemptedAt.get(1) - attemptedAt.get(0)), is(IsisMatchers.greaterThan(49L)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attemptedAt.get(2) - attemptedAt.get(1)), is(IsisMatchers.greaterThan(99L)));
+    }
+
+    @Test
+    public void failureIsRecorded_whenAllAttemptsFail() throws Exception {
+        final CommandStore store = new CommandStore(1);
+        final AtomicInteger attempts = new AtomicInteger();
+        final ParallelBackgroundCommandExecutionForTesting execution = new ParallelBackgroundCommandExecutionForTesting(store, 4) {
+            @Override
+            protected void executeClaimed(final AuthenticationSession authSession, final UUID transactionId) {
+                attempts.incrementAndGet();
+                throw new RuntimeException("commit failed");
+            }
+        };
+
+        execution.doExecute(null);
+
+        final Command command = store.commands.values().iterator().next();
+        assertThat(attempts.get(), is(ParallelBackgroundCommandExecution.MAX_ATTEMPTS_DEFAULT));
+        assertThat(command.getException(), containsString("commit failed"));
+        assertThat(command.getCompletedAt(), is(not(nullValue())));
+        assertThat(execution.getFailedCount(), is(1L));
+        assertThat(execution.getCompletedCount(), is(0L));
+    }
+
+    @Test
+    public void threadCountIsHonoured() throws Exception {
+        final CommandStore store = new CommandStore(9);
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final Set<Thread> threads = Sets.newConcurrentHashSet();
+        final ParallelBackgroundCommandExecutionForTesting execution = new ParallelBackgroundCommandExecutionForTesting(store, 3) {
+            @Override
+            protected void executeClaimed(final AuthenticationSession authSession, final UUID transactionId) {
+                threads.add(Thread.currentThread());
+                final int now = concurrent.incrementAndGet();
+                synchronized (maxConcurrent) {
+                    maxConcurrent.set(Math.max(maxConcurrent.get(), now));
+                }
+                try {
+                    Thread.sleep(100);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    concurrent.decrementAndGet();
+                }
+                super.executeClaimed(authSession, transactionId);
+            }
+        };
+
+        execution.doExecute(null);
+
+        assertThat(maxConcurrent.get(), is(3));
+        assertThat(threads.size(), is(3));
+        assertThat(execution.getCompletedCount(), is(9L));
+    }
+
+    private static void await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (final Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+}
@@ -21,6 +21,10 @@
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import org.joda.time.LocalDate;
 import org.junit.Before;
@@ -41,6 +45,65 @@ public void setUp() throws Exception {
     
     @Test
     public void roundtrip() {
+        assertRoundtrips(mementoService);
+    }
+
+    @Test
+    public void roundtrip_binary() {
+        final String str = assertRoundtrips(mementoService.withFormat(MementoServiceDefault.Format.BINARY));
+        assertThat(str.startsWith(MementoBinary.PREFIX_BINARY), is(true));
+    }
+
+    @Test
+    public void roundtrip_binaryDeflated() {
+        final String str = assertRoundtrips(mementoService.withFormat(MementoServiceDefault.Format.BINARY_DEFLATED));
+        assertThat(str.startsWith(MementoBinary.PREFIX_BINARY_DEFLATED), is(true));
+    }
+
+    @Test
+    public void roundtrip_binary_largeValue() {
+        mementoService.withFormat(MementoServiceDefault.Format.BINARY_DEFLATED);
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            buf.append((char)('a' + i % 26));
+        }
+        final String largeValue = buf.toString();
+        
+        final String str = mementoService.create().set("someLargeString", largeValue).asString();
+
+        assertThat(mementoService.parse(str).get("someLargeString", String.class), is(largeValue));
+    }
+
+    @Test
+    public void whenBinaryFormat_canStillParseXml() {
+        final Memento memento = mementoService.create().set("someString", "a string");
+        final String xmlStr = memento.asString();
+        
+        mementoService.withFormat(MementoServiceDefault.Format.BINARY);
+        final Memento memento2 = mementoService.parse(xmlStr);
+
+        assertThat(memento2.get("someString", String.class), is("a string"));
+    }
+
+    @Test
+    public void keySet_binary() {
+        mementoService.withFormat(MementoServiceDefault.Format.BINARY);
+        final Memento memento = mementoService.create().set("b", 1).set("a", null);
+
+        final Memento memento2 = mementoService.parse(memento.asString());
+
+        assertThat(memento2.keySet(), is((Set<String>)Sets.newLinkedHashSet(Arrays.asList("b", "a"))));
+    }
+
+    @Test
+    public void formatParse() {
+        assertThat(MementoServiceDefault.Format.parse("binary_deflated"), is(MementoServiceDefault.Format.BINARY_DEFLATED));
+        assertThat(MementoServiceDefault.Format.parse(" Binary "), is(MementoServiceDefault.Format.BINARY));
+        assertThat(MementoServiceDefault.Format.parse("rubbish"), is(MementoServiceDefault.Format.XML));
+        assertThat(MementoServiceDefault.Format.parse(null), is(MementoServiceDefault.Format.XML));
+    }
+
+    private static String assertRoundtrips(final MementoServiceDefault mementoService) {
         final Memento memento = mementoService.create();
         
         memento.set("someString", "a string");
@@ -81,5 +144,7 @@ public void roundtrip() {
         assertThat(memento2.get("someNullValue", Integer.class), is(nullValue()));
         assertThat(memento2.get("someNullValue", Bookmark.class), is(nullValue()));
         assertThat(memento2.get("someNullValue", LocalDate.class), is(nullValue()));
+        
+        return str;
     }
 }
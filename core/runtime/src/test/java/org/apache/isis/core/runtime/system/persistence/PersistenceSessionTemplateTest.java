@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.system.persistence;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.oid.RootOidDefault;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+
+public class PersistenceSessionTemplateTest {
+
+    public static class CustomerRepository {
+    }
+
+    public static class OrderRepository {
+    }
+
+    private Object customerRepository;
+    private Object orderRepository;
+    private List<Object> registeredServices;
+    private List<PersistenceSessionTemplate.ServiceOid> serviceOids;
+
+    @Before
+    public void setUp() throws Exception {
+        customerRepository = new CustomerRepository();
+        orderRepository = new OrderRepository();
+        registeredServices = Lists.newArrayList(customerRepository, orderRepository);
+        serviceOids = Lists.newArrayList(
+                new PersistenceSessionTemplate.ServiceOid(customerRepository, null, RootOidDefault.create(ObjectSpecId.of("CUS"), "1")),
+                new PersistenceSessionTemplate.ServiceOid(orderRepository, null, RootOidDefault.create(ObjectSpecId.of("ORD"), "1")));
+    }
+
+    @Test
+    public void whenDisabled_neverCaches() throws Exception {
+        final PersistenceSessionTemplate template = new PersistenceSessionTemplate(false);
+        template.cacheServiceOids(serviceOids);
+        assertThat(template.getServiceOids(registeredServices), is(nullValue()));
+    }
+
+    @Test
+    public void whenEnabled_cachesOnceProvided() throws Exception {
+        final PersistenceSessionTemplate template = new PersistenceSessionTemplate(true);
+        assertThat(template.getServiceOids(registeredServices), is(nullValue()));
+
+        template.cacheServiceOids(serviceOids);
+
+        final List<PersistenceSessionTemplate.ServiceOid> cached = template.getServiceOids(registeredServices);
+        assertThat(cached.size(), is(2));
+        assertThat(cached.get(0).getRootOid().getObjectSpecId(), is(ObjectSpecId.of("CUS")));
+        assertThat(cached.get(1).getServicePojo(), is(orderRepository));
+    }
+
+    @Test
+    public void whenEnabled_ignoresCacheIfServicesDiffer() throws Exception {
+        final PersistenceSessionTemplate template = new PersistenceSessionTemplate(true);
+        template.cacheServiceOids(serviceOids);
+
+        assertThat(template.getServiceOids(Collections.<Object>singletonList(customerRepository)), is(nullValue()));
+        assertThat(template.getServiceOids(Lists.<Object>newArrayList(customerRepository, new OrderRepository())), is(nullValue()));
+    }
+
+    @Test
+    public void whenEnabled_reset() throws Exception {
+        final PersistenceSessionTemplate template = new PersistenceSessionTemplate(true);
+        template.cacheServiceOids(serviceOids);
+
+        template.resetServiceOids();
+
+        assertThat(template.getServiceOids(registeredServices), is(nullValue()));
+    }
+
+    @Test
+    public void timings() throws Exception {
+        final PersistenceSessionTemplate.Timings timings = new PersistenceSessionTemplate(false).getOpenTimings();
+        assertThat(timings.getMeanNanos(), is(0L));
+
+        timings.record(100L);
+        timings.record(300L);
+        timings.record(200L);
+
+        assertThat(timings.getCount(), is(3L));
+        assertThat(timings.getTotalNanos(), is(600L));
+        assertThat(timings.getMaxNanos(), is(300L));
+        assertThat(timings.getMeanNanos(), is(200L));
+    }
+
+}
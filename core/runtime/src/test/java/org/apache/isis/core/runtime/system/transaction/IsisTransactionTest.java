@@ -20,6 +20,9 @@
 package org.apache.isis.core.runtime.system.transaction;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
 
 import java.util.Collections;
 
@@ -199,6 +202,19 @@ public void abort_neverDelegatesToObjectStore() throws Exception {
         transaction.markAsAborted();
     }
 
+    @Test
+    public void changeCount_changesWhenCommandAdded_andIsNotReusedByAnotherTransaction() throws Exception {
+        final long changeCount = transaction.getChangeCount();
+
+        transaction.addCommand(createSaveCommand(persistentAdapter1, "command 1"));
+        final long changeCount2 = transaction.getChangeCount();
+        assertThat(changeCount2, is(not(changeCount)));
+
+        final IsisTransaction transaction2 = new IsisTransaction(mockTransactionManager, mockMessageBroker, mockUpdateNotifier, mockObjectStore, mockCommandContext, mockAuditingService3, mockPublishingService);
+        assertThat(transaction2.getChangeCount(), is(not(changeCount)));
+        assertThat(transaction2.getChangeCount(), is(not(changeCount2)));
+    }
+
 
     @Test
     public void commit_delegatesToObjectStoreToExecutesAllCommands() throws Exception {
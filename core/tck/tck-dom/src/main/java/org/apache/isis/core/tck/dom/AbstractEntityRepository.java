@@ -30,6 +30,7 @@
 import org.apache.isis.applib.annotation.ActionSemantics.Of;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryDefault;
+import org.apache.isis.applib.query.criteria.Criterion;
 
 public abstract class AbstractEntityRepository<T> extends AbstractFactoryAndRepository {
 
@@ -65,6 +66,21 @@ public T findByNamedQueryFirstOnly(String queryName, Map<String, Object> argumen
         return this.firstMatch(query);
     }
 
+    @Programmatic
+    public List<T> findByTitle(String title, long... range) {
+        return this.allMatches(entityClass, title, range);
+    }
+
+    @Programmatic
+    public List<T> findByPattern(T pattern, long... range) {
+        return this.allMatches(entityClass, pattern, range);
+    }
+
+    @Programmatic
+    public List<T> findByCriteria(Criterion criterion, long... range) {
+        return this.allMatches(entityClass, criterion, range);
+    }
+
     @Programmatic
     public List<T> findByNamedQueryAll(String queryName, Map<String, Object> argumentByParameterName) {
         final Query<T> query = new QueryDefault<T>(entityClass, queryName, argumentByParameterName); 
@@ -20,21 +20,34 @@
 package org.apache.isis.core.wrapper.internal;
 
 import java.lang.reflect.InvocationHandler;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
 
-import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
-import net.sf.cglib.proxy.MethodInterceptor;
 
 import org.apache.isis.applib.services.wrapper.WrapperObject;
 
 /**
  * Factory generating a mock for a class.
+ * 
  * <p>
- * Note that this class is stateful
+ * The proxy class for each class is generated once and cached; the
+ * {@link InvocationHandler handler} is bound to each proxy instance.
  */
 public class CgLibClassProxyFactory<T> implements IProxyFactory<T> {
 
+    /**
+     * Proxy classes, keyed by the class they proxy.
+     * 
+     * <p>
+     * Both keys and values are weakly referenced; a proxy class (and the
+     * class it proxies) references its class loader, so holding either strongly
+     * would prevent that class loader from being collected after a redeploy.
+     */
+    private static final ConcurrentMap<Class<?>, Class<?>> proxyClassByClass = new MapMaker().weakKeys().weakValues().makeMap();
+
     @Override
     @SuppressWarnings("unchecked")
     public T createProxy(final T toProxy, final InvocationHandler handler) {
@@ -46,17 +59,7 @@ public T createProxy(final T toProxy, final InvocationHandler handler) {
     @SuppressWarnings("unchecked")
     public T createProxy(final Class<T> toProxyClass, final InvocationHandler handler) {
 
-        final MethodInterceptor interceptor = new InvocationHandlerMethodInterceptor(handler);
-
-        // Create the proxy
-        final Enhancer enhancer = new Enhancer();
-        enhancer.setSuperclass(toProxyClass);
-        enhancer.setInterfaces(new Class[] { WrapperObject.class });
-        enhancer.setCallbackType(interceptor.getClass());
-
-        final Class<?> enhancedClass = enhancer.createClass();
-
-        Enhancer.registerCallbacks(enhancedClass, new Callback[] { interceptor });
+        final Class<?> enhancedClass = proxyClassFor(toProxyClass);
 
         Factory factory;
         try {
@@ -64,8 +67,26 @@ public T createProxy(final Class<T> toProxyClass, final InvocationHandler handle
         } catch (final InstantiationException e) {
             throw new RuntimeException("Fail to instantiate mock for " + toProxyClass + " on " + ClassInstantiatorFactoryCE.getJVM() + " JVM");
         }
+        factory.setCallback(0, new InvocationHandlerMethodInterceptor(handler));
 
         return (T) factory;
     }
 
+    private static Class<?> proxyClassFor(final Class<?> toProxyClass) {
+        final Class<?> proxyClass = proxyClassByClass.get(toProxyClass);
+        if (proxyClass != null) {
+            return proxyClass;
+        }
+
+        // Create the proxy class
+        final Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(toProxyClass);
+        enhancer.setInterfaces(new Class[] { WrapperObject.class });
+        enhancer.setCallbackType(InvocationHandlerMethodInterceptor.class);
+
+        final Class<?> enhancedClass = enhancer.createClass();
+        final Class<?> existing = proxyClassByClass.putIfAbsent(toProxyClass, enhancedClass);
+        return existing != null ? existing : enhancedClass;
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.wrapper.internal;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.wrapper.WrapperObject;
+
+public class CgLibClassProxyFactoryTest {
+
+    public static class Customer {
+        public String getName() {
+            return "not proxied";
+        }
+    }
+
+    private static InvocationHandler returning(final String name) {
+        return new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                return name;
+            }
+        };
+    }
+
+    private CgLibClassProxyFactory<Customer> proxyFactory;
+
+    @Before
+    public void setUp() throws Exception {
+        proxyFactory = new CgLibClassProxyFactory<Customer>();
+    }
+
+    @Test
+    public void proxyClassIsReused() throws Exception {
+        final Customer proxy1 = proxyFactory.createProxy(Customer.class, returning("Fred"));
+        final Customer proxy2 = new CgLibClassProxyFactory<Customer>().createProxy(Customer.class, returning("Joe"));
+
+        assertThat(proxy1.getClass() == proxy2.getClass(), is(true));
+        assertThat(proxy1, instanceOf(WrapperObject.class));
+    }
+
+    @Test
+    public void handlerIsBoundPerInstance() throws Exception {
+        // create both before either is used
+        final Customer proxy1 = proxyFactory.createProxy(Customer.class, returning("Fred"));
+        final Customer proxy2 = proxyFactory.createProxy(Customer.class, returning("Joe"));
+
+        assertThat(proxy2.getName(), is("Joe"));
+        assertThat(proxy1.getName(), is("Fred"));
+    }
+
+    @Test
+    public void proxyOfInstance() throws Exception {
+        final Customer customer = new Customer();
+        final Customer proxy = proxyFactory.createProxy(customer, returning("Fred"));
+
+        assertThat(proxy.getName(), is("Fred"));
+        assertThat(proxy.getClass().getSuperclass(), sameInstance((Object)Customer.class));
+    }
+
+}